@@ -0,0 +1,162 @@
+package com.reviewer.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.reviewer.model.FileChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 PR 데이터 생성
+ * 같은 크기면 항상 같은 데이터를 만들어 실행 간 결과를 비교할 수 있게 함
+ */
+public final class SyntheticPullRequest {
+    private static final String[] EXTENSIONS = {".java", ".kt", ".xml", ".gradle", ".md", ".ts", ".json", ".yml"};
+    private static final String[] DIRS = {
+            "src/main/java/com/example/service/", "src/main/java/com/example/web/", "src/test/java/com/example/",
+            "frontend/src/components/", "docs/", "build/generated/", "src/main/resources/db/"};
+    private static final String[] STATUSES = {"modified", "modified", "added", "removed", "renamed"};
+
+    // 파일당 patch 줄 수
+    private static final int PATCH_LINES = 40;
+
+    private SyntheticPullRequest() {
+        // Utility class
+    }
+
+    /**
+     * 파일 경로 목록 생성 (여러 확장자와 디렉터리가 섞임)
+     *
+     * @param count 파일 수
+     * @return 파일 경로 목록
+     */
+    public static List<String> filenames(int count) {
+        List<String> filenames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            filenames.add(DIRS[i % DIRS.length] + "module" + (i / 50) + "/File" + i + EXTENSIONS[i % EXTENSIONS.length]);
+        }
+        return filenames;
+    }
+
+    /**
+     * 변경 파일 목록 생성
+     *
+     * @param count 파일 수
+     * @return 변경 파일 목록
+     */
+    public static List<FileChange> fileChanges(int count) {
+        List<FileChange> changes = new ArrayList<>(count);
+        List<String> filenames = filenames(count);
+        for (int i = 0; i < count; i++) {
+            changes.add(new FileChange(filenames.get(i), patch(i), STATUSES[i % STATUSES.length]));
+        }
+        return changes;
+    }
+
+    /**
+     * unified diff hunk 하나 생성 (문맥, 삭제, 추가 줄과 JSON 이스케이프가 필요한 문자 포함)
+     *
+     * @param seed 파일 번호
+     * @return patch 문자열
+     */
+    public static String patch(int seed) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("@@ -").append(seed + 1).append(',').append(PATCH_LINES - 5)
+                .append(" +").append(seed + 1).append(',').append(PATCH_LINES).append(" @@ class File").append(seed).append('\n');
+        for (int line = 0; line < PATCH_LINES; line++) {
+            char prefix = line % 8 == 0 ? '-' : line % 3 == 0 ? '+' : ' ';
+            sb.append(prefix).append("    String value").append(line)
+                    .append(" = map.get(\"key-").append(seed).append("\");\t// \"quoted\" \\ 값 ").append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gitea/GitHub PR 파일 목록 API 형식의 JSON 배열 생성
+     *
+     * @param count 파일 수
+     * @return JSON 문자열
+     */
+    public static String filesJson(int count) {
+        JsonArray files = new JsonArray();
+        List<String> filenames = filenames(count);
+        for (int i = 0; i < count; i++) {
+            JsonObject file = new JsonObject();
+            file.addProperty("filename", filenames.get(i));
+            file.addProperty("status", STATUSES[i % STATUSES.length]);
+            file.addProperty("additions", PATCH_LINES / 3);
+            file.addProperty("deletions", PATCH_LINES / 8);
+            file.addProperty("changes", PATCH_LINES / 3 + PATCH_LINES / 8);
+            file.addProperty("html_url", "https://gitea.example.com/org/repo/src/commit/abc/" + filenames.get(i));
+            file.addProperty("contents_url", "https://gitea.example.com/api/v1/repos/org/repo/contents/" + filenames.get(i));
+            file.addProperty("patch", patch(i));
+            files.add(file);
+        }
+        return files.toString();
+    }
+
+    /**
+     * 구조화 리뷰(submit_review 도구 호출) Messages API 응답 생성
+     *
+     * @param findings 지적 사항 수
+     * @return 응답 본문 JSON 문자열
+     */
+    public static String findingsResponse(int findings) {
+        JsonArray items = new JsonArray();
+        List<String> filenames = filenames(findings);
+        for (int i = 0; i < findings; i++) {
+            JsonObject finding = new JsonObject();
+            finding.addProperty("file", filenames.get(i));
+            finding.addProperty("line", i % PATCH_LINES + 1);
+            finding.addProperty("severity", i % 4 == 0 ? "major" : "minor");
+            finding.addProperty("comment", "null 검사 없이 map.get 결과를 사용합니다. \"key-" + i + "\"가 없으면 NPE가 발생합니다.");
+            finding.addProperty("suggestion", "Objects.requireNonNullElse(map.get(key), \"\")를 사용하세요.");
+            items.add(finding);
+        }
+
+        JsonObject input = new JsonObject();
+        input.addProperty("summary", "전반적으로 좋지만 null 처리가 필요합니다.");
+        input.add("findings", items);
+        return message(toolUseBlock("submit_review", input));
+    }
+
+    /**
+     * 텍스트 응답 Messages API 본문 생성
+     *
+     * @param text 응답 텍스트
+     * @return 응답 본문 JSON 문자열
+     */
+    public static String textResponse(String text) {
+        JsonObject block = new JsonObject();
+        block.addProperty("type", "text");
+        block.addProperty("text", text);
+        return message(block);
+    }
+
+    private static JsonObject toolUseBlock(String name, JsonObject input) {
+        JsonObject block = new JsonObject();
+        block.addProperty("type", "tool_use");
+        block.addProperty("id", "toolu_bench");
+        block.addProperty("name", name);
+        block.add("input", input);
+        return block;
+    }
+
+    private static String message(JsonObject block) {
+        JsonArray content = new JsonArray();
+        content.add(block);
+        JsonObject usage = new JsonObject();
+        usage.addProperty("input_tokens", 1000);
+        usage.addProperty("output_tokens", 200);
+
+        JsonObject message = new JsonObject();
+        message.addProperty("id", "msg_bench");
+        message.addProperty("type", "message");
+        message.addProperty("role", "assistant");
+        message.add("content", content);
+        message.addProperty("stop_reason", "end_turn");
+        message.add("usage", usage);
+        return message.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reviewer.filter;
+
+import com.reviewer.bench.SyntheticPullRequest;
+import com.reviewer.model.FileChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 파일 필터 벤치마크
+ * 확장자 목록을 매번 훑는 기존 방식과 한 번 컴파일한 PathFilter 비교
+ */
+@State(Scope.Benchmark)
+public class PathFilterBenchmark {
+    private static final List<String> EXTENSIONS = List.of(".java", ".kt", ".xml", ".gradle");
+
+    @Param({"1000", "10000"})
+    public int files;
+
+    private List<String> filenames;
+    private PathFilter extensionFilter;
+    private PathFilter globFilter;
+
+    @Setup
+    public void setUp() {
+        filenames = SyntheticPullRequest.filenames(files);
+        extensionFilter = PathFilter.ofExtensions(EXTENSIONS);
+        globFilter = PathFilter.compile(EXTENSIONS, List.of("src/**"), List.of("**/generated/**", "src/test/**"), 0);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public int matchesExtensions() {
+        int matched = 0;
+        for (String filename : filenames) {
+            if (FileChange.matchesExtensions(filename, EXTENSIONS)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int pathFilterExtensions() {
+        int matched = 0;
+        for (String filename : filenames) {
+            if (extensionFilter.matchesPath(filename)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int pathFilterGlobs() {
+        int matched = 0;
+        for (String filename : filenames) {
+            if (globFilter.matchesPath(filename)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
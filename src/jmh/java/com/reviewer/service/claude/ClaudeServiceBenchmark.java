@@ -0,0 +1,157 @@
+package com.reviewer.service.claude;
+
+import com.reviewer.bench.SyntheticPullRequest;
+import com.reviewer.cache.NoOpReviewCache;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.StructuredReview;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * ClaudeService 벤치마크
+ * 네트워크 대신 고정 응답을 돌려주는 인터셉터를 사용해 프롬프트 포맷팅, 요청 JSON 생성, 응답 파싱만 측정
+ */
+@State(Scope.Benchmark)
+public class ClaudeServiceBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @Param({"10", "100", "1000"})
+    public int files;
+
+    private List<FileChange> changes;
+    private ClaudeService service;
+    private String findingsResponse;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        changes = SyntheticPullRequest.fileChanges(files);
+        findingsResponse = SyntheticPullRequest.findingsResponse(files);
+
+        ReviewConfig config = ReviewConfig.builder()
+                .anthropicApiKey("bench")
+                .anthropicBaseUrl("http://anthropic.invalid")
+                .maxInputTokens(Integer.MAX_VALUE / 2)
+                .build();
+        String textResponse = SyntheticPullRequest.textResponse("- Key Issues: none\n- Overall Opinion: LGTM");
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new CannedResponseInterceptor(textResponse))
+                .build();
+        service = new ClaudeService(config, new NoOpReviewCache(), client);
+
+        // 분할 리뷰 진행 로그가 측정 결과 출력을 덮지 않도록 숨김
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public String formatChanges() {
+        return service.formatChanges(changes);
+    }
+
+    /**
+     * 기존 방식의 요청 본문: 포맷팅한 문자열을 JsonObject에 넣고 직렬화한 뒤 바이트로 변환
+     */
+    @Benchmark
+    public long stringRequestBody() throws IOException {
+        JsonObject params = envelope();
+        JsonArray messages = new JsonArray();
+        JsonObject userMessage = new JsonObject();
+        userMessage.addProperty("role", "user");
+        userMessage.addProperty("content", "Please review the following changes:\n\n" + service.formatChanges(changes));
+        messages.add(userMessage);
+        params.add("messages", messages);
+        return drain(RequestBody.create(params.toString(), JSON));
+    }
+
+    /**
+     * patch를 sink에 바로 이스케이프해 쓰는 요청 본문 (chunked 전송 한 번, 길이는 쓰면서 셈)
+     */
+    @Benchmark
+    public long streamingRequestBody() throws IOException {
+        return drain(new MessageRequestBody(envelope(), "Please review the following changes:\n\n", changes, false));
+    }
+
+    private static JsonObject envelope() {
+        JsonObject params = new JsonObject();
+        params.addProperty("model", "claude-sonnet-4-5-20250929");
+        params.addProperty("max_tokens", 2000);
+        params.add("system", new JsonArray());
+        return params;
+    }
+
+    /**
+     * 소켓 대신 버리는 sink로 본문 전송 (OkHttp처럼 헤더용 길이를 먼저 물어봄)
+     */
+    private static long drain(RequestBody body) throws IOException {
+        body.contentLength();
+        try (BufferedSink sink = Okio.buffer(Okio.blackhole())) {
+            body.writeTo(sink);
+        }
+        return body.contentLength();
+    }
+
+    /**
+     * 묶음 배치, 요청 JSON 직렬화, 응답 파싱까지 reviewCode 전체 경로
+     */
+    @Benchmark
+    public String reviewCode() throws IOException {
+        return service.reviewCode(changes);
+    }
+
+    @Benchmark
+    public StructuredReview parseFindings() throws IOException {
+        return FindingsParser.parseMessage(new StringReader(findingsResponse), usage -> { });
+    }
+
+    /**
+     * 요청 본문을 버리는 sink에 끝까지 쓴 뒤 고정 응답 반환
+     */
+    private static final class CannedResponseInterceptor implements Interceptor {
+        private final String body;
+
+        private CannedResponseInterceptor(String body) {
+            this.body = body;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            drain(chain.request().body());
+
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(body, JSON))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.reviewer.service.git;
+
+import com.reviewer.bench.SyntheticPullRequest;
+import com.reviewer.filter.PathFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Gitea PR 파일 목록 JSON 파싱 벤치마크 (1k~10k 파일 합성 응답)
+ */
+@State(Scope.Benchmark)
+public class FileListParserBenchmark {
+
+    @Param({"1000", "5000", "10000"})
+    public int files;
+
+    private String payload;
+    private PathFilter extensionFilter;
+    private PathFilter acceptAll;
+
+    @Setup
+    public void setUp() {
+        payload = SyntheticPullRequest.filesJson(files);
+        extensionFilter = PathFilter.ofExtensions(List.of(".java", ".kt", ".xml", ".gradle"));
+        acceptAll = PathFilter.acceptAll();
+    }
+
+    /**
+     * 확장자 필터 적용 (맞지 않는 파일의 patch는 읽지 않고 건너뜀)
+     */
+    @Benchmark
+    public int parseFiltered(Blackhole blackhole) throws IOException {
+        return FileListParser.parse(new StringReader(payload), extensionFilter, blackhole::consume);
+    }
+
+    /**
+     * 모든 파일의 patch를 읽는 경우
+     */
+    @Benchmark
+    public int parseAll(Blackhole blackhole) throws IOException {
+        return FileListParser.parse(new StringReader(payload), acceptAll, blackhole::consume);
+    }
+}
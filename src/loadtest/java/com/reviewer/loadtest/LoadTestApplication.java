@@ -0,0 +1,244 @@
+package com.reviewer.loadtest;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.reviewer.batch.BatchResult;
+import com.reviewer.batch.BatchReviewRunner;
+import com.reviewer.config.BatchConfig;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.http.SharedHttpClient;
+import okhttp3.mockwebserver.MockWebServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 리뷰 파이프라인 부하 테스트
+ * Anthropic과 GitHub/Gitea를 MockWebServer로 대체하고, 배치 리뷰 실행기로 여러 PR을 동시에 리뷰해
+ * PR당 지연(p50/p90/p99), 처리량, 힙 할당량, GC 시간을 측정
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadArgs="--prs=100 --concurrency=8 --files=60 --rate-limit-ratio=0.1"
+ * </pre>
+ */
+public class LoadTestApplication {
+    private static final String REPO = "load/repo";
+
+    /**
+     * 기본 생성자
+     */
+    private LoadTestApplication() {
+        // Utility class
+    }
+
+    /**
+     * 메인 메서드
+     *
+     * @param args --name=value 형식 인자 ({@link LoadTestOptions})
+     * @throws Exception mock 서버 시작 또는 결과 저장 실패 시
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        PrintStream console = System.out;
+
+        MockAnthropicDispatcher anthropic = new MockAnthropicDispatcher(options);
+        MockGitPlatformDispatcher platform = new MockGitPlatformDispatcher(options);
+        try (MockWebServer anthropicServer = new MockWebServer(); MockWebServer gitServer = new MockWebServer()) {
+            anthropicServer.setDispatcher(anthropic);
+            gitServer.setDispatcher(platform);
+            anthropicServer.start();
+            gitServer.start();
+
+            ReviewConfig config = reviewConfig(options, baseUrl(anthropicServer), baseUrl(gitServer));
+            console.printf("🚀 부하 테스트: %s, PR %d개 (예열 %d개), 동시 %d, PR당 파일 %d개, 지연 %d±%dms, 429 비율 %.0f%%%n",
+                    options.platform(), options.prs(), options.warmupPrs(), options.concurrency(), options.files(),
+                    options.latencyMs(), options.jitterMs(), options.rateLimitRatio() * 100);
+
+            // 리뷰 진행 로그는 측정 결과만 보이도록 숨김
+            if (!options.verbose()) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8));
+            }
+            try {
+                if (options.warmupPrs() > 0) {
+                    runReviews(config, options, 1_000_000, options.warmupPrs());
+                }
+
+                long anthropicBefore = anthropic.getRequests();
+                long rateLimitedBefore = anthropic.getRateLimited();
+                long inputBefore = anthropic.getInputTokens();
+                long outputBefore = anthropic.getOutputTokens();
+                long gcCountBefore = gcCount();
+                long gcTimeBefore = gcTimeMillis();
+                long allocatedBefore = allocatedBytes();
+                long start = System.nanoTime();
+
+                List<BatchResult> results = runReviews(config, options, 1, options.prs());
+
+                long elapsedNanos = System.nanoTime() - start;
+                JsonObject report = report(options, results, elapsedNanos,
+                        allocatedBytes() - allocatedBefore,
+                        gcCount() - gcCountBefore,
+                        gcTimeMillis() - gcTimeBefore);
+                report.addProperty("anthropicRequests", anthropic.getRequests() - anthropicBefore);
+                report.addProperty("rateLimited", anthropic.getRateLimited() - rateLimitedBefore);
+                report.addProperty("inputTokens", anthropic.getInputTokens() - inputBefore);
+                report.addProperty("outputTokens", anthropic.getOutputTokens() - outputBefore);
+                report.addProperty("gitRequests", platform.getRequests());
+                report.addProperty("commentsPosted", platform.getComments());
+                report.addProperty("reviewsPosted", platform.getReviews());
+
+                printReport(console, report);
+                if (options.reportPath() != null) {
+                    Files.writeString(Path.of(options.reportPath()),
+                            new GsonBuilder().setPrettyPrinting().create().toJson(report), StandardCharsets.UTF_8);
+                    console.println("💾 결과 저장: " + options.reportPath());
+                }
+            } finally {
+                System.setOut(console);
+            }
+        }
+
+        // 공유 HTTP 클라이언트의 Dispatcher 스레드가 JVM 종료를 막지 않도록 정리
+        SharedHttpClient.get().dispatcher().executorService().shutdown();
+        SharedHttpClient.get().connectionPool().evictAll();
+    }
+
+    private static ReviewConfig reviewConfig(LoadTestOptions options, String anthropicUrl, String gitUrl) {
+        boolean gitea = "gitea".equals(options.platform());
+        return ReviewConfig.builder()
+                .githubToken("load-test")
+                .anthropicApiKey("load-test")
+                .anthropicBaseUrl(anthropicUrl)
+                .githubApiUrl(gitUrl)
+                .giteaUrl(gitea ? gitUrl : null)
+                .fileExtensions(List.of(".java"))
+                .maxConcurrency(options.chunkConcurrency())
+                .chunkMaxTokens(options.chunkMaxTokens())
+                .stream(options.stream())
+                .structuredOutput(options.structured())
+                .triageModel(options.triageModel())
+                .promptCaching(false)
+                .build();
+    }
+
+    /**
+     * PR 번호 firstPr부터 count개를 배치 리뷰 실행기로 리뷰
+     */
+    private static List<BatchResult> runReviews(ReviewConfig config, LoadTestOptions options, int firstPr, int count)
+            throws IOException {
+        List<String> targets = IntStream.range(firstPr, firstPr + count)
+                .mapToObj(number -> REPO + "#" + number)
+                .toList();
+        BatchConfig batchConfig = BatchConfig.builder()
+                .targets(targets)
+                .concurrency(options.concurrency())
+                .build();
+        return new BatchReviewRunner(config, batchConfig).run();
+    }
+
+    private static JsonObject report(LoadTestOptions options, List<BatchResult> results, long elapsedNanos,
+                                     long allocatedBytes, long gcCount, long gcTimeMillis) {
+        long[] latencies = results.stream()
+                .filter(BatchResult::isSuccess)
+                .mapToLong(BatchResult::getDurationMillis)
+                .sorted()
+                .toArray();
+        long failures = results.size() - latencies.length;
+        double seconds = elapsedNanos / 1e9;
+
+        JsonObject report = new JsonObject();
+        report.addProperty("platform", options.platform());
+        report.addProperty("prs", results.size());
+        report.addProperty("concurrency", options.concurrency());
+        report.addProperty("filesPerPr", options.files());
+        report.addProperty("failures", failures);
+        report.addProperty("elapsedSeconds", round(seconds));
+        report.addProperty("throughputPrsPerSecond", round(results.size() / seconds));
+        report.addProperty("latencyP50Millis", percentile(latencies, 50));
+        report.addProperty("latencyP90Millis", percentile(latencies, 90));
+        report.addProperty("latencyP99Millis", percentile(latencies, 99));
+        report.addProperty("latencyMaxMillis", latencies.length > 0 ? latencies[latencies.length - 1] : 0);
+        report.addProperty("allocatedBytes", allocatedBytes);
+        report.addProperty("allocatedBytesPerPr", results.isEmpty() ? 0 : allocatedBytes / results.size());
+        report.addProperty("gcCount", gcCount);
+        report.addProperty("gcTimeMillis", gcTimeMillis);
+
+        List<String> errors = new ArrayList<>();
+        results.stream().filter(result -> !result.isSuccess()).limit(5).forEach(result -> errors.add(result.toString()));
+        report.add("sampleErrors", new GsonBuilder().create().toJsonTree(errors));
+        return report;
+    }
+
+    private static void printReport(PrintStream out, JsonObject report) {
+        out.println("📊 부하 테스트 결과");
+        out.printf("   PR %d개 (실패 %d), %.2fs, 처리량 %.2f PR/s%n",
+                report.get("prs").getAsInt(), report.get("failures").getAsLong(),
+                report.get("elapsedSeconds").getAsDouble(), report.get("throughputPrsPerSecond").getAsDouble());
+        out.printf("   지연 p50 %dms, p90 %dms, p99 %dms, 최대 %dms%n",
+                report.get("latencyP50Millis").getAsLong(), report.get("latencyP90Millis").getAsLong(),
+                report.get("latencyP99Millis").getAsLong(), report.get("latencyMaxMillis").getAsLong());
+        out.printf("   Messages API 요청 %d회 (429 %d회), 입력 %d / 출력 %d 토큰%n",
+                report.get("anthropicRequests").getAsLong(), report.get("rateLimited").getAsLong(),
+                report.get("inputTokens").getAsLong(), report.get("outputTokens").getAsLong());
+        out.printf("   Git API 요청 %d회, 댓글 %d개, PR 리뷰 %d개%n",
+                report.get("gitRequests").getAsLong(), report.get("commentsPosted").getAsLong(),
+                report.get("reviewsPosted").getAsLong());
+        out.printf("   할당 %.1f MB (PR당 %.1f MB, mock 서버 포함), GC %d회 %dms%n",
+                report.get("allocatedBytes").getAsLong() / 1e6, report.get("allocatedBytesPerPr").getAsLong() / 1e6,
+                report.get("gcCount").getAsLong(), report.get("gcTimeMillis").getAsLong());
+        report.getAsJsonArray("sampleErrors").forEach(error -> out.println("   ❌ " + error.getAsString()));
+    }
+
+    /**
+     * nearest-rank 백분위수
+     */
+    static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * JVM 전체 누적 힙 할당량 (mock 서버 스레드 포함)
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcTimeMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+
+    private static String baseUrl(MockWebServer server) {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+}
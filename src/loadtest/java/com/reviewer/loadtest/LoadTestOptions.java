@@ -0,0 +1,93 @@
+package com.reviewer.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * 인자는 --name=value 형식 (예: --prs=100 --concurrency=8 --latency-ms=1500)
+ *
+ * @param platform mock할 Git 플랫폼 (github, gitea)
+ * @param prs 측정할 PR 수
+ * @param warmupPrs 측정 전에 리뷰할 PR 수 (JIT, 커넥션 풀 예열)
+ * @param concurrency 동시에 리뷰하는 PR 수
+ * @param chunkConcurrency PR 하나 안에서 동시에 보내는 분할 리뷰 요청 수
+ * @param files PR당 변경 파일 수
+ * @param linesPerFile 파일당 patch 줄 수
+ * @param latencyMs Messages API 기본 응답 지연
+ * @param jitterMs 기본 지연에 더할 최대 무작위 지연
+ * @param gitLatencyMs Git 플랫폼 API 응답 지연
+ * @param outputTokens 응답 하나의 출력 토큰 수
+ * @param rateLimitRatio 429로 응답할 비율 (0~1)
+ * @param retryAfterSeconds 429 응답의 retry-after 값
+ * @param stream SSE 스트리밍 응답 사용 여부
+ * @param structured 구조화 리뷰 사용 여부
+ * @param triageModel 1차 분류 모델 (null이면 사용하지 않음)
+ * @param chunkMaxTokens 분할 리뷰 요청 하나의 입력 토큰 한도
+ * @param reportPath JSON 결과 파일 경로 (null이면 콘솔에만 출력)
+ * @param verbose 리뷰 진행 로그 출력 여부
+ */
+public record LoadTestOptions(
+        String platform,
+        int prs,
+        int warmupPrs,
+        int concurrency,
+        int chunkConcurrency,
+        int files,
+        int linesPerFile,
+        long latencyMs,
+        long jitterMs,
+        long gitLatencyMs,
+        int outputTokens,
+        double rateLimitRatio,
+        int retryAfterSeconds,
+        boolean stream,
+        boolean structured,
+        String triageModel,
+        int chunkMaxTokens,
+        String reportPath,
+        boolean verbose) {
+
+    /**
+     * 명령행 인자 파싱 (지정하지 않은 값은 기본값)
+     *
+     * @param args --name=value 형식 인자
+     * @return 부하 테스트 설정
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("인자는 --name=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("platform", "gitea"),
+                Integer.parseInt(values.getOrDefault("prs", "50")),
+                Integer.parseInt(values.getOrDefault("warmup-prs", "5")),
+                Integer.parseInt(values.getOrDefault("concurrency", "4")),
+                Integer.parseInt(values.getOrDefault("chunk-concurrency", "4")),
+                Integer.parseInt(values.getOrDefault("files", "30")),
+                Integer.parseInt(values.getOrDefault("lines", "40")),
+                Long.parseLong(values.getOrDefault("latency-ms", "800")),
+                Long.parseLong(values.getOrDefault("jitter-ms", "400")),
+                Long.parseLong(values.getOrDefault("git-latency-ms", "30")),
+                Integer.parseInt(values.getOrDefault("output-tokens", "600")),
+                Double.parseDouble(values.getOrDefault("rate-limit-ratio", "0.05")),
+                Integer.parseInt(values.getOrDefault("retry-after", "1")),
+                Boolean.parseBoolean(values.getOrDefault("stream", "false")),
+                Boolean.parseBoolean(values.getOrDefault("structured", "false")),
+                values.get("triage-model"),
+                Integer.parseInt(values.getOrDefault("chunk-max-tokens", "30000")),
+                values.get("report"),
+                Boolean.parseBoolean(values.getOrDefault("verbose", "false")));
+
+        if (!"github".equals(options.platform()) && !"gitea".equals(options.platform())) {
+            throw new IllegalArgumentException("platform은 github 또는 gitea여야 합니다: " + options.platform());
+        }
+        return options;
+    }
+}
@@ -0,0 +1,284 @@
+package com.reviewer.loadtest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Anthropic Messages API mock
+ * 설정한 지연, 429 비율, SSE 스트리밍, 토큰 사용량으로 응답하고 처리 통계를 기록
+ * tool_choice가 있으면 해당 도구(submit_review, submit_triage) 호출로 응답
+ */
+public class MockAnthropicDispatcher extends Dispatcher {
+    // 프롬프트의 파일 헤더 ("파일: {경로} ({상태})")
+    private static final Pattern FILE_HEADER = Pattern.compile("(?m)^파일: (.+) \\([^)]*\\)$");
+    private static final int CHARS_PER_TOKEN = 4;
+
+    // 스트리밍 응답을 나누어 보낼 조각 수
+    private static final int STREAM_CHUNKS = 20;
+
+    private final LoadTestOptions options;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong inputTokens = new AtomicLong();
+    private final AtomicLong outputTokens = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param options 부하 테스트 설정
+     */
+    public MockAnthropicDispatcher(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        if (!"POST".equals(request.getMethod()) || !request.getPath().startsWith("/v1/messages")) {
+            return new MockResponse().setResponseCode(404);
+        }
+        requests.incrementAndGet();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < options.rateLimitRatio()) {
+            rateLimited.incrementAndGet();
+            return new MockResponse()
+                    .setResponseCode(429)
+                    .addHeader("retry-after", options.retryAfterSeconds())
+                    .addHeader("content-type", "application/json")
+                    .setBody("{\"type\":\"error\",\"error\":{\"type\":\"rate_limit_error\",\"message\":\"mock\"}}");
+        }
+
+        JsonObject params = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject();
+        long input = request.getBodySize() / CHARS_PER_TOKEN;
+        inputTokens.addAndGet(input);
+        outputTokens.addAndGet(options.outputTokens());
+
+        JsonObject content = buildContent(params);
+        long latency = options.latencyMs() + (options.jitterMs() > 0 ? random.nextLong(options.jitterMs() + 1) : 0);
+        boolean stream = params.has("stream") && params.get("stream").getAsBoolean();
+        return stream ? streamResponse(content, input, latency) : messageResponse(content, input, latency);
+    }
+
+    /**
+     * 요청에 맞는 content 블록 생성 (도구 지정 시 tool_use, 아니면 text)
+     */
+    private JsonObject buildContent(JsonObject params) {
+        JsonObject block = new JsonObject();
+        if (!params.has("tool_choice")) {
+            block.addProperty("type", "text");
+            block.addProperty("text", reviewText());
+            return block;
+        }
+
+        String toolName = params.getAsJsonObject("tool_choice").get("name").getAsString();
+        List<String> files = filenames(params);
+        block.addProperty("type", "tool_use");
+        block.addProperty("id", "toolu_mock");
+        block.addProperty("name", toolName);
+        block.add("input", "submit_triage".equals(toolName) ? triageInput(files) : reviewInput(files));
+        return block;
+    }
+
+    /**
+     * 출력 토큰 수만큼의 리뷰 텍스트
+     */
+    private String reviewText() {
+        String line = "- 주요 이슈: 입력 값 검증이 없어 예외가 발생할 수 있습니다.\n";
+        int repeat = Math.max(1, options.outputTokens() * CHARS_PER_TOKEN / line.length());
+        return line.repeat(repeat);
+    }
+
+    private static List<String> filenames(JsonObject params) {
+        String userContent = params.getAsJsonArray("messages").get(0).getAsJsonObject().get("content").getAsString();
+        List<String> files = new ArrayList<>();
+        Matcher matcher = FILE_HEADER.matcher(userContent);
+        while (matcher.find()) {
+            files.add(matcher.group(1));
+        }
+        return files;
+    }
+
+    /**
+     * 파일 경로 해시로 정한 결정적 위험도 (실행마다 같은 파일이 같은 결과)
+     */
+    private static JsonObject triageInput(List<String> files) {
+        JsonArray items = new JsonArray();
+        for (String file : files) {
+            JsonObject item = new JsonObject();
+            item.addProperty("file", file);
+            item.addProperty("risk", Math.floorMod(file.hashCode(), 100) / 100.0);
+            item.addProperty("reason", "mock");
+            items.add(item);
+        }
+        JsonObject input = new JsonObject();
+        input.add("files", items);
+        return input;
+    }
+
+    private static JsonObject reviewInput(List<String> files) {
+        JsonArray findings = new JsonArray();
+        for (int i = 0; i < files.size(); i += 3) {
+            JsonObject finding = new JsonObject();
+            finding.addProperty("file", files.get(i));
+            finding.addProperty("line", 2);
+            finding.addProperty("severity", i % 2 == 0 ? "major" : "minor");
+            finding.addProperty("comment", "입력 값 검증이 없어 예외가 발생할 수 있습니다.");
+            finding.addProperty("suggestion", "null 검사를 추가하세요.");
+            findings.add(finding);
+        }
+        JsonObject input = new JsonObject();
+        input.addProperty("summary", "전반적으로 좋습니다.");
+        input.add("findings", findings);
+        return input;
+    }
+
+    private MockResponse messageResponse(JsonObject content, long input, long latency) {
+        JsonArray blocks = new JsonArray();
+        blocks.add(content);
+        JsonObject message = new JsonObject();
+        message.addProperty("id", "msg_mock");
+        message.addProperty("type", "message");
+        message.addProperty("role", "assistant");
+        message.add("content", blocks);
+        message.addProperty("stop_reason", "tool_use".equals(content.get("type").getAsString()) ? "tool_use" : "end_turn");
+        message.add("usage", usage(input, options.outputTokens()));
+
+        return new MockResponse()
+                .addHeader("content-type", "application/json")
+                .setHeadersDelay(latency, TimeUnit.MILLISECONDS)
+                .setBody(message.toString());
+    }
+
+    /**
+     * SSE 응답 (첫 이벤트까지 지연의 20%, 나머지는 본문을 나누어 흘려보냄)
+     */
+    private MockResponse streamResponse(JsonObject content, long input, long latency) {
+        boolean tool = "tool_use".equals(content.get("type").getAsString());
+        StringBuilder sse = new StringBuilder();
+
+        JsonObject message = new JsonObject();
+        message.addProperty("id", "msg_mock");
+        message.addProperty("type", "message");
+        message.addProperty("role", "assistant");
+        message.add("content", new JsonArray());
+        message.add("usage", usage(input, 1));
+        JsonObject start = new JsonObject();
+        start.addProperty("type", "message_start");
+        start.add("message", message);
+        event(sse, "message_start", start);
+
+        JsonObject blockStart = new JsonObject();
+        blockStart.addProperty("type", "content_block_start");
+        blockStart.addProperty("index", 0);
+        JsonObject emptyBlock = content.deepCopy();
+        if (tool) {
+            emptyBlock.add("input", new JsonObject());
+        } else {
+            emptyBlock.addProperty("text", "");
+        }
+        blockStart.add("content_block", emptyBlock);
+        event(sse, "content_block_start", blockStart);
+
+        String payload = tool ? content.get("input").toString() : content.get("text").getAsString();
+        int step = Math.max(1, payload.length() / STREAM_CHUNKS);
+        for (int from = 0; from < payload.length(); from += step) {
+            String part = payload.substring(from, Math.min(payload.length(), from + step));
+            JsonObject delta = new JsonObject();
+            delta.addProperty("type", tool ? "input_json_delta" : "text_delta");
+            delta.addProperty(tool ? "partial_json" : "text", part);
+            JsonObject deltaEvent = new JsonObject();
+            deltaEvent.addProperty("type", "content_block_delta");
+            deltaEvent.addProperty("index", 0);
+            deltaEvent.add("delta", delta);
+            event(sse, "content_block_delta", deltaEvent);
+        }
+
+        JsonObject blockStop = new JsonObject();
+        blockStop.addProperty("type", "content_block_stop");
+        blockStop.addProperty("index", 0);
+        event(sse, "content_block_stop", blockStop);
+
+        JsonObject stopDelta = new JsonObject();
+        stopDelta.addProperty("stop_reason", tool ? "tool_use" : "end_turn");
+        JsonObject messageDelta = new JsonObject();
+        messageDelta.addProperty("type", "message_delta");
+        messageDelta.add("delta", stopDelta);
+        messageDelta.add("usage", usage(0, options.outputTokens()));
+        event(sse, "message_delta", messageDelta);
+
+        JsonObject stop = new JsonObject();
+        stop.addProperty("type", "message_stop");
+        event(sse, "message_stop", stop);
+
+        long firstByte = latency / 5;
+        long bytesPerChunk = Math.max(1, sse.length() / STREAM_CHUNKS);
+        long chunkDelay = Math.max(1, (latency - firstByte) / STREAM_CHUNKS);
+        return new MockResponse()
+                .addHeader("content-type", "text/event-stream")
+                .setHeadersDelay(firstByte, TimeUnit.MILLISECONDS)
+                .throttleBody(bytesPerChunk, chunkDelay, TimeUnit.MILLISECONDS)
+                .setBody(sse.toString());
+    }
+
+    private static void event(StringBuilder sse, String name, JsonObject data) {
+        sse.append("event: ").append(name).append('\n')
+                .append("data: ").append(data).append("\n\n");
+    }
+
+    private static JsonObject usage(long input, long output) {
+        JsonObject usage = new JsonObject();
+        usage.addProperty("input_tokens", input);
+        usage.addProperty("output_tokens", output);
+        usage.addProperty("cache_creation_input_tokens", 0);
+        usage.addProperty("cache_read_input_tokens", 0);
+        return usage;
+    }
+
+    /**
+     * 받은 요청 수 (429 포함)
+     *
+     * @return 요청 수
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * 429로 응답한 요청 수
+     *
+     * @return 429 응답 수
+     */
+    public long getRateLimited() {
+        return rateLimited.get();
+    }
+
+    /**
+     * 요청 본문 크기로 추정한 누적 입력 토큰 수
+     *
+     * @return 입력 토큰 수
+     */
+    public long getInputTokens() {
+        return inputTokens.get();
+    }
+
+    /**
+     * 누적 출력 토큰 수
+     *
+     * @return 출력 토큰 수
+     */
+    public long getOutputTokens() {
+        return outputTokens.get();
+    }
+}
@@ -0,0 +1,224 @@
+package com.reviewer.loadtest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub/Gitea PR API mock
+ * 저장소, PR, 파일 목록(페이지), 댓글, 리뷰 엔드포인트를 제공하고 게시된 댓글 수를 기록
+ * 모든 PR은 같은 합성 파일 목록을 가지며 head SHA만 PR 번호로 구분
+ */
+public class MockGitPlatformDispatcher extends Dispatcher {
+    private static final Pattern REPO = Pattern.compile("^/repos/([^/]+)/([^/]+)$");
+    private static final Pattern PULL = Pattern.compile("^/repos/([^/]+)/([^/]+)/pulls/(\\d+)$");
+    private static final Pattern FILES = Pattern.compile("^/repos/[^/]+/[^/]+/pulls/\\d+/files$");
+    private static final Pattern ISSUE_COMMENTS = Pattern.compile("^/repos/[^/]+/[^/]+/issues/\\d+/comments$");
+    private static final Pattern COMMENT = Pattern.compile("^/repos/[^/]+/[^/]+/issues/comments/\\d+$");
+    private static final Pattern REVIEWS = Pattern.compile("^/repos/[^/]+/[^/]+/pulls/\\d+/reviews$");
+    private static final String TIMESTAMP = "2024-01-01T00:00:00Z";
+
+    private final LoadTestOptions options;
+    private final boolean gitea;
+    private final String[] files;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong comments = new AtomicLong();
+    private final AtomicLong reviews = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param options 부하 테스트 설정
+     */
+    public MockGitPlatformDispatcher(LoadTestOptions options) {
+        this.options = options;
+        this.gitea = "gitea".equals(options.platform());
+        this.files = new String[options.files()];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = fileJson(i);
+        }
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        requests.incrementAndGet();
+        if (options.gitLatencyMs() > 0) {
+            TimeUnit.MILLISECONDS.sleep(options.gitLatencyMs());
+        }
+
+        HttpUrl url = request.getRequestUrl();
+        String path = url.encodedPath();
+        if (gitea) {
+            if (!path.startsWith("/api/v1/")) {
+                return new MockResponse().setResponseCode(404);
+            }
+            path = path.substring("/api/v1".length());
+        }
+        String method = request.getMethod();
+
+        Matcher matcher;
+        if ("GET".equals(method) && (matcher = REPO.matcher(path)).matches()) {
+            return json(repositoryJson(matcher.group(1), matcher.group(2)).toString());
+        }
+        if ("GET".equals(method) && (matcher = PULL.matcher(path)).matches()) {
+            return json(pullJson(matcher.group(1), matcher.group(2), Integer.parseInt(matcher.group(3))).toString());
+        }
+        if ("GET".equals(method) && FILES.matcher(path).matches()) {
+            return filesPage(url);
+        }
+        if ("GET".equals(method) && (ISSUE_COMMENTS.matcher(path).matches() || REVIEWS.matcher(path).matches())) {
+            return json("[]");
+        }
+        if ("POST".equals(method) && ISSUE_COMMENTS.matcher(path).matches()) {
+            comments.incrementAndGet();
+            return json(commentJson().toString()).setResponseCode(201);
+        }
+        if ("PATCH".equals(method) && COMMENT.matcher(path).matches()) {
+            comments.incrementAndGet();
+            return json(commentJson().toString());
+        }
+        if ("POST".equals(method) && REVIEWS.matcher(path).matches()) {
+            reviews.incrementAndGet();
+            return json("{\"id\": 1, \"state\": \"COMMENTED\"}");
+        }
+        return new MockResponse().setResponseCode(404);
+    }
+
+    /**
+     * 파일 목록 한 페이지 (GitHub는 per_page, Gitea는 limit 파라미터와 X-Total-Count 헤더)
+     */
+    private MockResponse filesPage(HttpUrl url) {
+        String pageParam = url.queryParameter("page");
+        String sizeParam = url.queryParameter(gitea ? "limit" : "per_page");
+        int page = pageParam != null ? Integer.parseInt(pageParam) : 1;
+        int size = sizeParam != null ? Integer.parseInt(sizeParam) : 30;
+
+        StringBuilder body = new StringBuilder("[");
+        int from = Math.min(files.length, (page - 1) * size);
+        int to = Math.min(files.length, from + size);
+        for (int i = from; i < to; i++) {
+            body.append(i == from ? "" : ",").append(files[i]);
+        }
+        body.append(']');
+
+        MockResponse response = json(body.toString());
+        if (gitea) {
+            response.addHeader("X-Total-Count", files.length);
+        }
+        return response;
+    }
+
+    private String fileJson(int index) {
+        StringBuilder patch = new StringBuilder();
+        patch.append("@@ -1,").append(options.linesPerFile()).append(" +1,").append(options.linesPerFile())
+                .append(" @@ class Service").append(index).append('\n');
+        for (int line = 0; line < options.linesPerFile(); line++) {
+            char prefix = line % 4 == 1 ? '+' : ' ';
+            patch.append(prefix).append("        String value").append(line)
+                    .append(" = repository.find(\"key-").append(index).append("\").orElseThrow();\n");
+        }
+
+        JsonObject file = new JsonObject();
+        file.addProperty("filename", "src/main/java/com/example/module" + index / 20 + "/Service" + index + ".java");
+        file.addProperty("status", index % 5 == 0 ? "added" : "modified");
+        file.addProperty("additions", options.linesPerFile() / 4);
+        file.addProperty("deletions", 0);
+        file.addProperty("changes", options.linesPerFile() / 4);
+        file.addProperty("patch", patch.toString());
+        return file.toString();
+    }
+
+    private JsonObject repositoryJson(String owner, String name) {
+        JsonObject ownerJson = new JsonObject();
+        ownerJson.addProperty("login", owner);
+        ownerJson.addProperty("id", 1);
+        ownerJson.addProperty("type", "Organization");
+
+        JsonObject repository = new JsonObject();
+        repository.addProperty("id", 1);
+        repository.addProperty("name", name);
+        repository.addProperty("full_name", owner + "/" + name);
+        repository.add("owner", ownerJson);
+        repository.addProperty("default_branch", "main");
+        return repository;
+    }
+
+    private JsonObject pullJson(String owner, String name, int number) {
+        JsonObject head = new JsonObject();
+        head.addProperty("sha", String.format("%040x", number));
+        head.addProperty("ref", "feature-" + number);
+        JsonObject base = new JsonObject();
+        base.addProperty("sha", String.format("%040x", 0));
+        base.addProperty("ref", "main");
+
+        JsonObject pull = new JsonObject();
+        pull.addProperty("id", number);
+        pull.addProperty("number", number);
+        pull.addProperty("state", "open");
+        pull.addProperty("title", "Load test PR " + number);
+        pull.addProperty("draft", false);
+        pull.add("head", head);
+        pull.add("base", base);
+        pull.add("labels", new JsonArray());
+        pull.addProperty("changed_files", files.length);
+        // github-api가 PR 상세를 다시 조회하지 않도록 상세 응답 필드 포함
+        pull.addProperty("mergeable_state", "clean");
+        pull.addProperty("url", "/repos/" + owner + "/" + name + "/pulls/" + number);
+        return pull;
+    }
+
+    private static JsonObject commentJson() {
+        JsonObject user = new JsonObject();
+        user.addProperty("login", "claude-reviewer");
+        user.addProperty("id", 1);
+
+        JsonObject comment = new JsonObject();
+        comment.addProperty("id", 1);
+        comment.addProperty("body", "");
+        comment.add("user", user);
+        comment.addProperty("created_at", TIMESTAMP);
+        comment.addProperty("updated_at", TIMESTAMP);
+        return comment;
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .addHeader("content-type", "application/json")
+                .setBody(body);
+    }
+
+    /**
+     * 받은 요청 수
+     *
+     * @return 요청 수
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * 작성하거나 수정된 댓글 수
+     *
+     * @return 댓글 수
+     */
+    public long getComments() {
+        return comments.get();
+    }
+
+    /**
+     * 작성된 PR 리뷰 수
+     *
+     * @return 리뷰 수
+     */
+    public long getReviews() {
+        return reviews.get();
+    }
+}
@@ -0,0 +1,63 @@
+package com.reviewer;
+
+import com.google.gson.GsonBuilder;
+import com.reviewer.batch.BatchResult;
+import com.reviewer.batch.BatchReviewRunner;
+import com.reviewer.config.BatchConfig;
+import com.reviewer.config.ReviewConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 배치 리뷰 진입점 (여러 저장소/PR을 한 프로세스에서 리뷰)
+ *
+ * 실행 예시:
+ * <pre>{@code
+ * BATCH_TARGETS="owner/repo#12,owner/other" BATCH_LABEL="ai-review" \
+ *     java -cp claude-reviewer-all.jar com.reviewer.BatchReviewApplication
+ * }</pre>
+ */
+public class BatchReviewApplication {
+    /**
+     * 기본 생성자
+     */
+    private BatchReviewApplication() {
+        // Utility class
+    }
+
+    /**
+     * 메인 메서드
+     *
+     * @param args 명령줄 인수
+     */
+    public static void main(String[] args) {
+        try {
+            // 1. 설정 로드
+            ReviewConfig config = ReviewConfig.fromEnvironmentForBatch();
+            BatchConfig batchConfig = BatchConfig.fromEnvironment();
+
+            // 2. 배치 리뷰 실행
+            List<BatchResult> results = new BatchReviewRunner(config, batchConfig).run();
+
+            // 3. 결과 요약
+            System.out.println("\n📊 배치 리뷰 결과");
+            results.forEach(result -> System.out.println("  " + result));
+
+            if (batchConfig.getSummaryPath() != null) {
+                String json = new GsonBuilder().setPrettyPrinting().create().toJson(results);
+                Files.writeString(Path.of(batchConfig.getSummaryPath()), json, StandardCharsets.UTF_8);
+            }
+
+            if (results.stream().anyMatch(result -> !result.isSuccess())) {
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            System.err.println("❌ 에러 발생: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.reviewer;
 
 import com.reviewer.config.ReviewConfig;
 import com.reviewer.di.ServiceFactory;
+import com.reviewer.http.SharedHttpClient;
+import com.reviewer.metrics.ReviewMetrics;
+import com.reviewer.metrics.SummaryReviewMetrics;
 import com.reviewer.model.FileChange;
 import com.reviewer.service.claude.ClaudeService;
 import com.reviewer.service.git.GitService;
@@ -9,6 +12,10 @@ import com.reviewer.service.ReviewService;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
 
 /**
  * Claude PR Reviewer의 메인 API 클래스
@@ -40,12 +47,16 @@ public class ClaudeReviewer {
     private final GitService gitService;
     private final ClaudeService claudeService;
     private final ReviewService reviewService;
+    private final SummaryReviewMetrics metrics;
+    private final String metricsPath;
 
-    private ClaudeReviewer(ReviewConfig config) throws IOException {
-        ServiceFactory factory = new ServiceFactory(config);
+    private ClaudeReviewer(ReviewConfig config, ReviewMetrics metrics) throws IOException {
+        ServiceFactory factory = new ServiceFactory(config, SharedHttpClient.get(), null, metrics);
         this.gitService = factory.createGitService();
         this.claudeService = factory.createClaudeService();
         this.reviewService = factory.createReviewService();
+        this.metrics = factory.createMetrics();
+        this.metricsPath = config.getMetricsPath();
     }
 
     /**
@@ -64,6 +75,47 @@ public class ClaudeReviewer {
         return claudeService.reviewCode(changedFiles);
     }
 
+    /**
+     * PR 리뷰를 스트리밍으로 수행
+     * 리뷰 텍스트가 생성되는 대로 onText로 전달하고, 완료되면 전체 텍스트를 반환
+     *
+     * @param onText 텍스트 조각 수신 콜백
+     * @return 리뷰 결과 텍스트
+     * @throws IOException API 호출 실패 시
+     */
+    public String reviewPullRequest(Consumer<String> onText) throws IOException {
+        List<FileChange> changedFiles = gitService.getChangedFiles();
+
+        if (changedFiles.isEmpty()) {
+            String message = "리뷰할 파일이 없습니다.";
+            onText.accept(message);
+            return message;
+        }
+
+        return claudeService.reviewCode(changedFiles, onText);
+    }
+
+    /**
+     * PR 리뷰 텍스트를 발행하는 Publisher 반환
+     * 구독할 때마다 새로 리뷰를 수행하며, 실패 시 onError로 전달
+     *
+     * @return 리뷰 텍스트 조각 Publisher
+     */
+    public Flow.Publisher<String> reviewPullRequestPublisher() {
+        return subscriber -> {
+            SubmissionPublisher<String> publisher = new SubmissionPublisher<>();
+            publisher.subscribe(subscriber);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    reviewPullRequest(publisher::submit);
+                    publisher.close();
+                } catch (Exception e) {
+                    publisher.closeExceptionally(e);
+                }
+            });
+        };
+    }
+
     /**
      * PR에 리뷰 댓글 작성
      *
@@ -86,11 +138,45 @@ public class ClaudeReviewer {
 
     /**
      * PR 리뷰를 수행하고 자동으로 댓글 작성
+     * 끝나면 실행 지표 요약을 출력 (metricsPath가 있으면 파일로도 저장)
      *
      * @throws IOException API 호출 실패 시
      */
     public void executeFullReview() throws IOException {
-        reviewService.executeReview();
+        try {
+            reviewService.executeReview();
+        } finally {
+            metrics.report(metricsPath);
+        }
+    }
+
+    /**
+     * PR 리뷰와 댓글 작성을 가상 스레드에서 비동기로 수행
+     * 반환된 future를 cancel하면 진행 중인 API 호출까지 함께 취소
+     * 성공, 실패, 취소와 관계없이 끝나면 실행 지표 요약을 출력
+     *
+     * @return 리뷰 완료 future (실패 시 IOException으로 완료)
+     */
+    public CompletableFuture<Void> executeFullReviewAsync() {
+        CompletableFuture<Void> review = reviewService.executeReviewAsync();
+        // 파생 future를 반환하면 cancel이 원래 작업까지 전달되지 않으므로 원래 future를 그대로 반환
+        review.whenComplete((ignored, error) -> {
+            try {
+                metrics.report(metricsPath);
+            } catch (IOException e) {
+                System.err.println("⚠️ 실행 지표 저장 실패: " + e.getMessage());
+            }
+        });
+        return review;
+    }
+
+    /**
+     * 지금까지 기록된 실행 지표 JSON 요약
+     *
+     * @return 단계별 소요 시간, 토큰 사용량, 재시도 횟수 등의 JSON 문자열
+     */
+    public String getMetricsSummary() {
+        return metrics.toJson().toString();
     }
 
     /**
@@ -120,7 +206,31 @@ public class ClaudeReviewer {
         private String model = "claude-sonnet-4-5-20250929";
         private String language = "ko";
         private String fileExtensions = ".java,.kt,.xml,.gradle";
+        private boolean localDiff = false;
+        private String localRepoPath = ".";
+        private String localBaseRef;
+        private String includeGlobs = "";
+        private String excludeGlobs = "";
+        private int maxPatchLength = 0;
         private int maxTokens = 2000;
+        private int chunkMaxTokens = 30000;
+        private int maxConcurrency = 4;
+        private int maxInputTokens = 150000;
+        private boolean diffMinimization = false;
+        private int diffContextLines = 2;
+        private String generatedGlobs = "";
+        private String riskGlobs = "";
+        private int patchSpillKb = 64;
+        private String triageModel;
+        private double triageThreshold = 0.3;
+        private boolean stickyComment = false;
+        private boolean structuredOutput = false;
+        private boolean stream = false;
+        private String cacheDir;
+        private boolean incremental = false;
+        private String guidelinesPath;
+        private String metricsPath;
+        private ReviewMetrics metrics;
 
         /**
          * GitHub 또는 Gitea Access Token 설정
@@ -221,6 +331,271 @@ public class ClaudeReviewer {
             return this;
         }
 
+        /**
+         * 로컬 저장소 diff 모드 설정
+         *
+         * @param localDiff 체크아웃된 저장소에서 diff 계산 여부
+         * @return Builder 인스턴스
+         */
+        public Builder localDiff(boolean localDiff) {
+            this.localDiff = localDiff;
+            return this;
+        }
+
+        /**
+         * 로컬 저장소 경로 설정
+         *
+         * @param localRepoPath 저장소 작업 디렉터리 (기본값: 현재 디렉터리)
+         * @return Builder 인스턴스
+         */
+        public Builder localRepoPath(String localRepoPath) {
+            this.localRepoPath = localRepoPath;
+            return this;
+        }
+
+        /**
+         * 로컬 diff 비교 기준 브랜치 설정
+         *
+         * @param localBaseRef 기준 브랜치 (예: "origin/main")
+         * @return Builder 인스턴스
+         */
+        public Builder localBaseRef(String localBaseRef) {
+            this.localBaseRef = localBaseRef;
+            return this;
+        }
+
+        /**
+         * 리뷰할 경로 glob 설정 (확장자와 함께 만족해야 포함)
+         *
+         * @param includeGlobs 경로 glob (쉼표로 구분, 예: "src/**&#47;*.java")
+         * @return Builder 인스턴스
+         */
+        public Builder includeGlobs(String includeGlobs) {
+            this.includeGlobs = includeGlobs;
+            return this;
+        }
+
+        /**
+         * 리뷰에서 제외할 경로 glob 또는 디렉터리 설정
+         *
+         * @param excludeGlobs 경로 glob 또는 디렉터리 (쉼표로 구분, 예: "docs/")
+         * @return Builder 인스턴스
+         */
+        public Builder excludeGlobs(String excludeGlobs) {
+            this.excludeGlobs = excludeGlobs;
+            return this;
+        }
+
+        /**
+         * 리뷰할 patch 최대 길이 설정
+         *
+         * @param maxPatchLength 최대 길이 (문자 수, 0이면 제한 없음)
+         * @return Builder 인스턴스
+         */
+        public Builder maxPatchLength(int maxPatchLength) {
+            this.maxPatchLength = maxPatchLength;
+            return this;
+        }
+
+        /**
+         * 분할 리뷰 묶음당 최대 입력 토큰 수 설정
+         *
+         * @param chunkMaxTokens 묶음당 최대 입력 토큰 수
+         * @return Builder 인스턴스
+         */
+        public Builder chunkMaxTokens(int chunkMaxTokens) {
+            this.chunkMaxTokens = chunkMaxTokens;
+            return this;
+        }
+
+        /**
+         * 분할 리뷰 동시 호출 수 설정
+         *
+         * @param maxConcurrency 동시 호출 수
+         * @return Builder 인스턴스
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * 리뷰 한 번에 보낼 변경사항 입력 토큰 총량 설정
+         *
+         * @param maxInputTokens 입력 토큰 총량
+         * @return Builder 인스턴스
+         */
+        public Builder maxInputTokens(int maxInputTokens) {
+            this.maxInputTokens = maxInputTokens;
+            return this;
+        }
+
+        /**
+         * 리뷰 전 diff 최소화 사용 여부 설정 (기본 비활성화)
+         *
+         * @param diffMinimization 생성 파일 제외, 공백 변경 제거, 문맥 축소 여부
+         * @return Builder 인스턴스
+         */
+        public Builder diffMinimization(boolean diffMinimization) {
+            this.diffMinimization = diffMinimization;
+            return this;
+        }
+
+        /**
+         * 변경 줄 앞뒤로 남길 문맥 줄 수 설정
+         *
+         * @param diffContextLines 문맥 줄 수 (음수면 축소하지 않음)
+         * @return Builder 인스턴스
+         */
+        public Builder diffContextLines(int diffContextLines) {
+            this.diffContextLines = diffContextLines;
+            return this;
+        }
+
+        /**
+         * 생성 파일로 보고 제외할 경로 glob 설정
+         *
+         * @param generatedGlobs 경로 glob (쉼표로 구분)
+         * @return Builder 인스턴스
+         */
+        public Builder generatedGlobs(String generatedGlobs) {
+            this.generatedGlobs = generatedGlobs;
+            return this;
+        }
+
+        /**
+         * 위험 영역 경로 glob 설정 (토큰 예산 초과 시 먼저 리뷰)
+         *
+         * @param riskGlobs 경로 glob (쉼표로 구분)
+         * @return Builder 인스턴스
+         */
+        public Builder riskGlobs(String riskGlobs) {
+            this.riskGlobs = riskGlobs;
+            return this;
+        }
+
+        /**
+         * patch 임시 파일 보관 기준 설정 (큰 PR에서도 힙 사용량을 일정하게 유지)
+         *
+         * @param patchSpillKb 임시 파일 크기(KB, UTF-16 기준 문자당 2바이트)가 이 값을 넘는 patch는 메모리 맵 임시 파일에 보관 (0이면 항상 메모리)
+         * @return Builder 인스턴스
+         */
+        public Builder patchSpillKb(int patchSpillKb) {
+            this.patchSpillKb = patchSpillKb;
+            return this;
+        }
+
+        /**
+         * 1차 분류 모델 설정 (분류 결과 위험한 파일만 model로 상세 리뷰)
+         *
+         * @param triageModel 경량 Claude 모델명 (null이면 사용하지 않음)
+         * @return Builder 인스턴스
+         */
+        public Builder triageModel(String triageModel) {
+            this.triageModel = triageModel;
+            return this;
+        }
+
+        /**
+         * 상세 리뷰 기준 위험도 설정
+         *
+         * @param triageThreshold 0~1 사이 위험도
+         * @return Builder 인스턴스
+         */
+        public Builder triageThreshold(double triageThreshold) {
+            this.triageThreshold = triageThreshold;
+            return this;
+        }
+
+        /**
+         * 고정 댓글 사용 여부 설정
+         * 증분 리뷰는 전체 리뷰 댓글을 덮어쓰지 않도록 새 댓글로 게시
+         *
+         * @param stickyComment 이전 리뷰 댓글을 수정할지 여부
+         * @return Builder 인스턴스
+         */
+        public Builder stickyComment(boolean stickyComment) {
+            this.stickyComment = stickyComment;
+            return this;
+        }
+
+        /**
+         * 구조화 리뷰 사용 여부 설정
+         *
+         * @param structuredOutput 파일/줄 단위 지적 사항을 인라인 댓글로 게시할지 여부
+         * @return Builder 인스턴스
+         */
+        public Builder structuredOutput(boolean structuredOutput) {
+            this.structuredOutput = structuredOutput;
+            return this;
+        }
+
+        /**
+         * SSE 스트리밍 응답 사용 여부 설정
+         *
+         * @param stream 스트리밍 사용 여부
+         * @return Builder 인스턴스
+         */
+        public Builder stream(boolean stream) {
+            this.stream = stream;
+            return this;
+        }
+
+        /**
+         * 리뷰 캐시 디렉터리 설정
+         *
+         * @param cacheDir 캐시 디렉터리 경로
+         * @return Builder 인스턴스
+         */
+        public Builder cacheDir(String cacheDir) {
+            this.cacheDir = cacheDir;
+            return this;
+        }
+
+        /**
+         * 증분 리뷰 사용 여부 설정
+         *
+         * @param incremental 마지막 리뷰 이후 변경분만 리뷰할지 여부
+         * @return Builder 인스턴스
+         */
+        public Builder incremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * 저장소 코딩 가이드라인 파일 경로 설정
+         *
+         * @param guidelinesPath 가이드라인 파일 경로
+         * @return Builder 인스턴스
+         */
+        public Builder guidelinesPath(String guidelinesPath) {
+            this.guidelinesPath = guidelinesPath;
+            return this;
+        }
+
+        /**
+         * 실행 지표 JSON 요약을 저장할 파일 경로 설정
+         *
+         * @param metricsPath 요약 파일 경로
+         * @return Builder 인스턴스
+         */
+        public Builder metricsPath(String metricsPath) {
+            this.metricsPath = metricsPath;
+            return this;
+        }
+
+        /**
+         * 지표를 함께 기록할 백엔드 설정 (Micrometer, OpenTelemetry 어댑터 등)
+         *
+         * @param metrics 지표 백엔드
+         * @return Builder 인스턴스
+         */
+        public Builder metrics(ReviewMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         /**
          * ClaudeReviewer 인스턴스 생성
          *
@@ -261,6 +636,7 @@ public class ClaudeReviewer {
             if (repoName == null || repoName.isEmpty()) {
                 throw new IllegalStateException("Repository name is required");
             }
+            ReviewConfig.requireRatio("triageThreshold", triageThreshold);
 
             ReviewConfig config = ReviewConfig.builder()
                     .githubToken(githubToken)
@@ -271,10 +647,39 @@ public class ClaudeReviewer {
                     .model(model)
                     .language(language)
                     .fileExtensions(java.util.Arrays.asList(fileExtensions.split(",")))
+                    .localDiff(localDiff)
+                    .localRepoPath(localRepoPath)
+                    .localBaseRef(localBaseRef)
+                    .includeGlobs(splitList(includeGlobs))
+                    .excludeGlobs(splitList(excludeGlobs))
+                    .maxPatchLength(maxPatchLength)
                     .maxTokens(maxTokens)
+                    .chunkMaxTokens(chunkMaxTokens)
+                    .maxConcurrency(maxConcurrency)
+                    .maxInputTokens(maxInputTokens)
+                    .diffMinimization(diffMinimization)
+                    .diffContextLines(diffContextLines)
+                    .generatedGlobs(splitList(generatedGlobs))
+                    .riskGlobs(splitList(riskGlobs))
+                    .patchSpillKb(patchSpillKb)
+                    .triageModel(triageModel)
+                    .triageThreshold(triageThreshold)
+                    .stickyComment(stickyComment)
+                    .structuredOutput(structuredOutput)
+                    .stream(stream)
+                    .cacheDir(cacheDir)
+                    .incremental(incremental)
+                    .guidelinesPath(guidelinesPath)
+                    .metricsPath(metricsPath)
                     .build();
 
-            return new ClaudeReviewer(config);
+            return new ClaudeReviewer(config, metrics);
+        }
+
+        private static java.util.List<String> splitList(String value) {
+            return value == null || value.isEmpty()
+                    ? java.util.List.of()
+                    : java.util.Arrays.asList(value.split(","));
         }
     }
 }
@@ -29,8 +29,12 @@ public class ClaudeReviewerApplication {
             ServiceFactory factory = new ServiceFactory(config);
             ReviewService reviewService = factory.createReviewService();
 
-            // 3. 리뷰 실행
-            reviewService.executeReview();
+            // 3. 리뷰 실행 (실패해도 그때까지의 실행 지표는 남김)
+            try {
+                reviewService.executeReview();
+            } finally {
+                factory.createMetrics().report(config.getMetricsPath());
+            }
         } catch (Exception e) {
             System.err.println("❌ 에러 발생: " + e.getMessage());
             e.printStackTrace();
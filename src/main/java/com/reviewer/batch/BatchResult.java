@@ -0,0 +1,28 @@
+package com.reviewer.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배치 리뷰의 PR별 결과 DTO
+ *
+ * @author claude-reviewer
+ */
+@Getter
+@AllArgsConstructor
+public class BatchResult {
+    private final String repoName;
+    private final int prNumber;
+    private final boolean success;
+    private final long durationMillis;
+    private final long inputTokens;
+    private final long outputTokens;
+    private final String error;
+
+    @Override
+    public String toString() {
+        String result = success ? "✅" : "❌ " + error;
+        return String.format("%s#%d %s (%.1fs, 입력 %d / 출력 %d 토큰)",
+                repoName, prNumber, result, durationMillis / 1000.0, inputTokens, outputTokens);
+    }
+}
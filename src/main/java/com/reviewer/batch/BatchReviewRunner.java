@@ -0,0 +1,221 @@
+package com.reviewer.batch;
+
+import com.reviewer.cache.ReviewCache;
+import com.reviewer.concurrent.BoundedExecutor;
+import com.reviewer.config.BatchConfig;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.di.ServiceFactory;
+import com.reviewer.http.SharedHttpClient;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.TokenUsage;
+import com.reviewer.service.claude.ClaudeBatchService;
+import com.reviewer.service.claude.ClaudeService;
+import com.reviewer.service.git.GitService;
+import okhttp3.OkHttpClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 PR을 하나의 JVM에서 리뷰하는 배치 실행기
+ * HTTP 클라이언트와 리뷰 캐시를 모든 PR이 공유하고, 동시에 리뷰하는 PR 수를 제한
+ */
+public class BatchReviewRunner {
+    private final ReviewConfig baseConfig;
+    private final BatchConfig batchConfig;
+    private final OkHttpClient httpClient;
+    private final ReviewCache reviewCache;
+
+    /**
+     * 생성자
+     *
+     * @param baseConfig 모든 PR에 공통으로 적용할 리뷰 설정
+     * @param batchConfig 배치 설정
+     */
+    public BatchReviewRunner(ReviewConfig baseConfig, BatchConfig batchConfig) {
+        this(baseConfig, batchConfig, SharedHttpClient.get());
+    }
+
+    /**
+     * 생성자
+     *
+     * @param baseConfig 모든 PR에 공통으로 적용할 리뷰 설정
+     * @param batchConfig 배치 설정
+     * @param httpClient 공유 HTTP 클라이언트
+     * @throws IllegalStateException Message Batches 모드에서 지원하지 않는 리뷰 옵션을 켠 경우
+     */
+    public BatchReviewRunner(ReviewConfig baseConfig, BatchConfig batchConfig, OkHttpClient httpClient) {
+        // Message Batches 모드는 전체 텍스트 리뷰만 제출하므로 조용히 무시하지 않고 거부
+        if (batchConfig.isMessageBatches() && baseConfig.isStructuredOutput()) {
+            throw new IllegalStateException("Message Batches mode does not support structured output");
+        }
+        if (batchConfig.isMessageBatches() && baseConfig.isIncremental()) {
+            throw new IllegalStateException("Message Batches mode does not support incremental reviews");
+        }
+        this.baseConfig = baseConfig;
+        this.batchConfig = batchConfig;
+        this.httpClient = httpClient;
+        this.reviewCache = new ServiceFactory(baseConfig, httpClient).createReviewCache();
+    }
+
+    /**
+     * 모든 대상 PR 리뷰 실행
+     * PR 하나가 실패해도 나머지는 계속 진행하고 결과에 기록
+     *
+     * @return PR별 결과 목록
+     * @throws IOException 대상 PR 목록 조회 실패 시
+     */
+    public List<BatchResult> run() throws IOException {
+        List<ReviewConfig> targets = resolveTargets();
+        System.out.println("📋 배치 리뷰 대상: " + targets.size() + "개 PR");
+        if (batchConfig.isMessageBatches()) {
+            return runWithMessageBatches(targets);
+        }
+        return BoundedExecutor.mapAll(targets, batchConfig.getConcurrency(), this::reviewOne);
+    }
+
+    /**
+     * Message Batches API로 모든 PR을 한 번에 리뷰
+     * 파일 목록 조회 → 배치 제출 및 완료 대기 → PR별 댓글 작성 순서로 진행
+     * PR별 소요 시간은 자기 조회 시간 + 공유한 배치 대기 시간 + 자기 댓글 작성 시간
+     */
+    private List<BatchResult> runWithMessageBatches(List<ReviewConfig> targets) throws IOException {
+        // 1. PR별 변경 파일과 head SHA 조회 (custom_id 제약 때문에 순번을 ID로 사용)
+        List<PreparedReview> prepared = BoundedExecutor.mapAll(targets, batchConfig.getConcurrency(), config -> {
+            long start = System.currentTimeMillis();
+            ServiceFactory factory = new ServiceFactory(config, httpClient, reviewCache);
+            try {
+                GitService gitService = factory.createGitService();
+                List<FileChange> changes = factory.createDiffMinimizer().minimize(gitService.getChangedFiles()).getChanges();
+                return new PreparedReview(config, factory, gitService.getHeadSha(), changes, null,
+                        System.currentTimeMillis() - start);
+            } catch (IOException | RuntimeException e) {
+                return new PreparedReview(config, factory, null, List.of(), errorMessage(e),
+                        System.currentTimeMillis() - start);
+            }
+        });
+
+        Map<String, List<FileChange>> changesById = new LinkedHashMap<>();
+        for (int i = 0; i < prepared.size(); i++) {
+            if (prepared.get(i).error() == null && !prepared.get(i).changes().isEmpty()) {
+                changesById.put("pr-" + i, prepared.get(i).changes());
+            }
+        }
+
+        // 2. 배치 제출 및 완료 대기
+        long batchStart = System.currentTimeMillis();
+        ServiceFactory sharedFactory = new ServiceFactory(baseConfig, httpClient, reviewCache);
+        ClaudeService claudeService = sharedFactory.createClaudeService();
+        Map<String, TokenUsage> usageById = new HashMap<>();
+        Map<String, String> reviews = claudeService.reviewCodeInBatch(
+                changesById, new ClaudeBatchService(baseConfig, httpClient), usageById);
+        long batchMillis = System.currentTimeMillis() - batchStart;
+        System.out.println("📊 토큰 사용량: " + claudeService.getTokenUsage());
+
+        // 3. PR별 댓글 작성
+        List<Integer> indexes = IntStream.range(0, prepared.size()).boxed().toList();
+        return BoundedExecutor.mapAll(indexes, batchConfig.getConcurrency(), i -> {
+            long postStart = System.currentTimeMillis();
+            PreparedReview review = prepared.get(i);
+            String error = review.error();
+            boolean submitted = error == null && changesById.containsKey("pr-" + i);
+            if (submitted) {
+                String reviewText = reviews.get("pr-" + i);
+                if (reviewText == null) {
+                    error = "Message Batch 결과 없음";
+                } else {
+                    try {
+                        review.factory().createReviewService().postReview(reviewText, review.headSha(), null);
+                    } catch (IOException | RuntimeException e) {
+                        error = errorMessage(e);
+                    }
+                }
+            }
+            TokenUsage usage = usageById.getOrDefault("pr-" + i, new TokenUsage());
+            long duration = review.prepareMillis() + (submitted ? batchMillis : 0)
+                    + System.currentTimeMillis() - postStart;
+            return new BatchResult(review.config().getRepoName(), review.config().getPrNumber(),
+                    error == null, duration, usage.getInputTokens(), usage.getOutputTokens(), error);
+        });
+    }
+
+    /**
+     * Message Batches 제출 전 PR별 준비 결과
+     */
+    private record PreparedReview(ReviewConfig config, ServiceFactory factory, String headSha,
+                                  List<FileChange> changes, String error, long prepareMillis) {
+    }
+
+    /**
+     * 대상 문자열을 PR별 설정으로 변환
+     * "owner/repo#123"은 해당 PR, "owner/repo"는 필터에 맞는 열린 PR 전체
+     */
+    private List<ReviewConfig> resolveTargets() throws IOException {
+        List<ReviewConfig> configs = new ArrayList<>();
+        for (String raw : batchConfig.getTargets()) {
+            String target = raw.trim();
+            if (target.isEmpty()) {
+                continue;
+            }
+
+            int hash = target.indexOf('#');
+            if (hash >= 0) {
+                configs.add(configFor(target.substring(0, hash), Integer.parseInt(target.substring(hash + 1))));
+                continue;
+            }
+
+            ReviewConfig repoConfig = configFor(target, 0);
+            List<Integer> numbers = new ServiceFactory(repoConfig, httpClient, reviewCache)
+                    .createGitService()
+                    .listOpenPullRequests(batchConfig.getLabel(), batchConfig.isSkipDrafts());
+            for (int number : numbers) {
+                configs.add(configFor(target, number));
+            }
+        }
+        return configs;
+    }
+
+    private ReviewConfig configFor(String repoName, int prNumber) {
+        return baseConfig.toBuilder()
+                .repoName(repoName)
+                .prNumber(prNumber)
+                .build();
+    }
+
+    /**
+     * PR 하나 리뷰 (실패는 예외 대신 결과로 기록)
+     */
+    private BatchResult reviewOne(ReviewConfig config) {
+        long start = System.currentTimeMillis();
+        ServiceFactory factory = new ServiceFactory(config, httpClient, reviewCache);
+        try {
+            factory.createReviewService().executeReview();
+            return result(config, factory, start, null);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ " + config.getRepoName() + "#" + config.getPrNumber() + " 리뷰 실패: " + e.getMessage());
+            return result(config, factory, start, errorMessage(e));
+        }
+    }
+
+    private static String errorMessage(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.toString();
+    }
+
+    private BatchResult result(ReviewConfig config, ServiceFactory factory, long start, String error) {
+        TokenUsage usage = factory.createClaudeService().getTokenUsage();
+        return new BatchResult(
+                config.getRepoName(),
+                config.getPrNumber(),
+                error == null,
+                System.currentTimeMillis() - start,
+                usage.getInputTokens(),
+                usage.getOutputTokens(),
+                error
+        );
+    }
+}
@@ -0,0 +1,141 @@
+package com.reviewer.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 리뷰 캐시
+ * 키마다 파일 하나로 저장하고, 전체 크기가 한도를 넘으면 가장 오래 사용하지 않은 항목부터 삭제 (LRU)
+ * 캐시 오류는 리뷰를 실패시키지 않고 캐시 미스로 처리
+ */
+public class FileReviewCache implements ReviewCache {
+    private static final String SUFFIX = ".review";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    // 접근 순서 기준 LinkedHashMap (키 → 파일 크기)
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * 생성자
+     *
+     * @param directory 캐시 디렉터리
+     * @param maxBytes 최대 저장 용량 (바이트)
+     * @throws IOException 디렉터리 생성 또는 조회 실패 시
+     */
+    public FileReviewCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        loadEntries();
+    }
+
+    /**
+     * 기존 캐시 파일을 마지막 사용 시각 순으로 등록
+     */
+    private void loadEntries() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long size = Files.size(file);
+            entries.put(name.substring(0, name.length() - SUFFIX.length()), size);
+            totalBytes += size;
+        }
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    @Override
+    public synchronized String get(String key) {
+        // get()으로 조회해야 접근 순서가 갱신됨
+        if (entries.get(key) == null) {
+            return null;
+        }
+
+        Path file = pathOf(key);
+        try {
+            String review = Files.readString(file, StandardCharsets.UTF_8);
+            // 다음 실행에서도 LRU 순서를 유지하도록 사용 시각 갱신
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return review;
+        } catch (IOException e) {
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, String review) {
+        Path file = pathOf(key);
+        Path temp = directory.resolve(key + ".tmp");
+        try {
+            byte[] bytes = review.getBytes(StandardCharsets.UTF_8);
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Long previous = entries.put(key, (long) bytes.length);
+            totalBytes += bytes.length - (previous != null ? previous : 0);
+            evict();
+        } catch (IOException e) {
+            System.err.println("⚠️ 리뷰 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 용량 한도를 넘지 않을 때까지 오래된 항목 삭제
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(pathOf(eldest.getKey()));
+        }
+    }
+
+    private void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        deleteQuietly(pathOf(key));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 다음 실행에서 다시 정리됨
+        }
+    }
+}
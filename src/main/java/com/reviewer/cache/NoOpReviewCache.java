@@ -0,0 +1,22 @@
+package com.reviewer.cache;
+
+/**
+ * 아무것도 저장하지 않는 캐시 (캐시 미사용 시 기본값)
+ */
+public class NoOpReviewCache implements ReviewCache {
+
+    @Override
+    public String get(String key) {
+        return null;
+    }
+
+    @Override
+    public void put(String key, String review) {
+        // 저장하지 않음
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
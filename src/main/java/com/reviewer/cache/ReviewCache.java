@@ -0,0 +1,34 @@
+package com.reviewer.cache;
+
+/**
+ * 리뷰 결과 캐시 인터페이스
+ * 파일명, patch, 모델, 언어, 프롬프트 버전으로 만든 해시를 키로 사용
+ * 로컬 디스크, 원격 저장소 등 다양한 백엔드 지원
+ */
+public interface ReviewCache {
+
+    /**
+     * 캐시된 리뷰 조회
+     *
+     * @param key 캐시 키 (콘텐츠 해시)
+     * @return 캐시된 리뷰 텍스트, 없으면 null
+     */
+    String get(String key);
+
+    /**
+     * 리뷰 결과 저장
+     *
+     * @param key 캐시 키 (콘텐츠 해시)
+     * @param review 리뷰 텍스트
+     */
+    void put(String key, String review);
+
+    /**
+     * 캐시 사용 여부
+     *
+     * @return 실제로 저장하는 캐시면 true
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+package com.reviewer.concurrent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 가상 스레드 기반으로 I/O 작업을 제한된 동시성으로 병렬 실행하는 유틸리티
+ * 분할 리뷰, 페이지 병렬 조회, 비동기 리뷰 실행 등에서 공통으로 사용
+ */
+public final class BoundedExecutor {
+
+    private BoundedExecutor() {
+        // Utility class
+    }
+
+    /**
+     * I/O 예외를 던질 수 있는 변환 함수
+     *
+     * @param <T> 입력 타입
+     * @param <R> 결과 타입
+     */
+    @FunctionalInterface
+    public interface IOFunction<T, R> {
+        /**
+         * 변환 수행
+         *
+         * @param item 입력 값
+         * @return 결과 값
+         * @throws IOException I/O 실패 시
+         */
+        R apply(T item) throws IOException;
+    }
+
+    /**
+     * I/O 예외를 던질 수 있는 작업
+     */
+    @FunctionalInterface
+    public interface IORunnable {
+        /**
+         * 작업 수행
+         *
+         * @throws IOException I/O 실패 시
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * 모든 항목에 작업을 병렬 적용하고 입력 순서대로 결과 반환
+     * 작업마다 가상 스레드를 쓰고 세마포어로 동시 실행 수를 제한하며,
+     * 하나라도 실패하면 나머지 작업을 즉시 취소하고 그 예외를 던짐
+     *
+     * @param items 입력 목록
+     * @param maxConcurrency 최대 동시 실행 수
+     * @param task 항목별 작업
+     * @param <T> 입력 타입
+     * @param <R> 결과 타입
+     * @return 입력 순서와 같은 결과 목록
+     * @throws IOException 작업 실패 또는 중단 시
+     */
+    public static <T, R> List<R> mapAll(List<T> items, int maxConcurrency, IOFunction<T, R> task)
+            throws IOException {
+        if (items.size() == 1) {
+            return List.of(task.apply(items.get(0)));
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<R> completion = new ExecutorCompletionService<>(executor);
+            List<Future<R>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(completion.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return task.apply(item);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            // 완료 순서대로 확인해 첫 실패를 바로 감지
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    completion.take().get();
+                }
+            } catch (ExecutionException | InterruptedException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+
+            List<R> results = new ArrayList<>();
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("병렬 작업이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 작업을 가상 스레드에서 비동기로 실행
+     * 반환된 future를 cancel하면 실행 중인 스레드를 인터럽트해 하위 작업까지 취소
+     *
+     * @param name 스레드 이름
+     * @param task 실행할 작업
+     * @return 작업 완료 future
+     */
+    public static CompletableFuture<Void> runAsync(String name, IORunnable task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread thread = Thread.ofVirtual().name(name).start(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        future.whenComplete((result, error) -> {
+            if (error instanceof CancellationException) {
+                thread.interrupt();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * future 결과를 기다리고 실패 원인을 IOException으로 변환
+     *
+     * @param future 기다릴 future
+     * @param <R> 결과 타입
+     * @return 결과 값
+     * @throws IOException 작업 실패 또는 중단 시
+     */
+    public static <R> R await(Future<R> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IOException("작업이 중단되었습니다.", e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof IOException ioException) {
+            return ioException;
+        }
+        return new IOException("병렬 작업 실패: " + e.getCause().getMessage(), e.getCause());
+    }
+}
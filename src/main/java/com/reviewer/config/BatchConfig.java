@@ -0,0 +1,52 @@
+package com.reviewer.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 배치 리뷰 설정 클래스
+ * 대상은 "owner/repo#123" (PR 지정) 또는 "owner/repo" (필터에 맞는 열린 PR 전체) 형식
+ *
+ * @author claude-reviewer
+ */
+@Getter
+@Builder
+public class BatchConfig {
+    private final List<String> targets;
+
+    // 열린 PR 전체 대상일 때 이 라벨이 붙은 PR만 리뷰 (없으면 전체)
+    private final String label;
+
+    @Builder.Default
+    private final boolean skipDrafts = true;
+
+    // 동시에 리뷰할 PR 수
+    @Builder.Default
+    private final int concurrency = 4;
+
+    // PR별 결과 요약 JSON 파일 경로 (없으면 콘솔 출력만)
+    private final String summaryPath;
+
+    // Message Batches API 사용 (지연 시간 대신 처리량과 비용 우선)
+    @Builder.Default
+    private final boolean messageBatches = false;
+
+    /**
+     * 환경 변수에서 설정 생성
+     *
+     * @return 환경 변수 기반 BatchConfig 인스턴스
+     */
+    public static BatchConfig fromEnvironment() {
+        return BatchConfig.builder()
+                .targets(Arrays.asList(ReviewConfig.getRequiredEnv("BATCH_TARGETS").split(",")))
+                .label(ReviewConfig.getEnvOrDefault("BATCH_LABEL", null))
+                .skipDrafts(Boolean.parseBoolean(ReviewConfig.getEnvOrDefault("BATCH_SKIP_DRAFTS", "true")))
+                .concurrency(Integer.parseInt(ReviewConfig.getEnvOrDefault("BATCH_CONCURRENCY", "4")))
+                .summaryPath(ReviewConfig.getEnvOrDefault("BATCH_SUMMARY_PATH", null))
+                .messageBatches(Boolean.parseBoolean(ReviewConfig.getEnvOrDefault("BATCH_MESSAGE_BATCHES", "false")))
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.reviewer.config;
 
+import com.reviewer.filter.PathFilter;
+import com.reviewer.model.PatchStorage;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 리뷰 설정 클래스
@@ -12,7 +16,7 @@ import java.util.List;
  * @author claude-reviewer
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ReviewConfig {
     private final String githubToken;
     private final String anthropicApiKey;
@@ -22,6 +26,14 @@ public class ReviewConfig {
     // Gitea 지원
     private final String giteaUrl;
 
+    // Anthropic API 주소 (프록시나 로컬 mock 서버 사용 시 변경)
+    @Builder.Default
+    private final String anthropicBaseUrl = "https://api.anthropic.com";
+
+    // GitHub API 주소 (GitHub Enterprise Server나 로컬 mock 서버 사용 시 변경)
+    @Builder.Default
+    private final String githubApiUrl = "https://api.github.com";
+
     @Builder.Default
     private final String model = "claude-sonnet-4-5-20250929";
 
@@ -31,9 +43,141 @@ public class ReviewConfig {
     @Builder.Default
     private final List<String> fileExtensions = Arrays.asList(".java", ".kt", ".xml", ".gradle");
 
+    // 체크아웃된 로컬 저장소에서 diff 계산 (댓글 작성은 호스팅 API 사용)
+    @Builder.Default
+    private final boolean localDiff = false;
+
+    @Builder.Default
+    private final String localRepoPath = ".";
+
+    // 로컬 diff 비교 기준 브랜치 (없으면 origin/$GITHUB_BASE_REF)
+    private final String localBaseRef;
+
+    // 리뷰 대상 경로 glob (비어 있으면 확장자만으로 판단)
+    @Builder.Default
+    private final List<String> includeGlobs = List.of();
+
+    // 리뷰에서 제외할 경로 glob 또는 디렉터리 (예: "**/generated/**", "docs/")
+    @Builder.Default
+    private final List<String> excludeGlobs = List.of();
+
+    // patch가 이 길이(문자 수)를 넘는 파일은 리뷰에서 제외 (0이면 제한 없음)
+    @Builder.Default
+    private final int maxPatchLength = 0;
+
     @Builder.Default
     private final int maxTokens = 2000;
 
+    // 대용량 PR 분할 리뷰 (map-reduce)
+    @Builder.Default
+    private final int chunkMaxTokens = 30000;
+
+    @Builder.Default
+    private final int maxConcurrency = 4;
+
+    // 리뷰 한 번에 보낼 변경사항 입력 토큰 총량 (초과분은 우선순위가 낮은 파일부터 제외)
+    @Builder.Default
+    private final int maxInputTokens = 150000;
+
+    // 리뷰 전 diff 최소화 (생성 파일 제외, 공백 변경 제거, 문맥 축소, 기본 비활성화)
+    @Builder.Default
+    private final boolean diffMinimization = false;
+
+    // 변경 줄 앞뒤로 남길 문맥 줄 수 (음수면 축소하지 않음)
+    @Builder.Default
+    private final int diffContextLines = 2;
+
+    // 생성 파일로 보고 제외할 추가 경로 glob
+    @Builder.Default
+    private final List<String> generatedGlobs = List.of();
+
+    // 예산 초과 시 먼저 리뷰할 위험 영역 경로 glob (보안, 동시성, DB 경로는 기본 반영)
+    @Builder.Default
+    private final List<String> riskGlobs = List.of();
+
+    // 임시 파일 크기(KB, UTF-16 바이트 기준)가 이 값을 넘는 patch는 메모리 맵 임시 파일에 보관 (0이면 항상 힙)
+    @Builder.Default
+    private final int patchSpillKb = 64;
+
+    // 다단계 리뷰: 경량 모델로 먼저 분류해 위험도가 기준 이상인 파일만 model로 상세 리뷰 (null이면 사용하지 않음)
+    private final String triageModel;
+
+    // 상세 리뷰 기준 위험도 (0~1)
+    @Builder.Default
+    private final double triageThreshold = 0.3;
+
+    // 고정 댓글 (매번 새 댓글 대신 봇이 쓴 이전 리뷰 댓글을 수정, 내용이 같으면 쓰지 않음, 증분 리뷰는 새 댓글)
+    @Builder.Default
+    private final boolean stickyComment = false;
+
+    // 구조화 리뷰 (파일/줄 단위 지적 사항을 인라인 댓글이 포함된 PR 리뷰로 게시)
+    @Builder.Default
+    private final boolean structuredOutput = false;
+
+    // SSE 스트리밍 응답 사용 여부
+    @Builder.Default
+    private final boolean stream = false;
+
+    // 파일별 리뷰 캐시 (디렉터리가 없으면 캐시 미사용)
+    private final String cacheDir;
+
+    @Builder.Default
+    private final long cacheMaxBytes = 50L * 1024 * 1024;
+
+    // 마지막으로 리뷰한 SHA 이후 변경분만 리뷰
+    @Builder.Default
+    private final boolean incremental = false;
+
+    // 프롬프트 캐시 (system 블록에 cache_control 지정)
+    @Builder.Default
+    private final boolean promptCaching = true;
+
+    // 저장소 코딩 가이드라인 파일 (system 프롬프트에 고정 컨텍스트로 포함)
+    private final String guidelinesPath;
+
+    // 실행 지표 JSON 요약을 저장할 파일 (없으면 로그에만 출력)
+    private final String metricsPath;
+
+    // 파일 필터는 설정 값으로 한 번만 컴파일 (초기화된 final 필드라 빌더 대상이 아님)
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<PathFilter> compiledPathFilter = new AtomicReference<>();
+
+    // patch 저장 방식도 한 번만 만들어 재사용 (임시 파일 쓰기 실패 경고를 한 번만 출력)
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<PatchStorage> patchStorage = new AtomicReference<>();
+
+    /**
+     * 리뷰 대상 파일 필터 (최초 호출 시 컴파일)
+     *
+     * @return 확장자, include/exclude glob, patch 길이 제한을 합친 필터
+     */
+    public PathFilter getPathFilter() {
+        PathFilter filter = compiledPathFilter.get();
+        if (filter == null) {
+            filter = PathFilter.compile(fileExtensions, includeGlobs, excludeGlobs, maxPatchLength);
+            if (!compiledPathFilter.compareAndSet(null, filter)) {
+                filter = compiledPathFilter.get();
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * patch 저장 방식 (최초 호출 시 생성)
+     *
+     * @return 임시 파일 크기가 patchSpillKb를 넘는 patch를 임시 파일에 두는 저장 방식
+     */
+    public PatchStorage getPatchStorage() {
+        PatchStorage storage = patchStorage.get();
+        if (storage == null) {
+            storage = PatchStorage.spillOver(patchSpillKb * 1024L);
+            if (!patchStorage.compareAndSet(null, storage)) {
+                storage = patchStorage.get();
+            }
+        }
+        return storage;
+    }
+
     /**
      * 플랫폼 판별 (Gitea URL이 있으면 Gitea, 없으면 GitHub)
      *
@@ -43,28 +187,97 @@ public class ReviewConfig {
         return giteaUrl != null && !giteaUrl.isEmpty();
     }
 
+    /**
+     * 리뷰 캐시 사용 여부
+     *
+     * @return 캐시 디렉터리 설정 여부
+     */
+    public boolean isCacheEnabled() {
+        return cacheDir != null && !cacheDir.isEmpty();
+    }
+
     /**
      * 환경 변수에서 설정 생성
      *
      * @return 환경 변수 기반 ReviewConfig 인스턴스
      */
     public static ReviewConfig fromEnvironment() {
+        return builderFromEnvironment()
+                .prNumber(Integer.parseInt(getRequiredEnv("PR_NUMBER")))
+                .repoName(getRequiredEnv("REPO_NAME"))
+                .build();
+    }
+
+    /**
+     * 환경 변수에서 배치 리뷰용 공통 설정 생성
+     * 저장소와 PR 번호는 배치 대상마다 toBuilder()로 지정
+     *
+     * @return PR 지정이 없는 ReviewConfig 인스턴스
+     */
+    public static ReviewConfig fromEnvironmentForBatch() {
+        return builderFromEnvironment().build();
+    }
+
+    private static ReviewConfigBuilder builderFromEnvironment() {
         String fileExts = getEnvOrDefault("FILE_EXTENSIONS", ".java,.kt,.xml,.gradle");
+        String generatedGlobs = getEnvOrDefault("GENERATED_GLOBS", "");
+        String riskGlobs = getEnvOrDefault("RISK_GLOBS", "");
+        String includeGlobs = getEnvOrDefault("INCLUDE_GLOBS", "");
+        String excludeGlobs = getEnvOrDefault("EXCLUDE_GLOBS", "");
 
         return ReviewConfig.builder()
                 .githubToken(getRequiredEnv("GITHUB_TOKEN"))
                 .anthropicApiKey(getRequiredEnv("ANTHROPIC_API_KEY"))
-                .prNumber(Integer.parseInt(getRequiredEnv("PR_NUMBER")))
-                .repoName(getRequiredEnv("REPO_NAME"))
                 .giteaUrl(getEnvOrDefault("GITEA_URL", null))
+                .anthropicBaseUrl(getEnvOrDefault("ANTHROPIC_BASE_URL", "https://api.anthropic.com"))
+                .githubApiUrl(getEnvOrDefault("GITHUB_API_URL", "https://api.github.com"))
                 .model(getEnvOrDefault("MODEL", "claude-sonnet-4-5-20250929"))
                 .language(getEnvOrDefault("LANGUAGE", "ko"))
                 .fileExtensions(Arrays.asList(fileExts.split(",")))
+                .localDiff(Boolean.parseBoolean(getEnvOrDefault("LOCAL_DIFF", "false")))
+                .localRepoPath(getEnvOrDefault("LOCAL_REPO_PATH", getEnvOrDefault("GITHUB_WORKSPACE", ".")))
+                .localBaseRef(getEnvOrDefault("LOCAL_BASE_REF", null))
+                .includeGlobs(includeGlobs.isEmpty() ? List.of() : Arrays.asList(includeGlobs.split(",")))
+                .excludeGlobs(excludeGlobs.isEmpty() ? List.of() : Arrays.asList(excludeGlobs.split(",")))
+                .maxPatchLength(Integer.parseInt(getEnvOrDefault("MAX_PATCH_LENGTH", "0")))
                 .maxTokens(Integer.parseInt(getEnvOrDefault("MAX_TOKENS", "2000")))
-                .build();
+                .chunkMaxTokens(Integer.parseInt(getEnvOrDefault("CHUNK_MAX_TOKENS", "30000")))
+                .maxConcurrency(Integer.parseInt(getEnvOrDefault("MAX_CONCURRENCY", "4")))
+                .maxInputTokens(Integer.parseInt(getEnvOrDefault("MAX_INPUT_TOKENS", "150000")))
+                .diffMinimization(Boolean.parseBoolean(getEnvOrDefault("DIFF_MINIMIZATION", "false")))
+                .diffContextLines(Integer.parseInt(getEnvOrDefault("DIFF_CONTEXT_LINES", "2")))
+                .generatedGlobs(generatedGlobs.isEmpty() ? List.of() : Arrays.asList(generatedGlobs.split(",")))
+                .riskGlobs(riskGlobs.isEmpty() ? List.of() : Arrays.asList(riskGlobs.split(",")))
+                .patchSpillKb(Integer.parseInt(getEnvOrDefault("PATCH_SPILL_KB", "64")))
+                .triageModel(getEnvOrDefault("TRIAGE_MODEL", null))
+                .triageThreshold(requireRatio("TRIAGE_THRESHOLD",
+                        Double.parseDouble(getEnvOrDefault("TRIAGE_THRESHOLD", "0.3"))))
+                .stickyComment(Boolean.parseBoolean(getEnvOrDefault("STICKY_COMMENT", "false")))
+                .structuredOutput(Boolean.parseBoolean(getEnvOrDefault("STRUCTURED_OUTPUT", "false")))
+                .stream(Boolean.parseBoolean(getEnvOrDefault("STREAM", "false")))
+                .cacheDir(getEnvOrDefault("CACHE_DIR", null))
+                .cacheMaxBytes(Long.parseLong(getEnvOrDefault("CACHE_MAX_MB", "50")) * 1024 * 1024)
+                .incremental(Boolean.parseBoolean(getEnvOrDefault("INCREMENTAL", "false")))
+                .promptCaching(Boolean.parseBoolean(getEnvOrDefault("PROMPT_CACHING", "true")))
+                .guidelinesPath(getEnvOrDefault("GUIDELINES_PATH", null))
+                .metricsPath(getEnvOrDefault("METRICS_PATH", null));
+    }
+
+    /**
+     * 0~1 범위 값 검증
+     *
+     * @param name 설정 이름 (오류 메시지용)
+     * @param value 검증할 값
+     * @return 범위 안의 값
+     */
+    public static double requireRatio(String name, double value) {
+        if (!(value >= 0 && value <= 1)) {
+            throw new IllegalStateException(name + " must be between 0 and 1: " + value);
+        }
+        return value;
     }
 
-    private static String getRequiredEnv(String key) {
+    static String getRequiredEnv(String key) {
         String value = System.getenv(key);
         if (value == null || value.isEmpty()) {
             throw new IllegalStateException("Required environment variable not found: " + key);
@@ -72,7 +285,7 @@ public class ReviewConfig {
         return value;
     }
 
-    private static String getEnvOrDefault(String key, String defaultValue) {
+    static String getEnvOrDefault(String key, String defaultValue) {
         String value = System.getenv(key);
         return (value != null && !value.isEmpty()) ? value : defaultValue;
     }
@@ -1,19 +1,41 @@
 package com.reviewer.di;
 
+import com.reviewer.cache.FileReviewCache;
+import com.reviewer.cache.NoOpReviewCache;
+import com.reviewer.cache.ReviewCache;
 import com.reviewer.config.ReviewConfig;
+import com.reviewer.http.SharedHttpClient;
+import com.reviewer.metrics.NoOpReviewMetrics;
+import com.reviewer.metrics.ReviewMetrics;
+import com.reviewer.metrics.SummaryReviewMetrics;
 import com.reviewer.service.*;
 import com.reviewer.service.claude.ClaudeService;
+import com.reviewer.service.diff.DiffMinimizer;
 import com.reviewer.service.git.GitHubServiceImpl;
 import com.reviewer.service.git.GitService;
 import com.reviewer.service.git.GiteaServiceImpl;
+import com.reviewer.service.git.LocalGitServiceImpl;
+import okhttp3.OkHttpClient;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ServiceLoader;
 
 /**
  * DI Container - 서비스 인스턴스 생성 및 의존성 주입
+ * 각 서비스는 한 번만 생성해 재사용하고, 모든 서비스가 같은 HTTP 클라이언트를 공유
  */
 public class ServiceFactory {
     private final ReviewConfig config;
+    private final OkHttpClient httpClient;
+
+    private GitService gitService;
+    private ClaudeService claudeService;
+    private ReviewService reviewService;
+    private ReviewCache reviewCache;
+    private DiffMinimizer diffMinimizer;
+    private ReviewMetrics metricsBackend;
+    private SummaryReviewMetrics metrics;
 
     /**
      * ServiceFactory 생성자
@@ -21,42 +43,144 @@ public class ServiceFactory {
      * @param config 리뷰 설정
      */
     public ServiceFactory(ReviewConfig config) {
+        this(config, SharedHttpClient.get());
+    }
+
+    /**
+     * ServiceFactory 생성자
+     *
+     * @param config 리뷰 설정
+     * @param httpClient 서비스들이 공유할 HTTP 클라이언트
+     */
+    public ServiceFactory(ReviewConfig config, OkHttpClient httpClient) {
+        this(config, httpClient, null);
+    }
+
+    /**
+     * ServiceFactory 생성자 (배치 리뷰처럼 여러 PR이 캐시를 공유할 때 사용)
+     *
+     * @param config 리뷰 설정
+     * @param httpClient 서비스들이 공유할 HTTP 클라이언트
+     * @param reviewCache 공유 리뷰 캐시 (null이면 설정에 따라 생성)
+     */
+    public ServiceFactory(ReviewConfig config, OkHttpClient httpClient, ReviewCache reviewCache) {
+        this(config, httpClient, reviewCache, null);
+    }
+
+    /**
+     * ServiceFactory 생성자 (지표 백엔드 지정)
+     *
+     * @param config 리뷰 설정
+     * @param httpClient 서비스들이 공유할 HTTP 클라이언트
+     * @param reviewCache 공유 리뷰 캐시 (null이면 설정에 따라 생성)
+     * @param metricsBackend 지표를 함께 기록할 백엔드 (null이면 ServiceLoader로 찾고, 없으면 기록 안 함)
+     */
+    public ServiceFactory(ReviewConfig config, OkHttpClient httpClient, ReviewCache reviewCache,
+                          ReviewMetrics metricsBackend) {
         this.config = config;
+        this.httpClient = httpClient;
+        this.reviewCache = reviewCache;
+        this.metricsBackend = metricsBackend;
     }
 
     /**
-     * GitService 인스턴스 생성
+     * GitService 인스턴스 반환 (최초 호출 시 생성)
      * 플랫폼에 따라 GitHubServiceImpl 또는 GiteaServiceImpl 반환
+     * 로컬 diff 모드면 LocalGitServiceImpl이 변경 파일을 계산하고 나머지는 플랫폼 구현체에 위임
      *
      * @return GitService 인스턴스
      * @throws IOException API 연결 실패 시
      */
-    public GitService createGitService() throws IOException {
-        if (config.isGitea()) {
-            return new GiteaServiceImpl(config);
-        } else {
-            return new GitHubServiceImpl(config);
+    public synchronized GitService createGitService() throws IOException {
+        if (gitService == null) {
+            if (config.isGitea()) {
+                gitService = new GiteaServiceImpl(config, httpClient);
+            } else {
+                gitService = new GitHubServiceImpl(config, httpClient);
+            }
+            if (config.isLocalDiff()) {
+                gitService = new LocalGitServiceImpl(config, gitService);
+            }
+        }
+        return gitService;
+    }
+
+    /**
+     * ReviewCache 인스턴스 반환 (최초 호출 시 생성)
+     * 캐시 디렉터리가 설정되지 않았거나 열 수 없으면 캐시를 사용하지 않음
+     *
+     * @return ReviewCache 인스턴스
+     */
+    public synchronized ReviewCache createReviewCache() {
+        if (reviewCache == null) {
+            reviewCache = openReviewCache();
+        }
+        return reviewCache;
+    }
+
+    private ReviewCache openReviewCache() {
+        if (!config.isCacheEnabled()) {
+            return new NoOpReviewCache();
+        }
+        try {
+            return new FileReviewCache(Path.of(config.getCacheDir()), config.getCacheMaxBytes());
+        } catch (IOException e) {
+            System.err.println("⚠️ 리뷰 캐시를 열 수 없어 캐시 없이 진행합니다: " + e.getMessage());
+            return new NoOpReviewCache();
+        }
+    }
+
+    /**
+     * 실행 지표 인스턴스 반환 (최초 호출 시 생성)
+     * 실행 요약을 모으면서 지정된 백엔드나 ServiceLoader로 등록된 첫 구현체에도 함께 기록
+     *
+     * @return 실행 요약 지표
+     */
+    public synchronized SummaryReviewMetrics createMetrics() {
+        if (metrics == null) {
+            if (metricsBackend == null) {
+                metricsBackend = ServiceLoader.load(ReviewMetrics.class).findFirst().orElseGet(NoOpReviewMetrics::new);
+            }
+            metrics = new SummaryReviewMetrics(metricsBackend);
         }
+        return metrics;
     }
 
     /**
-     * ClaudeService 인스턴스 생성
+     * ClaudeService 인스턴스 반환 (최초 호출 시 생성)
      *
      * @return ClaudeService 인스턴스
      */
-    public ClaudeService createClaudeService() {
-        return new ClaudeService(config);
+    public synchronized ClaudeService createClaudeService() {
+        if (claudeService == null) {
+            claudeService = new ClaudeService(config, createReviewCache(), httpClient, createMetrics());
+        }
+        return claudeService;
     }
 
     /**
-     * ReviewService 인스턴스 생성 (의존성 주입)
+     * DiffMinimizer 인스턴스 반환 (최초 호출 시 생성)
+     *
+     * @return DiffMinimizer 인스턴스
+     */
+    public synchronized DiffMinimizer createDiffMinimizer() {
+        if (diffMinimizer == null) {
+            diffMinimizer = DiffMinimizer.fromConfig(config);
+        }
+        return diffMinimizer;
+    }
+
+    /**
+     * ReviewService 인스턴스 반환 (의존성 주입, 최초 호출 시 생성)
      *
      * @return ReviewService 인스턴스
      * @throws IOException API 연결 실패 시
      */
-    public ReviewService createReviewService() throws IOException {
-        GitService gitService = createGitService();
-        ClaudeService claudeService = createClaudeService();
-        return new ReviewService(gitService, claudeService);
+    public synchronized ReviewService createReviewService() throws IOException {
+        if (reviewService == null) {
+            reviewService = new ReviewService(createGitService(), createClaudeService(), config, createDiffMinimizer(),
+                    createMetrics());
+        }
+        return reviewService;
     }
 }
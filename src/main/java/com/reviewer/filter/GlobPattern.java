@@ -0,0 +1,173 @@
+package com.reviewer.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 경로 glob 하나를 세그먼트 단위로 컴파일한 결과
+ * "**"는 0개 이상의 디렉터리, "*"와 "?"는 세그먼트 안에서만 매칭
+ * "/"가 없는 glob(예: "*.java")은 gitignore처럼 모든 디렉터리의 파일 이름에 매칭
+ */
+final class GlobPattern {
+    private final Segment[] segments;
+    private final boolean basenameOnly;
+
+    private GlobPattern(Segment[] segments, boolean basenameOnly) {
+        this.segments = segments;
+        this.basenameOnly = basenameOnly;
+    }
+
+    /**
+     * glob 컴파일
+     *
+     * @param glob 경로 glob
+     * @return 컴파일된 패턴
+     */
+    static GlobPattern compile(String glob) {
+        String trimmed = glob.trim();
+        if (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        // "dir/"은 그 아래 전체를 의미
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed + "**";
+        }
+
+        boolean basenameOnly = trimmed.indexOf('/') < 0;
+        String[] parts = trimmed.split("/");
+        List<Segment> segments = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            // 연속된 "**"는 하나와 같음
+            if (part.equals("**") && !segments.isEmpty() && segments.get(segments.size() - 1).anyDepth) {
+                continue;
+            }
+            segments.add(Segment.compile(part));
+        }
+        return new GlobPattern(segments.toArray(new Segment[0]), basenameOnly);
+    }
+
+    /**
+     * 세그먼트로 나눈 경로와 매칭
+     *
+     * @param path 경로 세그먼트 ("/" 기준 분할)
+     * @return 매칭 여부
+     */
+    boolean matches(String[] path) {
+        if (basenameOnly) {
+            return path.length > 0 && (segments[0].anyDepth || segments[0].matches(path[path.length - 1]));
+        }
+
+        // matched[i]: 지금까지의 glob 세그먼트가 path[0..i)와 매칭되는지 (O(경로 길이 × glob 길이))
+        boolean[] matched = new boolean[path.length + 1];
+        boolean[] next = new boolean[path.length + 1];
+        matched[0] = true;
+        for (Segment segment : segments) {
+            Arrays.fill(next, false);
+            if (segment.anyDepth) {
+                boolean reachable = false;
+                for (int i = 0; i <= path.length; i++) {
+                    reachable |= matched[i];
+                    next[i] = reachable;
+                }
+            } else {
+                for (int i = 0; i < path.length; i++) {
+                    next[i + 1] = matched[i] && segment.matches(path[i]);
+                }
+            }
+            boolean[] swap = matched;
+            matched = next;
+            next = swap;
+        }
+        return matched[path.length];
+    }
+
+    /**
+     * glob 세그먼트 하나 (리터럴, 접미사, 접두사는 문자열 비교로 처리하고 나머지만 정규식 사용)
+     */
+    private static final class Segment {
+        final boolean anyDepth;
+        final String literal;
+        final String prefix;
+        final String suffix;
+        final Pattern regex;
+
+        private Segment(boolean anyDepth, String literal, String prefix, String suffix, Pattern regex) {
+            this.anyDepth = anyDepth;
+            this.literal = literal;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.regex = regex;
+        }
+
+        static Segment compile(String part) {
+            if (part.equals("**")) {
+                return new Segment(true, null, null, null, null);
+            }
+            if (!hasWildcard(part)) {
+                return new Segment(false, part, null, null, null);
+            }
+            int star = part.indexOf('*');
+            if (star >= 0 && part.indexOf('*', star + 1) < 0
+                    && !hasWildcard(part.substring(0, star)) && !hasWildcard(part.substring(star + 1))) {
+                return new Segment(false, null, part.substring(0, star), part.substring(star + 1), null);
+            }
+            return new Segment(false, null, null, null, Pattern.compile(toRegex(part)));
+        }
+
+        boolean matches(String name) {
+            if (literal != null) {
+                return literal.equals(name);
+            }
+            if (regex != null) {
+                return regex.matcher(name).matches();
+            }
+            return name.length() >= prefix.length() + suffix.length()
+                    && name.startsWith(prefix) && name.endsWith(suffix);
+        }
+
+        private static boolean hasWildcard(String part) {
+            for (int i = 0; i < part.length(); i++) {
+                char c = part.charAt(i);
+                if (c == '*' || c == '?' || c == '[' || c == '{') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String toRegex(String part) {
+            StringBuilder regex = new StringBuilder();
+            boolean inGroup = false;
+            for (int i = 0; i < part.length(); i++) {
+                char c = part.charAt(i);
+                switch (c) {
+                    case '*' -> regex.append("[^/]*");
+                    case '?' -> regex.append("[^/]");
+                    case '{' -> {
+                        regex.append("(?:");
+                        inGroup = true;
+                    }
+                    case '}' -> {
+                        regex.append(')');
+                        inGroup = false;
+                    }
+                    case ',' -> regex.append(inGroup ? "|" : ",");
+                    case '[' -> {
+                        int end = part.indexOf(']', i + 1);
+                        if (end < 0) {
+                            regex.append("\\[");
+                        } else {
+                            String set = part.substring(i + 1, end);
+                            regex.append('[').append(set.startsWith("!") ? "^" + set.substring(1) : set).append(']');
+                            i = end;
+                        }
+                    }
+                    default -> regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            return regex.toString();
+        }
+    }
+}
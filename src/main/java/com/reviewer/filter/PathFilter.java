@@ -0,0 +1,235 @@
+package com.reviewer.filter;
+
+import com.reviewer.model.FileChange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 대상 파일 필터 (설정마다 한 번 컴파일해 재사용)
+ * 1. 확장자는 뒤집은 문자열 trie로 파일명 끝에서부터 한 번만 훑어 매칭
+ * 2. 와일드카드 없는 제외 경로는 디렉터리 세그먼트 trie로 접두사 매칭
+ * 3. 나머지 include/exclude glob은 세그먼트 단위로 컴파일한 패턴으로 매칭
+ * 4. patch 길이가 한도를 넘으면 제외
+ */
+public final class PathFilter {
+    private static final PathFilter ACCEPT_ALL = new PathFilter(null, List.of(), null, List.of(), 0);
+
+    private final SuffixNode extensions;
+    private final List<GlobPattern> includes;
+    private final PrefixNode excludePrefixes;
+    private final List<GlobPattern> excludes;
+    private final int maxPatchLength;
+
+    private PathFilter(SuffixNode extensions, List<GlobPattern> includes,
+                       PrefixNode excludePrefixes, List<GlobPattern> excludes, int maxPatchLength) {
+        this.extensions = extensions;
+        this.includes = includes;
+        this.excludePrefixes = excludePrefixes;
+        this.excludes = excludes;
+        this.maxPatchLength = maxPatchLength;
+    }
+
+    /**
+     * 필터 컴파일
+     * 확장자와 include glob이 모두 지정되면 둘 다 만족해야 포함
+     *
+     * @param extensions 리뷰할 확장자 (비어 있으면 모든 확장자)
+     * @param includeGlobs 포함할 경로 glob (비어 있으면 모든 경로)
+     * @param excludeGlobs 제외할 경로 glob 또는 디렉터리 (예: "**&#47;generated/**", "docs/")
+     * @param maxPatchLength patch 최대 길이 (문자 수, 0 이하면 제한 없음)
+     * @return 컴파일된 필터
+     */
+    public static PathFilter compile(List<String> extensions, List<String> includeGlobs,
+                                     List<String> excludeGlobs, int maxPatchLength) {
+        SuffixNode suffixRoot = null;
+        if (extensions != null) {
+            for (String extension : extensions) {
+                String trimmed = extension.trim();
+                if (!trimmed.isEmpty()) {
+                    suffixRoot = suffixRoot != null ? suffixRoot : new SuffixNode();
+                    suffixRoot.add(trimmed);
+                }
+            }
+        }
+
+        List<GlobPattern> includes = new ArrayList<>();
+        if (includeGlobs != null) {
+            for (String glob : includeGlobs) {
+                if (!glob.isBlank()) {
+                    includes.add(GlobPattern.compile(glob));
+                }
+            }
+        }
+
+        PrefixNode prefixRoot = null;
+        List<GlobPattern> excludes = new ArrayList<>();
+        if (excludeGlobs != null) {
+            for (String glob : excludeGlobs) {
+                String trimmed = glob.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (isPlainPath(trimmed)) {
+                    prefixRoot = prefixRoot != null ? prefixRoot : new PrefixNode();
+                    prefixRoot.add(trimmed);
+                } else {
+                    excludes.add(GlobPattern.compile(trimmed));
+                }
+            }
+        }
+
+        return new PathFilter(suffixRoot, List.copyOf(includes), prefixRoot, List.copyOf(excludes), maxPatchLength);
+    }
+
+    /**
+     * 확장자만으로 필터 컴파일
+     *
+     * @param extensions 리뷰할 확장자
+     * @return 컴파일된 필터
+     */
+    public static PathFilter ofExtensions(List<String> extensions) {
+        return compile(extensions, List.of(), List.of(), 0);
+    }
+
+    /**
+     * 모든 파일을 통과시키는 필터
+     *
+     * @return 필터
+     */
+    public static PathFilter acceptAll() {
+        return ACCEPT_ALL;
+    }
+
+    /**
+     * 경로 조건 확인 (patch를 읽기 전 필터링용)
+     *
+     * @param filename 저장소 기준 파일 경로
+     * @return 리뷰 대상 여부
+     */
+    public boolean matchesPath(String filename) {
+        if (filename == null) {
+            return false;
+        }
+        if (extensions != null && !extensions.matchesSuffix(filename)) {
+            return false;
+        }
+        if (includes.isEmpty() && excludes.isEmpty() && excludePrefixes == null) {
+            return true;
+        }
+
+        String[] segments = filename.split("/");
+        if (!includes.isEmpty() && !anyMatch(includes, segments)) {
+            return false;
+        }
+        if (excludePrefixes != null && excludePrefixes.matchesPrefix(segments)) {
+            return false;
+        }
+        return !anyMatch(excludes, segments);
+    }
+
+    /**
+     * patch 길이 조건 확인
+     *
+     * @param patch 변경 내용
+     * @return 한도 이내 여부
+     */
+    public boolean matchesSize(String patch) {
+        return maxPatchLength <= 0 || patch == null || patch.length() <= maxPatchLength;
+    }
+
+    /**
+     * 경로와 patch 길이 조건 모두 확인
+     *
+     * @param change 변경 파일
+     * @return 리뷰 대상 여부
+     */
+    public boolean matches(FileChange change) {
+        return matchesPath(change.getFilename()) && matchesSize(change.getPatch());
+    }
+
+    private static boolean anyMatch(List<GlobPattern> patterns, String[] segments) {
+        for (GlobPattern pattern : patterns) {
+            if (pattern.matches(segments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPlainPath(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return false;
+            }
+        }
+        // "/"가 없는 이름은 glob과 같이 모든 디렉터리의 파일 이름에 매칭해야 하므로 제외
+        return glob.indexOf('/') >= 0;
+    }
+
+    /**
+     * 확장자 trie (파일명 끝 문자부터 거꾸로 저장)
+     */
+    private static final class SuffixNode {
+        private final Map<Character, SuffixNode> children = new HashMap<>();
+        private boolean terminal;
+
+        void add(String suffix) {
+            SuffixNode node = this;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(suffix.charAt(i), c -> new SuffixNode());
+            }
+            node.terminal = true;
+        }
+
+        boolean matchesSuffix(String filename) {
+            SuffixNode node = this;
+            for (int i = filename.length() - 1; i >= 0; i--) {
+                node = node.children.get(filename.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 제외 경로 trie (디렉터리 세그먼트 단위)
+     */
+    private static final class PrefixNode {
+        private final Map<String, PrefixNode> children = new HashMap<>();
+        private boolean terminal;
+
+        void add(String path) {
+            String normalized = path.startsWith("/") ? path.substring(1) : path;
+            PrefixNode node = this;
+            for (String segment : normalized.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, s -> new PrefixNode());
+                }
+            }
+            node.terminal = true;
+        }
+
+        boolean matchesPrefix(String[] segments) {
+            PrefixNode node = this;
+            for (String segment : segments) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reviewer.http;
+
+import java.io.IOException;
+
+/**
+ * 서킷 브레이커
+ * 연속 실패가 임계값에 도달하면 일정 시간 동안 요청을 바로 실패시키고,
+ * 시간이 지나면 한 번의 시험 요청으로 회복 여부를 확인
+ */
+class CircuitBreaker {
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean open;
+    private boolean trialInFlight;
+
+    /**
+     * 생성자
+     *
+     * @param failureThreshold 회로를 여는 연속 실패 횟수
+     * @param openMillis 회로를 열어 두는 시간
+     */
+    CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000;
+    }
+
+    /**
+     * 요청 가능 여부 확인
+     * 열린 회로의 대기 시간이 지났으면 이 호출이 시험 요청이 됨. 시험 요청은 결과를 기록하지 못한 채 끝나면
+     * (타임아웃 외 중단, 속도 제한 응답 등) {@link #releaseTrial()}로 반납해야 다음 시험 요청이 가능
+     *
+     * @param host 대상 호스트 (오류 메시지용)
+     * @return 이 호출이 시험 요청이면 true
+     * @throws IOException 회로가 열려 있을 때
+     */
+    synchronized boolean checkAllowed(String host) throws IOException {
+        if (!open) {
+            return false;
+        }
+        if (System.nanoTime() - openedAt < openNanos || trialInFlight) {
+            throw new IOException("API 호출 차단 (연속 실패로 서킷 열림): " + host);
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        open = false;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (trialInFlight || consecutiveFailures >= failureThreshold) {
+            open = true;
+            openedAt = System.nanoTime();
+        }
+        trialInFlight = false;
+    }
+
+    /**
+     * 성공/실패 판정 없이 시험 요청 반납 (회로는 열린 채로 두고 다음 요청이 다시 시험)
+     */
+    synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+}
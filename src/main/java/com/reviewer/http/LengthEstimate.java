@@ -0,0 +1,15 @@
+package com.reviewer.http;
+
+/**
+ * 보내기 전에는 정확한 길이를 모르는 요청 본문 (chunked 전송)
+ * 속도 제어 인터셉터가 contentLength()를 모를 때 입력 토큰 추정에 사용
+ */
+public interface LengthEstimate {
+
+    /**
+     * 본문의 대략적인 문자 수
+     *
+     * @return 추정 길이
+     */
+    long estimatedLength();
+}
@@ -0,0 +1,290 @@
+package com.reviewer.http;
+
+import com.reviewer.metrics.ReviewMetrics;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공유 HTTP 클라이언트의 속도 제어 및 재시도 인터셉터
+ * - 호스트별 토큰 버킷 (요청 수, 입력 토큰)을 anthropic-ratelimit-* 응답 헤더로 보정
+ * - 429/529/503 및 연결 실패는 retry-after 또는 지터를 준 지수 백오프로 재시도
+ *   (연결 실패는 멱등 요청이거나 서버에 닿지 않은 경우만)
+ * - GitHub X-RateLimit-Remaining이 0이면 X-RateLimit-Reset까지 대기
+ * - 5xx와 연결 실패/읽기 타임아웃이 연속으로 쌓이면 서킷 브레이커로 잠시 호출을 차단
+ *   (429/529 속도 제한은 장애가 아닌 역압이므로 세지 않음)
+ * - 요청 태그로 {@link ReviewMetrics}가 주어지면 재시도 횟수와 전송 바이트를 기록
+ */
+public class RateControlInterceptor implements Interceptor {
+    private static final Set<Integer> RETRYABLE = Set.of(429, 503, 529);
+    // 속도 제한/과부하 응답: 재시도하되 서킷 브레이커 실패로 세지 않음
+    private static final Set<Integer> BACKPRESSURE = Set.of(429, 529);
+    // 서버가 처리했을 수 있는 오류는 멱등 요청(GET)만 재시도
+    private static final Set<Integer> RETRYABLE_IDEMPOTENT = Set.of(500, 502, 504);
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * 기본 설정 생성자 (재시도 4회, 1초부터 최대 60초 백오프)
+     */
+    public RateControlInterceptor() {
+        this(4, 1_000, 60_000);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param maxRetries 최대 재시도 횟수
+     * @param baseDelayMillis 첫 백오프 시간
+     * @param maxDelayMillis 최대 백오프 시간
+     */
+    public RateControlInterceptor(int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * 호스트별 속도 제어 상태
+     */
+    private static final class HostState {
+        // 첫 응답 헤더로 한도를 알기 전까지는 사실상 무제한
+        private static final double UNKNOWN_LIMIT = Double.MAX_VALUE / 2;
+
+        private final TokenBucket requests = new TokenBucket(UNKNOWN_LIMIT);
+        private final TokenBucket inputTokens = new TokenBucket(UNKNOWN_LIMIT);
+        private final CircuitBreaker circuitBreaker = new CircuitBreaker(5, 30_000);
+        private volatile long blockedUntilMillis;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String host = request.url().host();
+        HostState state = hosts.computeIfAbsent(host, key -> new HostState());
+        boolean idempotent = "GET".equals(request.method());
+        ReviewMetrics metrics = request.tag(ReviewMetrics.class);
+
+        for (int attempt = 0; ; attempt++) {
+            boolean trial = state.circuitBreaker.checkAllowed(host);
+            boolean settled = false;
+            try {
+                awaitCapacity(state, request);
+
+                Response response;
+                try {
+                    response = chain.proceed(request);
+                    // chunked 본문은 보낸 뒤에야 길이를 알 수 있으므로 응답을 받은 뒤 기록
+                    if (metrics != null && request.body() != null) {
+                        metrics.increment(ReviewMetrics.HTTP_BYTES_SENT, Math.max(0, request.body().contentLength()),
+                                "host", host);
+                    }
+                } catch (InterruptedIOException e) {
+                    if (!(e instanceof SocketTimeoutException)) {
+                        // 호출 취소/전체 타임아웃은 서버 상태와 무관하므로 판정 없이 중단
+                        throw e;
+                    }
+                    state.circuitBreaker.recordFailure();
+                    settled = true;
+                    if (attempt >= maxRetries || !idempotent) {
+                        throw e;
+                    }
+                    retryAfterFailure(metrics, host, attempt);
+                    continue;
+                } catch (IOException e) {
+                    state.circuitBreaker.recordFailure();
+                    settled = true;
+                    // 서버가 처리했을 수 있는 POST는 중복 댓글/과금을 막기 위해 재전송하지 않음
+                    if (attempt >= maxRetries || !(idempotent || neverReachedServer(e))) {
+                        throw e;
+                    }
+                    retryAfterFailure(metrics, host, attempt);
+                    continue;
+                }
+
+                updateLimits(state, response);
+                int code = response.code();
+                boolean backpressure = BACKPRESSURE.contains(code) || isGitHubRateLimited(response);
+                boolean retryable = backpressure
+                        || RETRYABLE.contains(code)
+                        || (idempotent && RETRYABLE_IDEMPOTENT.contains(code));
+
+                if (!backpressure) {
+                    if (code >= 500) {
+                        state.circuitBreaker.recordFailure();
+                    } else {
+                        state.circuitBreaker.recordSuccess();
+                    }
+                    settled = true;
+                }
+
+                if (!retryable || attempt >= maxRetries) {
+                    return response;
+                }
+
+                long delay = retryDelayMillis(response, attempt);
+                response.close();
+                if (metrics != null) {
+                    metrics.increment(ReviewMetrics.HTTP_RETRIES, 1, "host", host, "status", String.valueOf(code));
+                }
+                System.out.println("⏳ " + host + " 응답 " + code + ", " + delay + "ms 후 재시도 ("
+                        + (attempt + 1) + "/" + maxRetries + ")");
+                TokenBucket.sleepNanos(delay * 1_000_000);
+            } finally {
+                // 결과를 기록하지 못한 시험 요청은 반납해야 호스트가 영구히 차단되지 않음
+                if (trial && !settled) {
+                    state.circuitBreaker.releaseTrial();
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결 실패 재시도 기록 후 백오프 대기
+     */
+    private void retryAfterFailure(ReviewMetrics metrics, String host, int attempt) throws IOException {
+        if (metrics != null) {
+            metrics.increment(ReviewMetrics.HTTP_RETRIES, 1, "host", host, "status", "connection");
+        }
+        TokenBucket.sleepNanos(backoffMillis(attempt) * 1_000_000);
+    }
+
+    /**
+     * 요청이 서버에 전달되지 않았음이 확실한 연결 실패인지 (연결 거부, 호스트 조회 실패)
+     */
+    private static boolean neverReachedServer(IOException e) {
+        return e instanceof ConnectException || e instanceof UnknownHostException
+                || e instanceof NoRouteToHostException;
+    }
+
+    /**
+     * 요청 수/입력 토큰 버킷과 차단 시각을 확인해 필요한 만큼 대기
+     */
+    private void awaitCapacity(HostState state, Request request) throws IOException {
+        long blockedFor = state.blockedUntilMillis - System.currentTimeMillis();
+        if (blockedFor > 0) {
+            TokenBucket.sleepNanos(Math.min(blockedFor, maxDelayMillis) * 1_000_000);
+        }
+
+        state.requests.acquire(1);
+        if (request.header("anthropic-version") != null) {
+            state.inputTokens.acquire(estimateInputTokens(request.body()));
+        }
+    }
+
+    private static long estimateInputTokens(RequestBody body) throws IOException {
+        if (body == null) {
+            return 0;
+        }
+        long length = body.contentLength();
+        if (length < 0 && body instanceof LengthEstimate estimate) {
+            length = estimate.estimatedLength();
+        }
+        return length > 0 ? length / CHARS_PER_TOKEN : 0;
+    }
+
+    /**
+     * 응답의 속도 제한 헤더로 버킷 보정
+     */
+    private void updateLimits(HostState state, Response response) {
+        syncBucket(state.requests, response, "anthropic-ratelimit-requests");
+        syncBucket(state.inputTokens, response, "anthropic-ratelimit-input-tokens");
+
+        // 출력 토큰은 미리 알 수 없으므로 소진되면 reset 시각까지 막음
+        String outputRemaining = response.header("anthropic-ratelimit-output-tokens-remaining");
+        if (outputRemaining != null && parseDouble(outputRemaining) <= 0) {
+            long reset = parseResetMillis(response.header("anthropic-ratelimit-output-tokens-reset"));
+            state.blockedUntilMillis = Math.max(state.blockedUntilMillis, reset);
+        }
+
+        String githubRemaining = response.header("X-RateLimit-Remaining");
+        if (githubRemaining != null && parseDouble(githubRemaining) <= 0) {
+            String reset = response.header("X-RateLimit-Reset");
+            if (reset != null) {
+                state.blockedUntilMillis = Math.max(state.blockedUntilMillis, Long.parseLong(reset.trim()) * 1000);
+            }
+        }
+    }
+
+    private static void syncBucket(TokenBucket bucket, Response response, String prefix) {
+        String remaining = response.header(prefix + "-remaining");
+        if (remaining == null) {
+            return;
+        }
+        String limit = response.header(prefix + "-limit");
+        bucket.sync(limit != null ? parseDouble(limit) : -1, parseDouble(remaining));
+    }
+
+    private static boolean isGitHubRateLimited(Response response) {
+        return (response.code() == 403 || response.code() == 429)
+                && "0".equals(response.header("X-RateLimit-Remaining"));
+    }
+
+    /**
+     * 재시도 대기 시간: retry-after → GitHub reset → 지터를 준 지수 백오프 순으로 결정
+     */
+    private long retryDelayMillis(Response response, int attempt) {
+        String retryAfter = response.header("retry-after");
+        if (retryAfter != null) {
+            try {
+                return Math.min((long) (Double.parseDouble(retryAfter.trim()) * 1000), maxDelayMillis);
+            } catch (NumberFormatException e) {
+                // HTTP 날짜 형식은 백오프로 대체
+            }
+        }
+
+        String githubReset = response.header("X-RateLimit-Reset");
+        if (isGitHubRateLimited(response) && githubReset != null) {
+            long wait = Long.parseLong(githubReset.trim()) * 1000 - System.currentTimeMillis();
+            return Math.max(0, Math.min(wait, maxDelayMillis));
+        }
+
+        return backoffMillis(attempt);
+    }
+
+    /**
+     * full jitter 지수 백오프
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private static long parseResetMillis(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Instant.parse(value.trim()).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return System.currentTimeMillis() + Duration.ofSeconds(1).toMillis();
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.MAX_VALUE;
+        }
+    }
+}
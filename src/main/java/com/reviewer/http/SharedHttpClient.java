@@ -0,0 +1,55 @@
+package com.reviewer.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 전체에서 공유하는 HTTP 클라이언트
+ * Claude, GitHub, Gitea 호출이 커넥션 풀과 Dispatcher 스레드를 함께 사용해
+ * TLS 핸드셰이크와 스레드 풀 생성을 한 번으로 줄임
+ * 속도 제한과 재시도도 여기서 일괄 적용 ({@link RateControlInterceptor})
+ */
+public final class SharedHttpClient {
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+    private static final int KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS = 64;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    private SharedHttpClient() {
+        // Utility class
+    }
+
+    /**
+     * 공유 클라이언트 반환 (최초 호출 시 생성)
+     *
+     * @return 공유 OkHttpClient
+     */
+    public static OkHttpClient get() {
+        return Holder.CLIENT;
+    }
+
+    private static final class Holder {
+        private static final OkHttpClient CLIENT = create();
+    }
+
+    private static OkHttpClient create() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .addInterceptor(new RateControlInterceptor())
+                .connectTimeout(60, TimeUnit.SECONDS)
+                .readTimeout(180, TimeUnit.SECONDS)    // 3분
+                .writeTimeout(60, TimeUnit.SECONDS)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.reviewer.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * 토큰 버킷
+ * 용량만큼 채워진 상태에서 시작해 초당 일정량씩 다시 채워지며,
+ * 응답 헤더로 받은 실제 잔여량/한도로 주기적으로 보정
+ */
+class TokenBucket {
+    private double capacity;
+    private double tokens;
+    private double refillPerNano;
+    private long lastRefill;
+
+    /**
+     * 생성자
+     *
+     * @param capacity 버킷 용량 (분당 한도)
+     */
+    TokenBucket(double capacity) {
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refillPerNano = capacity / 60_000_000_000.0;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 토큰을 얻을 때까지 대기 후 차감
+     * 요청량이 용량보다 크면 용량만큼만 기다림 (요청 자체를 막지 않음)
+     *
+     * @param amount 필요한 토큰 수
+     * @throws IOException 대기 중 인터럽트 시
+     */
+    void acquire(double amount) throws IOException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            double needed = Math.min(amount, capacity);
+            if (tokens >= needed) {
+                tokens -= amount;
+                return;
+            }
+            waitNanos = (long) ((needed - tokens) / refillPerNano);
+            tokens -= amount;
+        }
+        sleepNanos(waitNanos);
+    }
+
+    /**
+     * 응답 헤더의 한도/잔여량으로 보정
+     *
+     * @param limit 분당 한도 (모르면 음수)
+     * @param remaining 현재 잔여량
+     */
+    synchronized void sync(double limit, double remaining) {
+        refill();
+        if (limit > 0) {
+            capacity = limit;
+            refillPerNano = limit / 60_000_000_000.0;
+        }
+        tokens = Math.min(tokens, remaining);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+
+    static void sleepNanos(long nanos) throws IOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 대기가 중단되었습니다.");
+        }
+    }
+}
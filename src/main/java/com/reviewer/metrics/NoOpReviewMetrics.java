@@ -0,0 +1,27 @@
+package com.reviewer.metrics;
+
+import java.time.Duration;
+
+/**
+ * 아무것도 기록하지 않는 지표 (지표 백엔드가 없을 때 기본값)
+ */
+public class NoOpReviewMetrics implements ReviewMetrics {
+    private static final Span NO_OP_SPAN = () -> {
+        // 기록하지 않음
+    };
+
+    @Override
+    public void recordDuration(String name, Duration duration, String... tags) {
+        // 기록하지 않음
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        // 기록하지 않음
+    }
+
+    @Override
+    public Span startSpan(String stage) {
+        return NO_OP_SPAN;
+    }
+}
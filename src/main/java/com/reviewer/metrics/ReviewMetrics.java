@@ -0,0 +1,73 @@
+package com.reviewer.metrics;
+
+import java.time.Duration;
+
+/**
+ * 리뷰 실행 지표 SPI
+ * 단계별 소요 시간, 토큰 사용량, 재시도 횟수, 전송 바이트, 제외된 파일 수를 이름과 태그로 기록
+ * 태그는 키, 값 순서의 쌍이라 Micrometer Timer/Counter나 OpenTelemetry 계측기에 그대로 옮길 수 있음
+ * META-INF/services/com.reviewer.metrics.ReviewMetrics에 구현체를 등록하면 자동으로 사용
+ */
+public interface ReviewMetrics {
+
+    /** 단계별 소요 시간 (태그: stage) */
+    String STAGE_DURATION = "review.stage.duration";
+
+    /** 토큰 사용량 (태그: model, type=input/output/cache_creation/cache_read) */
+    String TOKENS = "review.tokens";
+
+    /** 리뷰 대상 파일 수 (태그: state=fetched/reviewed) */
+    String FILES = "review.files";
+
+    /** 리뷰에서 제외된 파일 수 (태그: reason=minimized/triage/budget) */
+    String FILES_FILTERED = "review.files.filtered";
+
+    /** HTTP 재시도 횟수 (태그: host, status) */
+    String HTTP_RETRIES = "review.http.retries";
+
+    /** HTTP 요청 본문 전송 바이트 (태그: host) */
+    String HTTP_BYTES_SENT = "review.http.bytes_sent";
+
+    /**
+     * 소요 시간 기록
+     *
+     * @param name 지표 이름
+     * @param duration 소요 시간
+     * @param tags 키, 값 순서의 태그
+     */
+    void recordDuration(String name, Duration duration, String... tags);
+
+    /**
+     * 카운터 증가
+     *
+     * @param name 지표 이름
+     * @param amount 증가량
+     * @param tags 키, 값 순서의 태그
+     */
+    void increment(String name, long amount, String... tags);
+
+    /**
+     * 리뷰 단계 구간 시작
+     * 기본 구현은 구간이 끝날 때 소요 시간을 {@link #STAGE_DURATION}으로 기록하며,
+     * 트레이싱 백엔드를 쓰는 구현체는 재정의해 span을 열고 닫으면 됨
+     *
+     * @param stage 단계 이름 (fetch_files, build_prompt, claude_call, post_comment 등)
+     * @return 닫으면 끝나는 구간
+     */
+    default Span startSpan(String stage) {
+        long start = System.nanoTime();
+        return () -> recordDuration(STAGE_DURATION, Duration.ofNanos(System.nanoTime() - start), "stage", stage);
+    }
+
+    /**
+     * 리뷰 단계 구간 (try-with-resources로 사용)
+     */
+    interface Span extends AutoCloseable {
+
+        /**
+         * 구간 종료
+         */
+        @Override
+        void close();
+    }
+}
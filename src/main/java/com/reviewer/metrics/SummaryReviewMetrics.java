@@ -0,0 +1,199 @@
+package com.reviewer.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 한 번의 지표를 메모리에 모아 JSON 요약으로 내보내는 지표
+ * 기록한 값은 그대로 delegate(Micrometer, OpenTelemetry 등)에도 전달
+ */
+public class SummaryReviewMetrics implements ReviewMetrics {
+    private final ReviewMetrics delegate;
+    private final Map<Key, TimerStats> timers = new ConcurrentHashMap<>();
+    private final Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 기본 생성자 (요약만 기록)
+     */
+    public SummaryReviewMetrics() {
+        this(new NoOpReviewMetrics());
+    }
+
+    /**
+     * 생성자
+     *
+     * @param delegate 함께 기록할 지표 백엔드
+     */
+    public SummaryReviewMetrics(ReviewMetrics delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 지표 이름과 태그 조합
+     */
+    private record Key(String name, List<String> tags) {
+
+        static Key of(String name, String... tags) {
+            if (tags.length % 2 != 0) {
+                throw new IllegalArgumentException("태그는 키, 값 쌍이어야 합니다: " + List.of(tags));
+            }
+            return new Key(name, List.of(tags));
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", name);
+            JsonObject tagJson = new JsonObject();
+            for (int i = 0; i < tags.size(); i += 2) {
+                tagJson.addProperty(tags.get(i), tags.get(i + 1));
+            }
+            json.add("tags", tagJson);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return name + tags;
+        }
+    }
+
+    /**
+     * 타이머 누적값 (횟수, 합계, 최댓값)
+     */
+    private static final class TimerStats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+
+    @Override
+    public void recordDuration(String name, Duration duration, String... tags) {
+        timers.computeIfAbsent(Key.of(name, tags), key -> new TimerStats()).record(duration.toNanos());
+        delegate.recordDuration(name, duration, tags);
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        counters.computeIfAbsent(Key.of(name, tags), key -> new LongAdder()).add(amount);
+        delegate.increment(name, amount, tags);
+    }
+
+    /**
+     * 요약용 소요 시간을 직접 재면서 delegate의 구간(trace span)도 함께 열고 닫음
+     */
+    @Override
+    public Span startSpan(String stage) {
+        Span span = delegate.startSpan(stage);
+        long start = System.nanoTime();
+        return () -> {
+            try {
+                span.close();
+            } finally {
+                timers.computeIfAbsent(Key.of(STAGE_DURATION, "stage", stage), key -> new TimerStats())
+                        .record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * 카운터 누적값 조회
+     *
+     * @param name 지표 이름
+     * @param tags 키, 값 순서의 태그
+     * @return 누적값 (기록이 없으면 0)
+     */
+    public long getCount(String name, String... tags) {
+        LongAdder counter = counters.get(Key.of(name, tags));
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * 타이머 기록 횟수 조회
+     *
+     * @param name 지표 이름
+     * @param tags 키, 값 순서의 태그
+     * @return 기록 횟수 (기록이 없으면 0)
+     */
+    public long getTimerCount(String name, String... tags) {
+        TimerStats stats = timers.get(Key.of(name, tags));
+        if (stats == null) {
+            return 0;
+        }
+        synchronized (stats) {
+            return stats.count;
+        }
+    }
+
+    /**
+     * 대시보드 수집용 JSON 요약
+     * timers는 횟수/합계/최댓값(ms), counters는 누적값이며 이름과 태그 순으로 정렬
+     *
+     * @return JSON 요약
+     */
+    public JsonObject toJson() {
+        JsonArray timerJson = new JsonArray();
+        timers.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
+                .forEach(entry -> {
+                    TimerStats stats = entry.getValue();
+                    JsonObject json = entry.getKey().toJson();
+                    synchronized (stats) {
+                        json.addProperty("count", stats.count);
+                        json.addProperty("totalMillis", toMillis(stats.totalNanos));
+                        json.addProperty("maxMillis", toMillis(stats.maxNanos));
+                    }
+                    timerJson.add(json);
+                });
+
+        JsonArray counterJson = new JsonArray();
+        counters.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
+                .forEach(entry -> {
+                    JsonObject json = entry.getKey().toJson();
+                    json.addProperty("value", entry.getValue().sum());
+                    counterJson.add(json);
+                });
+
+        JsonObject summary = new JsonObject();
+        summary.add("timers", timerJson);
+        summary.add("counters", counterJson);
+        return summary;
+    }
+
+    /**
+     * 실행 요약을 한 줄 JSON으로 출력하고, 경로가 주어지면 파일로도 저장
+     *
+     * @param path 저장할 파일 경로 (null이나 빈 값이면 저장하지 않음)
+     * @throws IOException 파일 저장 실패 시
+     */
+    public void report(String path) throws IOException {
+        JsonObject summary = toJson();
+        System.out.println("📈 실행 지표: " + summary);
+        if (path != null && !path.isBlank()) {
+            Files.writeString(Path.of(path), new GsonBuilder().setPrettyPrinting().create().toJson(summary),
+                    StandardCharsets.UTF_8);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -1,29 +1,95 @@
 package com.reviewer.model;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 파일 변경 정보 DTO
+ * patch는 {@link PatchStorage}에 따라 힙 또는 메모리 맵 임시 파일에 보관
  *
  * @author claude-reviewer
  */
 @Getter
-@AllArgsConstructor
 public class FileChange {
     private final String filename;
-    private final String patch;
     private final String status;
 
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> patch;
+
+    // patch 저장 방식 (withPatch로 만든 FileChange도 같은 방식 사용)
+    private final PatchStorage storage;
+
+    /**
+     * 생성자 (patch를 힙에 보관)
+     *
+     * @param filename 파일 경로
+     * @param patch 변경 내용 (unified diff hunk)
+     * @param status 변경 상태 (added, modified, removed 등)
+     */
+    public FileChange(String filename, String patch, String status) {
+        this(filename, patch, status, PatchStorage.IN_MEMORY);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param filename 파일 경로
+     * @param patch 변경 내용 (unified diff hunk)
+     * @param status 변경 상태 (added, modified, removed 등)
+     * @param storage patch 저장 방식
+     */
+    public FileChange(String filename, String patch, String status, PatchStorage storage) {
+        this.filename = filename;
+        this.status = status;
+        this.storage = storage;
+        this.patch = storage.store(patch);
+    }
+
+    /**
+     * 변경 내용 (임시 파일에 보관된 patch는 호출할 때마다 읽어 옴)
+     *
+     * @return patch 문자열
+     */
+    public String getPatch() {
+        return patch.get();
+    }
+
+    /**
+     * patch만 바꾼 FileChange (같은 저장 방식 사용)
+     *
+     * @param newPatch 새 변경 내용
+     * @return 새 FileChange
+     */
+    public FileChange withPatch(String newPatch) {
+        return new FileChange(filename, newPatch, status, storage);
+    }
+
     /**
      * 파일이 지정된 확장자와 매칭되는지 확인
      *
      * @param extensions 확장자 목록
      * @return 매칭 여부
+     * @deprecated 호출마다 목록을 훑음. 한 번 컴파일한 {@link com.reviewer.filter.PathFilter} 사용
      */
+    @Deprecated
     public boolean matchesExtensions(List<String> extensions) {
+        return matchesExtensions(filename, extensions);
+    }
+
+    /**
+     * 파일명이 지정된 확장자와 매칭되는지 확인 (FileChange 생성 전 필터링용)
+     *
+     * @param filename 파일명
+     * @param extensions 확장자 목록
+     * @return 매칭 여부
+     * @deprecated 호출마다 목록을 훑음. 한 번 컴파일한 {@link com.reviewer.filter.PathFilter} 사용
+     */
+    @Deprecated
+    public static boolean matchesExtensions(String filename, List<String> extensions) {
         return extensions.stream()
                 .anyMatch(ext -> filename.endsWith(ext.trim()));
     }
@@ -0,0 +1,29 @@
+package com.reviewer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 구조화 리뷰의 지적 사항 DTO
+ *
+ * @author claude-reviewer
+ */
+@Getter
+@AllArgsConstructor
+public class Finding {
+    private final String file;
+    private final int line;
+    private final String severity;
+    private final String comment;
+    private final String suggestion;
+
+    /**
+     * 중복 제거용 키 (파일, 줄, 공백을 정리한 지적 내용)
+     *
+     * @return 중복 판별 키
+     */
+    public String dedupeKey() {
+        String normalized = comment == null ? "" : comment.trim().replaceAll("\\s+", " ").toLowerCase();
+        return file + ":" + line + ":" + normalized;
+    }
+}
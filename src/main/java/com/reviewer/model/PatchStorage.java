@@ -0,0 +1,127 @@
+package com.reviewer.model;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * FileChange patch 저장 방식
+ * 기준보다 작은 patch는 힙에 두고, 큰 patch는 메모리 맵 임시 파일에 UTF-16으로 써 두었다가 읽을 때마다 복원
+ * 임시 파일은 매핑 직후 삭제하므로(매핑은 GC될 때까지 유효) 따로 정리할 필요가 없고,
+ * 변경 파일 목록이 커져도 힙에는 파일명과 매핑 핸들만 남음
+ * 기준은 임시 파일에 쓰는 UTF-16 바이트 수 (문자 수 × 2)
+ */
+public final class PatchStorage {
+
+    /**
+     * 항상 힙에 두는 저장 방식
+     */
+    public static final PatchStorage IN_MEMORY = new PatchStorage(0, null);
+
+    private final long spillThresholdBytes;
+    private final Path directory;
+    // 임시 파일을 한 번 쓰지 못하면 (디렉터리 쓰기 불가 등) 경고는 한 번만 하고 이후로는 힙에 보관
+    private final AtomicBoolean spillFailed = new AtomicBoolean();
+
+    private PatchStorage(long spillThresholdBytes, Path directory) {
+        this.spillThresholdBytes = spillThresholdBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * 기준보다 큰 patch를 시스템 임시 디렉터리에 두는 저장 방식
+     *
+     * @param spillThresholdBytes 임시 파일 크기(UTF-16 바이트)가 이 값을 넘는 patch를 임시 파일에 보관 (0 이하면 항상 힙)
+     * @return 저장 방식
+     */
+    public static PatchStorage spillOver(long spillThresholdBytes) {
+        return spillOver(spillThresholdBytes, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * 기준보다 큰 patch를 지정한 디렉터리에 두는 저장 방식
+     *
+     * @param spillThresholdBytes 임시 파일 크기(UTF-16 바이트)가 이 값을 넘는 patch를 임시 파일에 보관 (0 이하면 항상 힙)
+     * @param directory 임시 파일 디렉터리
+     * @return 저장 방식
+     */
+    public static PatchStorage spillOver(long spillThresholdBytes, Path directory) {
+        return spillThresholdBytes > 0 ? new PatchStorage(spillThresholdBytes, directory) : IN_MEMORY;
+    }
+
+    /**
+     * patch 보관 (임시 파일을 쓸 수 없으면 한 번만 경고하고 힙에 보관)
+     */
+    Supplier<String> store(String patch) {
+        if (spillThresholdBytes <= 0 || patch == null
+                || (long) patch.length() * Character.BYTES <= spillThresholdBytes || spillFailed.get()) {
+            return new InMemoryPatch(patch);
+        }
+        try {
+            return MappedPatch.write(directory, patch);
+        } catch (IOException e) {
+            if (spillFailed.compareAndSet(false, true)) {
+                System.err.println("⚠️ patch를 임시 파일에 보관하지 못해 이후 patch는 메모리에 둡니다: " + e.getMessage());
+            }
+            return new InMemoryPatch(patch);
+        }
+    }
+
+    /**
+     * 힙에 둔 patch
+     */
+    private record InMemoryPatch(String patch) implements Supplier<String> {
+
+        @Override
+        public String get() {
+            return patch;
+        }
+    }
+
+    /**
+     * 메모리 맵 임시 파일에 둔 patch (읽을 때마다 문자열로 복원)
+     */
+    private static final class MappedPatch implements Supplier<String> {
+        private final MappedByteBuffer buffer;
+
+        private MappedPatch(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * 임시 파일을 patch 크기로 매핑해 문자를 바로 쓴 뒤 파일 삭제
+         */
+        static MappedPatch write(Path directory, String patch) throws IOException {
+            Path file = Files.createTempFile(directory, "claude-reviewer-patch-", ".tmp");
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) patch.length() * Character.BYTES);
+                buffer.asCharBuffer().put(patch);
+            } finally {
+                deleteQuietly(file);
+            }
+            return new MappedPatch(buffer);
+        }
+
+        /**
+         * 매핑된 파일 삭제 (매핑 중 삭제할 수 없는 OS면 JVM 종료 시 삭제)
+         */
+        private static void deleteQuietly(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+
+        @Override
+        public String get() {
+            return buffer.duplicate().asCharBuffer().toString();
+        }
+    }
+}
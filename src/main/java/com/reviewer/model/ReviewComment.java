@@ -0,0 +1,17 @@
+package com.reviewer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PR 리뷰의 인라인 댓글 DTO (새 파일 기준 줄 번호)
+ *
+ * @author claude-reviewer
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewComment {
+    private final String path;
+    private final int line;
+    private final String body;
+}
@@ -0,0 +1,18 @@
+package com.reviewer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 구조화 리뷰 결과 DTO (요약 + 파일/줄 단위 지적 사항)
+ *
+ * @author claude-reviewer
+ */
+@Getter
+@AllArgsConstructor
+public class StructuredReview {
+    private final String summary;
+    private final List<Finding> findings;
+}
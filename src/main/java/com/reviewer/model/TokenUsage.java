@@ -0,0 +1,40 @@
+package com.reviewer.model;
+
+import lombok.Getter;
+
+/**
+ * Messages API 토큰 사용량 누적 DTO
+ * 분할 리뷰처럼 여러 호출이 동시에 기록할 수 있도록 동기화
+ *
+ * @author claude-reviewer
+ */
+@Getter
+public class TokenUsage {
+    private long inputTokens;
+    private long outputTokens;
+    private long cacheCreationInputTokens;
+    private long cacheReadInputTokens;
+    private int requests;
+
+    /**
+     * 호출 한 건의 사용량 누적
+     *
+     * @param input 입력 토큰 수 (캐시 제외)
+     * @param output 출력 토큰 수
+     * @param cacheCreation 프롬프트 캐시 쓰기 토큰 수
+     * @param cacheRead 프롬프트 캐시 읽기 토큰 수
+     */
+    public synchronized void add(long input, long output, long cacheCreation, long cacheRead) {
+        inputTokens += input;
+        outputTokens += output;
+        cacheCreationInputTokens += cacheCreation;
+        cacheReadInputTokens += cacheRead;
+        requests++;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("요청 %d회, 입력 %d, 출력 %d, 캐시 쓰기 %d, 캐시 읽기 %d 토큰",
+                requests, inputTokens, outputTokens, cacheCreationInputTokens, cacheReadInputTokens);
+    }
+}
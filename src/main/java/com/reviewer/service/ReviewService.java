@@ -1,11 +1,29 @@
 package com.reviewer.service;
 
+import com.reviewer.concurrent.BoundedExecutor;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.metrics.NoOpReviewMetrics;
+import com.reviewer.metrics.ReviewMetrics;
 import com.reviewer.model.FileChange;
+import com.reviewer.model.Finding;
+import com.reviewer.model.ReviewComment;
+import com.reviewer.model.StructuredReview;
 import com.reviewer.service.claude.ClaudeService;
+import com.reviewer.service.diff.DiffLines;
+import com.reviewer.service.diff.DiffMinimizer;
 import com.reviewer.service.git.GitService;
+import com.reviewer.service.git.ReviewMarker;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * 리뷰 프로세스를 조율하는 Facade 서비스
@@ -13,6 +31,9 @@ import java.util.List;
 public class ReviewService {
     private final GitService gitService;
     private final ClaudeService claudeService;
+    private final ReviewConfig config;
+    private final DiffMinimizer diffMinimizer;
+    private final ReviewMetrics metrics;
 
     /**
      * 생성자 주입
@@ -21,8 +42,59 @@ public class ReviewService {
      * @param claudeService Claude AI 서비스
      */
     public ReviewService(GitService gitService, ClaudeService claudeService) {
+        this(gitService, claudeService, ReviewConfig.builder().build());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param gitService Git 플랫폼 서비스
+     * @param claudeService Claude AI 서비스
+     * @param config 리뷰 설정
+     */
+    public ReviewService(GitService gitService, ClaudeService claudeService, ReviewConfig config) {
+        this(gitService, claudeService, config, DiffMinimizer.fromConfig(config));
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param gitService Git 플랫폼 서비스
+     * @param claudeService Claude AI 서비스
+     * @param config 리뷰 설정
+     * @param diffMinimizer 리뷰 전 diff 최소화 파이프라인
+     */
+    public ReviewService(GitService gitService, ClaudeService claudeService, ReviewConfig config,
+                         DiffMinimizer diffMinimizer) {
+        this(gitService, claudeService, config, diffMinimizer, new NoOpReviewMetrics());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param gitService Git 플랫폼 서비스
+     * @param claudeService Claude AI 서비스
+     * @param config 리뷰 설정
+     * @param diffMinimizer 리뷰 전 diff 최소화 파이프라인
+     * @param metrics 단계별 소요 시간과 파일 수를 기록할 지표
+     */
+    public ReviewService(GitService gitService, ClaudeService claudeService, ReviewConfig config,
+                         DiffMinimizer diffMinimizer, ReviewMetrics metrics) {
         this.gitService = gitService;
         this.claudeService = claudeService;
+        this.config = config;
+        this.diffMinimizer = diffMinimizer;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 리뷰 프로세스를 가상 스레드에서 비동기 실행
+     * 반환된 future를 cancel하면 진행 중인 API 호출까지 함께 취소
+     *
+     * @return 리뷰 완료 future
+     */
+    public CompletableFuture<Void> executeReviewAsync() {
+        return BoundedExecutor.runAsync("claude-review-pr-" + config.getPrNumber(), this::executeReview);
     }
 
     /**
@@ -31,26 +103,206 @@ public class ReviewService {
      * @throws IOException API 호출 실패 시
      */
     public void executeReview() throws IOException {
+        try (ReviewMetrics.Span ignored = metrics.startSpan("total")) {
+            runReview();
+        }
+    }
+
+    /**
+     * 파일 조회 → diff 최소화 → AI 리뷰 → 결과 게시 순으로 실행
+     */
+    private void runReview() throws IOException {
         System.out.println("🔍 변경된 파일 확인 중...");
 
-        // 1. 변경된 파일 가져오기
-        List<FileChange> changedFiles = gitService.getChangedFiles();
+        // 1. 변경된 파일 가져오기 (증분 모드면 마지막 리뷰 이후 변경분만)
+        // head SHA, 이전 리뷰 마커, 전체 파일 목록 조회는 서로 독립적이므로 동시에 수행
+        // 증분 변경분 조회까지 포함해 fetch_files 구간은 한 번만 기록
+        String headSha;
+        String baseSha;
+        List<FileChange> changedFiles;
+        try (ReviewMetrics.Span ignored = metrics.startSpan("fetch_files")) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> headFuture = executor.submit(gitService::getHeadSha);
+                Future<String> baseFuture = config.isIncremental()
+                        ? executor.submit(gitService::findLastReviewedSha)
+                        : null;
+                Future<List<FileChange>> filesFuture = config.isIncremental()
+                        ? null
+                        : executor.submit(gitService::getChangedFiles);
+
+                try {
+                    headSha = BoundedExecutor.await(headFuture);
+                    baseSha = baseFuture != null ? BoundedExecutor.await(baseFuture) : null;
+                    changedFiles = filesFuture != null ? BoundedExecutor.await(filesFuture) : null;
+                } catch (IOException e) {
+                    executor.shutdownNow();
+                    throw e;
+                }
+            }
+
+            if (headSha != null && headSha.equals(baseSha)) {
+                System.out.println("ℹ️ 이미 리뷰한 커밋입니다: " + headSha);
+                return;
+            }
+
+            // head SHA를 모르는 플랫폼이면 증분 리뷰 없이 전체 리뷰
+            if (baseSha != null && headSha != null) {
+                System.out.println("🔁 증분 리뷰: " + shortSha(baseSha) + ".." + shortSha(headSha));
+                changedFiles = gitService.getChangedFilesSince(baseSha);
+            } else if (changedFiles == null) {
+                baseSha = null;
+                changedFiles = gitService.getChangedFiles();
+            }
+        }
+
+        System.out.println("📝 " + changedFiles.size() + "개 파일 발견");
+        metrics.increment(ReviewMetrics.FILES, changedFiles.size(), "state", "fetched");
+        DiffMinimizer.Result minimized;
+        try (ReviewMetrics.Span ignored = metrics.startSpan("minimize")) {
+            minimized = diffMinimizer.minimize(changedFiles);
+        }
+        metrics.increment(ReviewMetrics.FILES_FILTERED, minimized.getRemovedFiles(), "reason", "minimized");
+        changedFiles = minimized.getChanges();
 
         if (changedFiles.isEmpty()) {
             System.out.println("ℹ️ 리뷰할 파일이 없습니다.");
             return;
         }
 
-        System.out.println("📝 " + changedFiles.size() + "개 파일 발견");
-
         // 2. Claude AI로 리뷰 수행
         System.out.println("🤖 AI 리뷰 진행 중...");
-        String reviewText = claudeService.reviewCode(changedFiles);
+        if (config.isStructuredOutput()) {
+            StructuredReview review = claudeService.reviewFindings(changedFiles);
+            logTokenUsage();
 
-        // 3. PR에 댓글 작성
-        System.out.println("💬 리뷰 결과 게시 중...");
-        gitService.postComment("## 🤖 Claude AI Code Review\n\n" + reviewText);
+            // 3. 인라인 댓글을 포함한 PR 리뷰 작성
+            System.out.println("💬 리뷰 결과 게시 중... (지적 사항 " + review.getFindings().size() + "개)");
+            try (ReviewMetrics.Span ignored = metrics.startSpan("post_comment")) {
+                postStructuredReview(review, changedFiles, headSha, baseSha);
+            }
+        } else {
+            String reviewText = claudeService.reviewCode(changedFiles);
+            logTokenUsage();
+
+            // 3. PR에 댓글 작성
+            System.out.println("💬 리뷰 결과 게시 중...");
+            try (ReviewMetrics.Span ignored = metrics.startSpan("post_comment")) {
+                postReview(reviewText, headSha, baseSha);
+            }
+        }
 
         System.out.println("✅ 리뷰 완료!");
     }
+
+    /**
+     * 토큰 사용량 출력 (1차 분류를 사용했으면 분류 모델 사용량도 따로 출력)
+     */
+    private void logTokenUsage() {
+        System.out.println("📊 토큰 사용량: " + claudeService.getTokenUsage());
+        if (claudeService.getTriageUsage().getRequests() > 0) {
+            System.out.println("📊 1차 분류 토큰 사용량: " + claudeService.getTriageUsage());
+        }
+    }
+
+    /**
+     * 리뷰 결과를 PR 댓글로 게시 (head SHA를 알면 리뷰한 SHA 마커 포함)
+     * 고정 댓글 모드면 이전 리뷰 댓글을 찾아 수정
+     * 증분 리뷰는 변경분만 담고 있어 전체 리뷰를 덮어쓰지 않도록 고정 댓글 모드여도 새 댓글로 게시
+     *
+     * @param reviewText 리뷰 결과 텍스트
+     * @param headSha 리뷰한 head 커밋 SHA
+     * @param baseSha 증분 리뷰 기준 SHA (전체 리뷰면 null)
+     * @throws IOException API 호출 실패 시
+     */
+    public void postReview(String reviewText, String headSha, String baseSha) throws IOException {
+        StringBuilder comment = new StringBuilder("## 🤖 Claude AI Code Review\n\n");
+        if (baseSha != null) {
+            comment.append("> 증분 리뷰: `").append(shortSha(baseSha)).append("..")
+                    .append(shortSha(headSha)).append("`\n\n");
+        }
+        comment.append(reviewText);
+        if (headSha != null) {
+            comment.append("\n\n").append(ReviewMarker.formatReviewedSha(headSha));
+        }
+
+        if (!config.isStickyComment() || baseSha != null) {
+            gitService.postComment(comment.toString());
+        } else if (!gitService.upsertStickyComment(comment.toString())) {
+            System.out.println("ℹ️ 리뷰 내용이 이전과 같아 댓글을 수정하지 않았습니다.");
+        }
+    }
+
+    /**
+     * 구조화 리뷰를 인라인 댓글이 포함된 PR 리뷰 하나로 게시
+     * diff 안의 줄을 가리키는 지적은 인라인 댓글로, 나머지는 리뷰 본문에 목록으로 포함
+     *
+     * @param review 구조화 리뷰 결과
+     * @param changes 리뷰한 변경 파일 (인라인 댓글 가능 줄 판별용)
+     * @param headSha 리뷰한 head 커밋 SHA
+     * @param baseSha 증분 리뷰 기준 SHA (전체 리뷰면 null)
+     * @throws IOException API 호출 실패 시
+     */
+    public void postStructuredReview(StructuredReview review, List<FileChange> changes,
+                                     String headSha, String baseSha) throws IOException {
+        Map<String, Set<Integer>> commentable = new HashMap<>();
+        for (FileChange change : changes) {
+            commentable.put(change.getFilename(), DiffLines.commentableLines(change.getPatch()));
+        }
+
+        List<ReviewComment> inline = new ArrayList<>();
+        List<Finding> general = new ArrayList<>();
+        for (Finding finding : review.getFindings()) {
+            Set<Integer> lines = commentable.get(finding.getFile());
+            if (lines != null && lines.contains(finding.getLine())) {
+                inline.add(new ReviewComment(finding.getFile(), finding.getLine(), formatFinding(finding)));
+            } else {
+                general.add(finding);
+            }
+        }
+
+        StringBuilder body = new StringBuilder("## 🤖 Claude AI Code Review\n\n");
+        if (baseSha != null) {
+            body.append("> 증분 리뷰: `").append(shortSha(baseSha)).append("..")
+                    .append(shortSha(headSha)).append("`\n\n");
+        }
+        body.append(review.getSummary()).append("\n\n");
+        if (!general.isEmpty()) {
+            body.append("ko".equals(config.getLanguage()) ? "### 기타 지적 사항\n\n" : "### Other findings\n\n");
+            for (Finding finding : general) {
+                body.append("- `").append(finding.getFile());
+                if (finding.getLine() > 0) {
+                    body.append(':').append(finding.getLine());
+                }
+                body.append("` ").append(formatFinding(finding).replace("\n\n", "\n  ")).append('\n');
+            }
+            body.append('\n');
+        }
+        if (headSha != null) {
+            body.append(ReviewMarker.formatReviewedSha(headSha));
+        }
+
+        gitService.postReview(body.toString(), headSha, inline);
+    }
+
+    /**
+     * 지적 사항 하나를 댓글 본문으로 변환
+     */
+    private static String formatFinding(Finding finding) {
+        String icon = switch (finding.getSeverity() == null ? "" : finding.getSeverity()) {
+            case "critical" -> "🔴";
+            case "major" -> "🟠";
+            case "minor" -> "🟡";
+            default -> "🔵";
+        };
+        StringBuilder sb = new StringBuilder(icon).append(" **").append(finding.getSeverity()).append("** ")
+                .append(finding.getComment());
+        if (finding.getSuggestion() != null && !finding.getSuggestion().isBlank()) {
+            sb.append("\n\n💡 ").append(finding.getSuggestion());
+        }
+        return sb.toString();
+    }
+
+    private static String shortSha(String sha) {
+        return sha.length() > 7 ? sha.substring(0, 7) : sha;
+    }
 }
@@ -0,0 +1,186 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.reviewer.config.ReviewConfig;
+import okhttp3.*;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Message Batches API 서비스
+ * 여러 Messages 요청을 한 번에 제출하고, 처리가 끝날 때까지 백오프하며 상태를 조회한 뒤 결과를 custom_id별로 반환
+ * 지연 시간보다 처리량과 비용이 중요한 야간 일괄 리뷰용
+ */
+public class ClaudeBatchService {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofMinutes(2);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofHours(24);
+
+    private final OkHttpClient client;
+    private final ReviewConfig config;
+    private final Gson gson;
+    private final Duration pollInterval;
+    private final Duration maxPollInterval;
+    private final Duration timeout;
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param client 공유 HTTP 클라이언트
+     */
+    public ClaudeBatchService(ReviewConfig config, OkHttpClient client) {
+        this(config, client, DEFAULT_POLL_INTERVAL, DEFAULT_MAX_POLL_INTERVAL, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * 생성자 주입 (상태 조회 간격 지정)
+     *
+     * @param config 리뷰 설정
+     * @param client 공유 HTTP 클라이언트
+     * @param pollInterval 첫 상태 조회 간격
+     * @param maxPollInterval 최대 상태 조회 간격 (조회마다 2배씩 증가)
+     * @param timeout 배치 완료 대기 한도
+     */
+    public ClaudeBatchService(ReviewConfig config, OkHttpClient client,
+                              Duration pollInterval, Duration maxPollInterval, Duration timeout) {
+        this.config = config;
+        this.client = client;
+        this.gson = new Gson();
+        this.pollInterval = pollInterval;
+        this.maxPollInterval = maxPollInterval;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 요청들을 배치로 제출하고 완료될 때까지 대기
+     *
+     * @param paramsById custom_id별 Messages API 요청 파라미터
+     * @return custom_id별 응답 message (성공한 요청만 포함)
+     * @throws IOException API 호출 실패, 중단 또는 대기 한도 초과 시
+     */
+    public Map<String, JsonObject> execute(Map<String, JsonObject> paramsById) throws IOException {
+        if (paramsById.isEmpty()) {
+            return Map.of();
+        }
+
+        JsonObject batch = submit(paramsById);
+        String batchId = batch.get("id").getAsString();
+        System.out.println("📨 Message Batch 제출: " + batchId + " (" + paramsById.size() + "개 요청)");
+
+        batch = waitForCompletion(batchId, batch);
+        return fetchResults(batch.get("results_url").getAsString());
+    }
+
+    /**
+     * 배치 생성 요청
+     */
+    private JsonObject submit(Map<String, JsonObject> paramsById) throws IOException {
+        JsonArray requests = new JsonArray();
+        paramsById.forEach((customId, params) -> {
+            JsonObject request = new JsonObject();
+            request.addProperty("custom_id", customId);
+            request.add("params", params);
+            requests.add(request);
+        });
+
+        JsonObject body = new JsonObject();
+        body.add("requests", requests);
+
+        Request request = newRequest(batchesUrl())
+                .post(RequestBody.create(body.toString(), JSON))
+                .build();
+        return executeJson(request, "Message Batch 제출 실패");
+    }
+
+    /**
+     * processing_status가 ended가 될 때까지 간격을 늘려가며 상태 조회
+     */
+    private JsonObject waitForCompletion(String batchId, JsonObject batch) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Duration interval = pollInterval;
+
+        while (!"ended".equals(batch.get("processing_status").getAsString())) {
+            if (System.nanoTime() > deadline) {
+                throw new IOException("Message Batch 대기 시간 초과: " + batchId);
+            }
+            sleep(interval);
+            interval = interval.multipliedBy(2).compareTo(maxPollInterval) > 0
+                    ? maxPollInterval
+                    : interval.multipliedBy(2);
+
+            Request request = newRequest(batchesUrl() + "/" + batchId).get().build();
+            batch = executeJson(request, "Message Batch 상태 조회 실패");
+        }
+        return batch;
+    }
+
+    /**
+     * 결과 JSONL을 한 줄씩 읽어 custom_id별로 매핑
+     */
+    private Map<String, JsonObject> fetchResults(String resultsUrl) throws IOException {
+        Request request = newRequest(resultsUrl).get().build();
+        Map<String, JsonObject> results = new HashMap<>();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Message Batch 결과 조회 실패: " + response);
+            }
+
+            BufferedSource source = response.body().source();
+            String line;
+            while ((line = source.readUtf8Line()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonObject entry = gson.fromJson(line, JsonObject.class);
+                String customId = entry.get("custom_id").getAsString();
+                JsonObject result = entry.getAsJsonObject("result");
+
+                if ("succeeded".equals(result.get("type").getAsString())) {
+                    results.put(customId, result.getAsJsonObject("message"));
+                } else {
+                    System.err.println("⚠️ 배치 요청 실패 (" + customId + "): " + result);
+                }
+            }
+        }
+        return results;
+    }
+
+    private String batchesUrl() {
+        return config.getAnthropicBaseUrl() + "/v1/messages/batches";
+    }
+
+    private Request.Builder newRequest(String url) {
+        return new Request.Builder()
+                .url(url)
+                .addHeader("x-api-key", config.getAnthropicApiKey())
+                .addHeader("anthropic-version", "2023-06-01")
+                .addHeader("content-type", "application/json");
+    }
+
+    private JsonObject executeJson(Request request, String errorMessage) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException(errorMessage + ": " + response);
+            }
+            return gson.fromJson(response.body().charStream(), JsonObject.class);
+        }
+    }
+
+    private static void sleep(Duration duration) throws IOException {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Message Batch 대기가 중단되었습니다.", e);
+        }
+    }
+}
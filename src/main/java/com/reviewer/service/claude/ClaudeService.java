@@ -2,27 +2,122 @@ package com.reviewer.service.claude;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.reviewer.cache.NoOpReviewCache;
+import com.reviewer.cache.ReviewCache;
+import com.reviewer.concurrent.BoundedExecutor;
 import com.reviewer.config.ReviewConfig;
+import com.reviewer.http.SharedHttpClient;
+import com.reviewer.metrics.NoOpReviewMetrics;
+import com.reviewer.metrics.ReviewMetrics;
 import com.reviewer.model.FileChange;
+import com.reviewer.model.Finding;
+import com.reviewer.model.StructuredReview;
+import com.reviewer.model.TokenUsage;
+import com.reviewer.service.diff.RelevanceScorer;
 import okhttp3.*;
+import okio.BufferedSource;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Claude AI 관련 서비스
  */
 public class ClaudeService {
-    private static final String ANTHROPIC_API_URL = "https://api.anthropic.com/v1/messages";
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    /**
+     * 프롬프트 버전 (프롬프트를 바꾸면 올려서 기존 리뷰 캐시를 무효화)
+     */
+    public static final String PROMPT_VERSION = "2";
+
+    // 구조화 리뷰 제출 도구 (tool_choice로 반드시 이 도구를 호출하게 함)
+    private static final String REVIEW_TOOL_NAME = "submit_review";
+    private static final JsonObject REVIEW_TOOL = JsonParser.parseString("""
+            {
+              "name": "submit_review",
+              "description": "Submit the code review as a summary and a list of line-level findings.",
+              "input_schema": {
+                "type": "object",
+                "properties": {
+                  "summary": {"type": "string"},
+                  "findings": {
+                    "type": "array",
+                    "items": {
+                      "type": "object",
+                      "properties": {
+                        "file": {"type": "string"},
+                        "line": {"type": "integer"},
+                        "severity": {"type": "string", "enum": ["critical", "major", "minor", "info"]},
+                        "comment": {"type": "string"},
+                        "suggestion": {"type": "string"}
+                      },
+                      "required": ["file", "line", "severity", "comment"]
+                    }
+                  }
+                },
+                "required": ["summary", "findings"]
+              }
+            }
+            """).getAsJsonObject();
+
+    // 1차 분류 제출 도구 (파일별로 상세 리뷰가 필요한 정도를 0~1로 보고)
+    private static final String TRIAGE_TOOL_NAME = "submit_triage";
+    private static final JsonObject TRIAGE_TOOL = JsonParser.parseString("""
+            {
+              "name": "submit_triage",
+              "description": "Report, for every file, how likely it is to need a detailed review.",
+              "input_schema": {
+                "type": "object",
+                "properties": {
+                  "files": {
+                    "type": "array",
+                    "items": {
+                      "type": "object",
+                      "properties": {
+                        "file": {"type": "string"},
+                        "risk": {"type": "number", "minimum": 0, "maximum": 1},
+                        "reason": {"type": "string"}
+                      },
+                      "required": ["file", "risk"]
+                    }
+                  }
+                },
+                "required": ["files"]
+              }
+            }
+            """).getAsJsonObject();
+
+    // 1차 분류 응답 출력 한도 (파일당 위험도와 한 문장 근거만 받음)
+    private static final int TRIAGE_MAX_TOKENS = 4096;
+
+    // 구조화 리뷰 최소 출력 한도 (지적 사항 JSON이 길어 텍스트 리뷰용 maxTokens로는 중간에 잘림)
+    private static final int FINDINGS_MAX_TOKENS = 8192;
 
     private final OkHttpClient client;
     private final ReviewConfig config;
     private final Gson gson;
+    private final ReviewCache cache;
+    private final String repositoryContext;
+    private final TokenUsage tokenUsage = new TokenUsage();
+    private final TokenUsage triageUsage = new TokenUsage();
+    private final DiffPacker packer;
+    private final ReviewMetrics metrics;
 
     /**
      * 생성자 주입
@@ -30,13 +125,80 @@ public class ClaudeService {
      * @param config 리뷰 설정
      */
     public ClaudeService(ReviewConfig config) {
+        this(config, new NoOpReviewCache());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param cache 파일별 리뷰 캐시
+     */
+    public ClaudeService(ReviewConfig config, ReviewCache cache) {
+        this(config, cache, SharedHttpClient.get());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param cache 파일별 리뷰 캐시
+     * @param client 공유 HTTP 클라이언트
+     */
+    public ClaudeService(ReviewConfig config, ReviewCache cache, OkHttpClient client) {
+        this(config, cache, client, new NoOpReviewMetrics());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param cache 파일별 리뷰 캐시
+     * @param client 공유 HTTP 클라이언트
+     * @param metrics 프롬프트 구성/API 호출 시간과 토큰 사용량을 기록할 지표
+     */
+    public ClaudeService(ReviewConfig config, ReviewCache cache, OkHttpClient client, ReviewMetrics metrics) {
         this.config = config;
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(180, TimeUnit.SECONDS)    // 3분
-                .writeTimeout(60, TimeUnit.SECONDS)
-                .build();
+        this.cache = cache;
+        this.client = client;
+        this.metrics = metrics;
         this.gson = new Gson();
+        this.repositoryContext = loadRepositoryContext(config.getGuidelinesPath());
+        this.packer = new DiffPacker(config.getChunkMaxTokens(), config.getMaxInputTokens(),
+                new RelevanceScorer(config.getRiskGlobs()));
+    }
+
+    /**
+     * 저장소 코딩 가이드라인 등 고정 컨텍스트 로드
+     */
+    private static String loadRepositoryContext(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        try {
+            return Files.readString(Path.of(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ 리뷰 가이드라인을 읽을 수 없습니다: " + path);
+            return null;
+        }
+    }
+
+    /**
+     * 누적 토큰 사용량 (프롬프트 캐시 쓰기/읽기 포함)
+     *
+     * @return 토큰 사용량
+     */
+    public TokenUsage getTokenUsage() {
+        return tokenUsage;
+    }
+
+    /**
+     * 1차 분류 모델의 누적 토큰 사용량
+     *
+     * @return 토큰 사용량 (분류를 사용하지 않으면 0)
+     */
+    public TokenUsage getTriageUsage() {
+        return triageUsage;
     }
 
     /**
@@ -52,6 +214,74 @@ public class ClaudeService {
         }
     }
 
+    /**
+     * 구조화 리뷰용 시스템 프롬프트 생성
+     */
+    private String getStructuredPrompt() {
+        Map<String, String> prompts = new HashMap<>();
+        initPrompts(prompts);
+        if ("ko".equals(config.getLanguage())) {
+            return prompts.get("ko.structured");
+        } else {
+            return prompts.get("en.structured");
+        }
+    }
+
+    /**
+     * 구조화된 system 블록 생성
+     * 지침과 저장소 컨텍스트처럼 호출마다 같은 앞부분에 cache_control 지점을 두어 프롬프트 캐시를 적중시킴
+     */
+    private JsonArray buildSystemBlocks(String instructions, boolean includeRepositoryContext) {
+        JsonArray blocks = new JsonArray();
+        blocks.add(textBlock(instructions));
+        if (includeRepositoryContext && repositoryContext != null) {
+            String header = "ko".equals(config.getLanguage())
+                    ? "저장소 코딩 가이드라인:\n\n"
+                    : "Repository coding guidelines:\n\n";
+            blocks.add(textBlock(header + repositoryContext));
+        }
+
+        if (config.isPromptCaching()) {
+            JsonObject cacheControl = new JsonObject();
+            cacheControl.addProperty("type", "ephemeral");
+            blocks.get(blocks.size() - 1).getAsJsonObject().add("cache_control", cacheControl);
+        }
+        return blocks;
+    }
+
+    private static JsonObject textBlock(String text) {
+        JsonObject block = new JsonObject();
+        block.addProperty("type", "text");
+        block.addProperty("text", text);
+        return block;
+    }
+
+    /**
+     * 1차 분류용 시스템 프롬프트 생성
+     */
+    private String getTriagePrompt() {
+        Map<String, String> prompts = new HashMap<>();
+        initPrompts(prompts);
+        if ("ko".equals(config.getLanguage())) {
+            return prompts.get("ko.triage");
+        } else {
+            return prompts.get("en.triage");
+        }
+    }
+
+    /**
+     * 분할 리뷰 결과 병합용 시스템 프롬프트 생성
+     */
+    private String getMergePrompt() {
+        Map<String, String> prompts = new HashMap<>();
+        initPrompts(prompts);
+        if ("ko".equals(config.getLanguage())) {
+            return prompts.get("ko.merge");
+        } else {
+            return prompts.get("en.merge");
+        }
+    }
+
     /**
      * 프롬프트 데이터 등록
      */
@@ -86,6 +316,90 @@ public class ClaudeService {
                     5. Only mention critical bugs, performance issues, or security vulnerabilities.
                     6. Positively mention already improved aspects.
 
+                    Review Format:
+                    - Improvements: [positive mentions]
+                    - Key Issues: [problems and suggestions]
+                    - Overall Opinion: [summary]
+                    """
+        );
+        prompts.put("ko.structured",
+                """
+                    경험 많은 시니어 개발자로서 코드 리뷰를 수행하고 결과를 submit_review 도구로 제출해줘.
+
+                    리뷰 지침:
+                    1. 심각한 버그, 성능 문제, 보안 취약점에 집중하고 사소한 스타일 문제는 무시해.
+                    2. 지적 사항마다 파일 경로와 새 파일 기준 줄 번호(각 줄 앞의 숫자)를 정확히 적어.
+                    3. 줄 번호는 번호가 표시된 줄 중에서만 골라.
+                    4. severity는 critical, major, minor, info 중 하나로 지정해.
+                    5. suggestion에는 구체적인 개선 방법을 적어.
+                    6. summary에는 개선된 사항과 전반적인 의견을 짧게 적어.
+                    """
+        );
+        prompts.put("en.structured",
+                """
+                    As an experienced senior developer, perform a code review and submit it with the submit_review tool.
+
+                    Review Guidelines:
+                    1. Focus on critical bugs, performance issues, and security vulnerabilities; ignore minor style issues.
+                    2. For each finding, give the file path and the exact new-file line number (the number before each line).
+                    3. Only pick line numbers that are shown in the diff.
+                    4. Set severity to one of critical, major, minor, info.
+                    5. Put a concrete fix in suggestion.
+                    6. Keep the summary short: improvements and overall opinion.
+                    """
+        );
+        prompts.put("ko.triage",
+                """
+                    변경사항을 빠르게 훑어보고 상세 리뷰가 필요한 파일을 골라 submit_triage 도구로 제출해줘.
+
+                    분류 지침:
+                    1. 주어진 모든 파일에 대해 risk를 0과 1 사이 숫자로 지정해.
+                    2. 버그, 보안 취약점, 동시성 문제, 성능 문제가 있을 수 있으면 risk를 높게 줘.
+                    3. 이름 변경, 주석, 포맷, 단순 상수 변경처럼 문제가 될 여지가 없으면 risk를 낮게 줘.
+                    4. 판단이 애매하면 risk를 높게 줘.
+                    5. reason에는 근거를 한 문장으로 적어.
+                    """
+        );
+        prompts.put("en.triage",
+                """
+                    Quickly skim the changes, pick the files that need a detailed review, and submit them with the submit_triage tool.
+
+                    Triage Guidelines:
+                    1. Give every file a risk between 0 and 1.
+                    2. Use a high risk when a bug, security vulnerability, concurrency issue, or performance problem is possible.
+                    3. Use a low risk for renames, comments, formatting, or trivial constant changes.
+                    4. When unsure, use a high risk.
+                    5. Put a one-sentence reason in reason.
+                    """
+        );
+        prompts.put("ko.merge",
+                """
+                    하나의 PR을 여러 묶음으로 나누어 리뷰한 결과들이 주어져.
+                    이를 하나의 통합된 코드 리뷰로 정리해줘.
+
+                    정리 지침:
+                    1. 중복되거나 같은 원인을 가리키는 지적은 하나로 합쳐.
+                    2. 심각한 버그, 성능 문제, 보안 취약점을 우선해서 정리해.
+                    3. 묶음 간 내용이 충돌하면 더 구체적인 근거가 있는 쪽을 따라.
+                    4. 새로운 지적을 추가하지 마.
+
+                    리뷰 형식:
+                    - 개선된 사항: [긍정적 언급]
+                    - 주요 이슈: [문제점과 개선 방안]
+                    - 전반적인 의견: [요약]
+                    """
+        );
+        prompts.put("en.merge",
+                """
+                    You are given reviews of one PR that was split into several parts.
+                    Consolidate them into a single, integrated code review.
+
+                    Consolidation Guidelines:
+                    1. Merge findings that are duplicated or share the same root cause.
+                    2. Prioritize critical bugs, performance issues, and security vulnerabilities.
+                    3. When parts conflict, follow the one with more concrete evidence.
+                    4. Do not add new findings.
+
                     Review Format:
                     - Improvements: [positive mentions]
                     - Key Issues: [problems and suggestions]
@@ -95,65 +409,744 @@ public class ClaudeService {
     }
 
     /**
-     * 변경사항을 텍스트로 포맷팅
+     * 변경사항을 텍스트로 포맷팅 (Message Batches 요청용, 벤치마크에서 직접 호출하므로 package-private)
+     * 실시간 호출은 같은 내용을 {@link MessageRequestBody}가 요청 본문에 바로 씀
+     * build_prompt 구간은 호출하는 쪽(배치 요청 구성)에서 한 번만 기록
      */
-    private String formatChanges(List<FileChange> changes) {
+    String formatChanges(List<FileChange> changes) {
         StringBuilder sb = new StringBuilder();
         for (FileChange change : changes) {
             sb.append("\n파일: ").append(change.getFilename())
                     .append(" (").append(change.getStatus()).append(")\n");
             sb.append(change.getPatch()).append("\n");
-            sb.append("-".repeat(80)).append("\n");
+            sb.append("---\n");
         }
         return sb.toString();
     }
 
     /**
      * 코드 리뷰 수행
+     * 입력 토큰 예산을 넘으면 묶음으로 나누어 병렬 리뷰한 뒤 결과를 병합
      *
      * @param changes 변경된 파일 목록
      * @return 리뷰 결과 텍스트
      * @throws IOException API 호출 실패 시
      */
     public String reviewCode(List<FileChange> changes) throws IOException {
-        String changesText = formatChanges(changes);
-        String systemPrompt = getSystemPrompt();
+        return reviewCode(changes, null);
+    }
+
+    /**
+     * 코드 리뷰 수행 (스트리밍)
+     * 최종 리뷰 텍스트가 생성되는 대로 onText로 전달 (분할 리뷰 시 병합 단계의 출력)
+     *
+     * @param changes 변경된 파일 목록
+     * @param onText 텍스트 조각 수신 콜백 (null이면 스트리밍하지 않음)
+     * @return 리뷰 결과 전체 텍스트
+     * @throws IOException API 호출 실패 시
+     */
+    public String reviewCode(List<FileChange> changes, Consumer<String> onText) throws IOException {
+        List<FileChange> flagged = triage(changes);
+        if (flagged.isEmpty()) {
+            String note = triageClearNote(changes.size());
+            if (onText != null) {
+                onText.accept(note);
+            }
+            return note;
+        }
+        DiffPacker.Result packed = pack(flagged);
+
+        String review;
+        if (cache.isEnabled()) {
+            review = reviewCodeWithCache(packed.getSelected(), onText);
+        } else if (packed.getChunks().size() <= 1) {
+            review = sendMessage(buildSystemBlocks(getSystemPrompt(), true),
+                    getUserPrompt(), packed.getSelected(), onText);
+        } else {
+            System.out.println("📦 " + packed.getChunks().size() + "개 묶음으로 분할 리뷰");
+            List<String> partialReviews = reviewChunks(packed.getChunks());
+            review = mergeReviews(partialReviews, onText);
+        }
+        return withSkippedNote(review, packed, onText);
+    }
+
+    /**
+     * 입력 토큰 예산에 맞게 변경 파일 배치 후 결과 기록 (제외된 파일은 중요도 점수와 함께)
+     */
+    private DiffPacker.Result pack(List<FileChange> changes) {
+        DiffPacker.Result packed = packer.pack(changes);
+        if (packed.getTruncated() > 0 || !packed.getSkipped().isEmpty()) {
+            System.out.println("✂️ 입력 토큰 예산 적용: 약 " + packed.getEstimatedTokens() + " 토큰, "
+                    + packed.getTruncated() + "개 파일 잘림, " + packed.getSkipped().size() + "개 파일 제외");
+        }
+        for (FileChange skipped : packed.getSkipped()) {
+            System.out.printf("   ⏭️ %s (중요도 %.1f)%n", skipped.getFilename(), packed.getScores().get(skipped));
+        }
+        metrics.increment(ReviewMetrics.FILES_FILTERED, packed.getSkipped().size(), "reason", "budget");
+        metrics.increment(ReviewMetrics.FILES, packed.getSelected().size(), "state", "reviewed");
+        return packed;
+    }
+
+    /**
+     * 1차 분류 모델로 파일을 훑어 상세 리뷰가 필요한 파일만 남김
+     * 분류 모델이 없으면 그대로 반환하고, 분류하지 못한 파일(요청 실패, 응답 누락, 예산 초과)은 남김
+     * 캐시를 사용하면 파일별 위험도를 캐시해 변경되지 않은 파일은 다시 분류하지 않음
+     */
+    private List<FileChange> triage(List<FileChange> changes) throws IOException {
+        String triageModel = config.getTriageModel();
+        if (triageModel == null || triageModel.isBlank() || changes.isEmpty()) {
+            return changes;
+        }
+        try (ReviewMetrics.Span ignored = metrics.startSpan("triage")) {
+            List<FileChange> flagged = triage(changes, triageModel);
+            metrics.increment(ReviewMetrics.FILES_FILTERED, changes.size() - flagged.size(), "reason", "triage");
+            return flagged;
+        }
+    }
+
+    /**
+     * 캐시에 없는 파일만 분류 모델에 요청하고 위험도가 기준 이상인 파일을 남김
+     */
+    private List<FileChange> triage(List<FileChange> changes, String triageModel) throws IOException {
 
-        String userPrompt = "ko".equals(config.getLanguage())
+        Map<String, Double> risks = new HashMap<>();
+        List<FileChange> misses = new ArrayList<>();
+        for (FileChange change : changes) {
+            String cached = cache.get(triageCacheKey(change));
+            if (cached != null) {
+                risks.put(change.getFilename(), Double.parseDouble(cached));
+            } else {
+                misses.add(change);
+            }
+        }
+
+        List<List<FileChange>> chunks = packer.pack(misses).getChunks();
+        List<Map<String, Double>> results = BoundedExecutor.mapAll(chunks, config.getMaxConcurrency(), chunk -> {
+            try {
+                return requestTriage(chunk);
+            } catch (IOException e) {
+                System.err.println("⚠️ 1차 분류 실패, 묶음 전체를 상세 리뷰합니다: " + e.getMessage());
+                return Map.of();
+            }
+        });
+        for (Map<String, Double> result : results) {
+            risks.putAll(result);
+        }
+        for (FileChange change : misses) {
+            Double risk = risks.get(change.getFilename());
+            if (risk != null) {
+                cache.put(triageCacheKey(change), risk.toString());
+            }
+        }
+
+        List<FileChange> flagged = new ArrayList<>();
+        for (FileChange change : changes) {
+            Double risk = risks.get(change.getFilename());
+            if (risk == null || risk >= config.getTriageThreshold()) {
+                flagged.add(change);
+            }
+        }
+        System.out.println("🔎 1차 분류 (" + triageModel + "): " + changes.size() + "개 중 "
+                + flagged.size() + "개 파일 상세 리뷰");
+        return flagged;
+    }
+
+    /**
+     * 묶음 하나를 submit_triage 도구 호출로 분류
+     */
+    private Map<String, Double> requestTriage(List<FileChange> chunk) throws IOException {
+        JsonObject params = buildEnvelope(config.getTriageModel(), TRIAGE_MAX_TOKENS,
+                buildSystemBlocks(getTriagePrompt(), false));
+        JsonArray tools = new JsonArray();
+        tools.add(TRIAGE_TOOL);
+        params.add("tools", tools);
+        JsonObject toolChoice = new JsonObject();
+        toolChoice.addProperty("type", "tool");
+        toolChoice.addProperty("name", TRIAGE_TOOL_NAME);
+        params.add("tool_choice", toolChoice);
+
+        Request request = messagesRequest(new MessageRequestBody(params, getUserPrompt(), chunk, false));
+        try (ReviewMetrics.Span ignored = metrics.startSpan("claude_call");
+             Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("API 호출 실패: " + response);
+            }
+            return TriageParser.parseMessage(response.body().charStream(),
+                    usage -> recordUsage(triageUsage, config.getTriageModel(), usage, null));
+        }
+    }
+
+    /**
+     * 파일별 1차 분류 결과 캐시 키 (분류 모델과 기준 프롬프트 포함)
+     */
+    private String triageCacheKey(FileChange change) {
+        return cacheKey("triage:" + config.getTriageModel() + ":" + change.getFilename(), change.getPatch());
+    }
+
+    /**
+     * 1차 분류에서 상세 리뷰할 파일이 없을 때의 리뷰 문구
+     */
+    private String triageClearNote(int files) {
+        return "ko".equals(config.getLanguage())
+                ? "✅ 1차 분류 결과 " + files + "개 파일 모두 상세 리뷰가 필요한 변경이 없습니다."
+                : "✅ Triage found nothing worth a detailed review in " + files + " file(s).";
+    }
+
+    /**
+     * 예산 초과로 제외된 파일이 있으면 리뷰 끝에 안내 추가
+     */
+    private String withSkippedNote(String review, DiffPacker.Result packed, Consumer<String> onText) {
+        if (packed.getSkipped().isEmpty()) {
+            return review;
+        }
+
+        StringBuilder note = new StringBuilder("\n\n> ⚠️ ");
+        note.append("ko".equals(config.getLanguage())
+                ? "입력 토큰 예산 초과로 리뷰하지 않은 파일: "
+                : "Files not reviewed due to the input token budget: ");
+        for (int i = 0; i < packed.getSkipped().size(); i++) {
+            note.append(i == 0 ? "" : ", ").append('`').append(packed.getSkipped().get(i).getFilename()).append('`');
+        }
+
+        if (onText != null) {
+            onText.accept(note.toString());
+        }
+        return review + note;
+    }
+
+    /**
+     * 캐시를 사용하는 코드 리뷰
+     * 파일 단위로 캐시되는 구조화 리뷰 경로로 바뀐 파일만 리뷰한 뒤, 캐시된 결과와 새 결과를
+     * 파일별 항목으로 만들어 병합 단계에서 하나의 텍스트 리뷰로 정리
+     * 모든 파일이 그대로면 병합 결과도 캐시에서 재사용해 API를 호출하지 않음
+     */
+    private String reviewCodeWithCache(List<FileChange> changes, Consumer<String> onText) throws IOException {
+        List<StructuredReview> parts = reviewFindingsWithCache(changes);
+
+        StringBuilder keys = new StringBuilder();
+        for (FileChange change : changes) {
+            keys.append(findingsCacheKey(change)).append(',');
+        }
+        String mergeKey = cacheKey("merge", keys.toString());
+        String merged = cache.get(mergeKey);
+        if (merged != null) {
+            if (onText != null) {
+                onText.accept(merged);
+            }
+            return merged;
+        }
+
+        List<String> sections = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            sections.add(formatFileSection(changes.get(i).getFilename(), parts.get(i)));
+        }
+        merged = mergeReviews(sections, onText);
+        cache.put(mergeKey, merged);
+        return merged;
+    }
+
+    /**
+     * 병합 단계 입력으로 쓸 파일별 리뷰 항목 (요약과 줄 단위 지적 사항)
+     */
+    private static String formatFileSection(String filename, StructuredReview part) {
+        StringBuilder sb = new StringBuilder("파일: ").append(filename).append('\n');
+        if (!part.getSummary().isBlank()) {
+            sb.append(part.getSummary().trim()).append('\n');
+        }
+        for (Finding finding : part.getFindings()) {
+            sb.append("- `").append(finding.getFile()).append(':').append(finding.getLine()).append("` [")
+                    .append(finding.getSeverity()).append("] ").append(finding.getComment());
+            if (finding.getSuggestion() != null && !finding.getSuggestion().isBlank()) {
+                sb.append(" (").append(finding.getSuggestion()).append(')');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 캐시 키 생성 (내용 + 모델 + 언어 + 프롬프트 버전의 SHA-256)
+     */
+    private String cacheKey(String name, String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String context = repositoryContext != null ? repositoryContext : "";
+            for (String part : List.of(name, content, config.getModel(), config.getLanguage(), PROMPT_VERSION, context)) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 묶음별 리뷰를 제한된 동시성으로 병렬 수행
+     */
+    private List<String> reviewChunks(List<List<FileChange>> chunks) throws IOException {
+        return BoundedExecutor.mapAll(chunks, config.getMaxConcurrency(), chunk ->
+                sendMessage(buildSystemBlocks(getSystemPrompt(), true), getUserPrompt(), chunk, null));
+    }
+
+    /**
+     * 묶음별 리뷰 결과를 하나의 리뷰로 병합
+     */
+    private String mergeReviews(List<String> partialReviews, Consumer<String> onText) throws IOException {
+        return sendMessage(buildSystemBlocks(getMergePrompt(), false), formatPartialReviews(partialReviews), List.of(),
+                onText);
+    }
+
+    /**
+     * 병합 단계 입력으로 쓸 묶음별 리뷰 목록 포맷팅
+     */
+    private String formatPartialReviews(List<String> partialReviews) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < partialReviews.size(); i++) {
+            sb.append("\n### ").append(i + 1).append("/").append(partialReviews.size()).append("\n");
+            sb.append(partialReviews.get(i)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 구조화 리뷰 수행 (파일/줄 단위 지적 사항)
+     * 묶음별 결과를 합친 뒤 같은 위치의 같은 지적은 하나로 정리
+     * 캐시를 사용하면 파일 단위로 지적 사항을 캐시하고 캐시에 없는 파일만 묶음으로 리뷰
+     *
+     * @param changes 변경된 파일 목록
+     * @return 요약과 지적 사항
+     * @throws IOException API 호출 실패 시
+     */
+    public StructuredReview reviewFindings(List<FileChange> changes) throws IOException {
+        List<FileChange> flagged = triage(changes);
+        if (flagged.isEmpty()) {
+            return new StructuredReview(triageClearNote(changes.size()), List.of());
+        }
+        DiffPacker.Result packed = pack(flagged);
+        List<StructuredReview> parts = cache.isEnabled()
+                ? reviewFindingsWithCache(packed.getSelected())
+                : BoundedExecutor.mapAll(packed.getChunks(), config.getMaxConcurrency(), this::reviewFindingsChunk);
+
+        StringBuilder summary = new StringBuilder();
+        Map<String, Finding> findings = new LinkedHashMap<>();
+        for (StructuredReview part : parts) {
+            if (!part.getSummary().isBlank()) {
+                summary.append(summary.isEmpty() ? "" : "\n\n").append(part.getSummary().trim());
+            }
+            for (Finding finding : part.getFindings()) {
+                findings.putIfAbsent(finding.dedupeKey(), finding);
+            }
+        }
+        return new StructuredReview(withSkippedNote(summary.toString(), packed, null), new ArrayList<>(findings.values()));
+    }
+
+    /**
+     * 파일 단위로 캐시하는 구조화 리뷰 (변경되지 않은 파일은 캐시된 지적 사항 재사용)
+     * 캐시에 없는 파일만 다시 묶음으로 배치해 리뷰하고, 결과는 지적 사항의 파일 기준으로 나누어 저장
+     * 묶음 요약은 묶음의 첫 파일에 붙여 저장
+     */
+    private List<StructuredReview> reviewFindingsWithCache(List<FileChange> changes) throws IOException {
+        List<StructuredReview> results = new ArrayList<>();
+        List<FileChange> misses = new ArrayList<>();
+        Map<String, Integer> missIndexes = new HashMap<>();
+        for (FileChange change : changes) {
+            String cached = cache.get(findingsCacheKey(change));
+            if (cached == null) {
+                misses.add(change);
+                missIndexes.put(change.getFilename(), results.size());
+                results.add(null);
+            } else {
+                results.add(FindingsParser.parseInput(new StringReader(cached)));
+            }
+        }
+
+        System.out.println("🗂️ 리뷰 캐시: " + (changes.size() - misses.size()) + "개 재사용, "
+                + misses.size() + "개 새로 리뷰");
+        if (misses.isEmpty()) {
+            return results;
+        }
+
+        List<List<FileChange>> chunks = packer.pack(misses).getChunks();
+        List<StructuredReview> fresh = BoundedExecutor.mapAll(chunks, config.getMaxConcurrency(),
+                this::reviewFindingsChunk);
+        for (int i = 0; i < chunks.size(); i++) {
+            List<FileChange> chunk = chunks.get(i);
+            Map<String, List<Finding>> byFile = new LinkedHashMap<>();
+            for (FileChange change : chunk) {
+                byFile.put(change.getFilename(), new ArrayList<>());
+            }
+            String first = chunk.get(0).getFilename();
+            for (Finding finding : fresh.get(i).getFindings()) {
+                // 묶음에 없는 파일을 가리키는 지적은 버리지 않고 첫 파일에 보관
+                byFile.getOrDefault(finding.getFile(), byFile.get(first)).add(finding);
+            }
+            for (FileChange change : chunk) {
+                String name = change.getFilename();
+                StructuredReview part = new StructuredReview(
+                        name.equals(first) ? fresh.get(i).getSummary() : "", byFile.get(name));
+                results.set(missIndexes.get(name), part);
+                cache.put(findingsCacheKey(change), toToolInput(part));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 파일별 구조화 리뷰 캐시 키
+     */
+    private String findingsCacheKey(FileChange change) {
+        return cacheKey("findings:" + change.getFilename(), change.getPatch());
+    }
+
+    /**
+     * 묶음 하나의 구조화 리뷰
+     * 지적 사항이 출력 한도에서 잘리면 묶음을 반으로 나누어 다시 요청하고,
+     * 파일 하나로도 잘리면 그 파일은 텍스트 리뷰로 대체 (요약에 담고 인라인 지적 없음)
+     */
+    private StructuredReview reviewFindingsChunk(List<FileChange> chunk) throws IOException {
+        try {
+            return requestFindings(chunk);
+        } catch (ToolUseReader.TruncatedException e) {
+            if (chunk.size() > 1) {
+                int half = chunk.size() / 2;
+                System.out.println("✂️ 구조화 리뷰가 출력 한도에서 잘려 " + chunk.size() + "개 파일 묶음을 나누어 다시 요청");
+                StructuredReview left = reviewFindingsChunk(chunk.subList(0, half));
+                StructuredReview right = reviewFindingsChunk(chunk.subList(half, chunk.size()));
+                List<Finding> findings = new ArrayList<>(left.getFindings());
+                findings.addAll(right.getFindings());
+                String summary = (left.getSummary() + "\n\n" + right.getSummary()).trim();
+                return new StructuredReview(summary, findings);
+            }
+            System.out.println("⚠️ " + chunk.get(0).getFilename() + " 구조화 리뷰가 출력 한도에서 잘려 텍스트 리뷰로 대체");
+            String review = sendMessage(buildSystemBlocks(getSystemPrompt(), true), getUserPrompt(), chunk, null);
+            return new StructuredReview(review, List.of());
+        }
+    }
+
+    /**
+     * 묶음 하나를 submit_review 도구 호출로 리뷰
+     */
+    private StructuredReview requestFindings(List<FileChange> chunk) throws IOException {
+        JsonObject params = buildEnvelope(config.getModel(), Math.max(config.getMaxTokens(), FINDINGS_MAX_TOKENS),
+                buildSystemBlocks(getStructuredPrompt(), true));
+        JsonArray tools = new JsonArray();
+        tools.add(REVIEW_TOOL);
+        params.add("tools", tools);
+        JsonObject toolChoice = new JsonObject();
+        toolChoice.addProperty("type", "tool");
+        toolChoice.addProperty("name", REVIEW_TOOL_NAME);
+        params.add("tool_choice", toolChoice);
+
+        boolean stream = config.isStream();
+        if (stream) {
+            params.addProperty("stream", true);
+        }
+
+        Request request = messagesRequest(new MessageRequestBody(params, getUserPrompt(), chunk, true));
+        try (ReviewMetrics.Span ignored = metrics.startSpan("claude_call");
+             Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("API 호출 실패: " + response);
+            }
+
+            if (stream) {
+                StringBuilder toolInput = new StringBuilder();
+                readEventStream(response.body().source(), null, toolInput);
+                return FindingsParser.parseInput(new StringReader(toolInput.toString()));
+            }
+            return FindingsParser.parseMessage(response.body().charStream(), usage -> recordUsage(usage, null));
+        }
+    }
+
+    /**
+     * 구조화 리뷰를 도구 입력과 같은 JSON으로 변환 (캐시 저장용)
+     */
+    private String toToolInput(StructuredReview review) {
+        JsonObject input = new JsonObject();
+        input.addProperty("summary", review.getSummary());
+        JsonArray findings = new JsonArray();
+        for (Finding finding : review.getFindings()) {
+            JsonObject item = new JsonObject();
+            item.addProperty("file", finding.getFile());
+            item.addProperty("line", finding.getLine());
+            item.addProperty("severity", finding.getSeverity());
+            item.addProperty("comment", finding.getComment());
+            item.addProperty("suggestion", finding.getSuggestion());
+            findings.add(item);
+        }
+        input.add("findings", findings);
+        return gson.toJson(input);
+    }
+
+    /**
+     * 여러 PR을 Message Batches API로 일괄 리뷰
+     * 1차 배치로 모든 PR의 묶음을 리뷰하고, 묶음이 여러 개인 PR은 2차 배치로 병합
+     * 리뷰 캐시와 스트리밍은 사용하지 않음
+     *
+     * @param changesById 리뷰 ID별 변경 파일 목록
+     * @param batchService Message Batches API 서비스
+     * @return 리뷰 ID별 리뷰 결과 (일부 요청이 실패한 ID는 포함되지 않음)
+     * @throws IOException API 호출 실패 시
+     */
+    public Map<String, String> reviewCodeInBatch(Map<String, List<FileChange>> changesById,
+                                                 ClaudeBatchService batchService) throws IOException {
+        return reviewCodeInBatch(changesById, batchService, new HashMap<>());
+    }
+
+    /**
+     * 여러 PR을 Message Batches API로 일괄 리뷰하고 리뷰 ID별 토큰 사용량도 기록
+     * 묶음 리뷰와 병합 요청의 사용량을 모두 해당 리뷰 ID에 합산 (전체 사용량은 getTokenUsage()에도 누적)
+     *
+     * @param changesById 리뷰 ID별 변경 파일 목록
+     * @param batchService Message Batches API 서비스
+     * @param usageById 리뷰 ID별 사용량을 채울 맵
+     * @return 리뷰 ID별 리뷰 결과 (일부 요청이 실패한 ID는 포함되지 않음)
+     * @throws IOException API 호출 실패 시
+     */
+    public Map<String, String> reviewCodeInBatch(Map<String, List<FileChange>> changesById,
+                                                 ClaudeBatchService batchService,
+                                                 Map<String, TokenUsage> usageById) throws IOException {
+        // 1. 묶음별 리뷰 요청 (custom_id: {리뷰 ID}-{묶음 번호})
+        Map<String, JsonObject> chunkRequests = new LinkedHashMap<>();
+        Map<String, Integer> chunkCounts = new HashMap<>();
+        Map<String, DiffPacker.Result> packedById = new HashMap<>();
+        try (ReviewMetrics.Span ignored = metrics.startSpan("build_prompt")) {
+            changesById.forEach((id, changes) -> {
+                DiffPacker.Result packed = pack(changes);
+                packedById.put(id, packed);
+                List<List<FileChange>> chunks = packed.getChunks();
+                chunkCounts.put(id, chunks.size());
+                for (int i = 0; i < chunks.size(); i++) {
+                    chunkRequests.put(id + "-" + i, buildMessageParams(
+                            buildSystemBlocks(getSystemPrompt(), true),
+                            getUserPrompt() + formatChanges(chunks.get(i))));
+                }
+            });
+        }
+        Map<String, String> chunkReviews = extractTexts(batchService.execute(chunkRequests),
+                customId -> customId.substring(0, customId.lastIndexOf('-')), usageById);
+
+        // 2. 묶음이 여러 개인 리뷰는 병합 요청
+        Map<String, String> reviews = new HashMap<>();
+        Map<String, JsonObject> mergeRequests = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : chunkCounts.entrySet()) {
+            String id = entry.getKey();
+            List<String> partialReviews = new ArrayList<>();
+            for (int i = 0; i < entry.getValue(); i++) {
+                String review = chunkReviews.get(id + "-" + i);
+                if (review == null) {
+                    break;
+                }
+                partialReviews.add(review);
+            }
+
+            if (partialReviews.size() < entry.getValue()) {
+                continue;
+            }
+            if (partialReviews.size() == 1) {
+                reviews.put(id, partialReviews.get(0));
+            } else {
+                mergeRequests.put(id, buildMessageParams(
+                        buildSystemBlocks(getMergePrompt(), false), formatPartialReviews(partialReviews)));
+            }
+        }
+        reviews.putAll(extractTexts(batchService.execute(mergeRequests), customId -> customId, usageById));
+        reviews.replaceAll((id, review) -> withSkippedNote(review, packedById.get(id), null));
+        return reviews;
+    }
+
+    /**
+     * 배치 응답 message에서 텍스트를 꺼내고 사용량을 전체와 리뷰 ID별로 누적
+     */
+    private Map<String, String> extractTexts(Map<String, JsonObject> messages, Function<String, String> reviewIdOf,
+                                             Map<String, TokenUsage> usageById) {
+        Map<String, String> texts = new HashMap<>();
+        messages.forEach((id, message) -> {
+            JsonObject usage = message.getAsJsonObject("usage");
+            recordUsage(usage, null);
+            if (usage != null) {
+                usageById.computeIfAbsent(reviewIdOf.apply(id), key -> new TokenUsage()).add(
+                        usageValue(usage, "input_tokens"), usageValue(usage, "output_tokens"),
+                        usageValue(usage, "cache_creation_input_tokens"), usageValue(usage, "cache_read_input_tokens"));
+            }
+            texts.put(id, message.getAsJsonArray("content")
+                    .get(0).getAsJsonObject()
+                    .get("text").getAsString());
+        });
+        return texts;
+    }
+
+    /**
+     * 리뷰 요청 문구
+     */
+    private String getUserPrompt() {
+        return "ko".equals(config.getLanguage())
                 ? "다음 변경사항을 리뷰해줘:\n\n"
                 : "Please review the following changes:\n\n";
+    }
 
-        // Request body 구성
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("model", config.getModel());
-        requestBody.addProperty("max_tokens", config.getMaxTokens());
-        requestBody.addProperty("system", systemPrompt);
+    /**
+     * Messages API 요청 파라미터 구성 (Message Batches용)
+     */
+    private JsonObject buildMessageParams(JsonArray system, String userContent) {
+        JsonObject params = buildEnvelope(config.getModel(), config.getMaxTokens(), system);
 
         JsonArray messages = new JsonArray();
         JsonObject userMessage = new JsonObject();
         userMessage.addProperty("role", "user");
-        userMessage.addProperty("content", userPrompt + changesText);
+        userMessage.addProperty("content", userContent);
         messages.add(userMessage);
-        requestBody.add("messages", messages);
+        params.add("messages", messages);
+        return params;
+    }
 
-        // API 호출
-        Request request = new Request.Builder()
-                .url(ANTHROPIC_API_URL)
-                .addHeader("x-api-key", config.getAnthropicApiKey())
-                .addHeader("anthropic-version", "2023-06-01")
-                .addHeader("content-type", "application/json")
-                .post(RequestBody.create(requestBody.toString(), JSON))
-                .build();
+    /**
+     * messages를 제외한 Messages API 요청 파라미터 (실시간 호출과 Message Batches에서 공통 사용)
+     */
+    private JsonObject buildEnvelope(String model, int maxTokens, JsonArray system) {
+        JsonObject params = new JsonObject();
+        params.addProperty("model", model);
+        params.addProperty("max_tokens", maxTokens);
+        params.add("system", system);
+        return params;
+    }
+
+    /**
+     * Messages API 호출
+     * 스트리밍 설정이 켜져 있거나 onText가 주어지면 SSE 응답을 사용
+     * 사용자 메시지는 prefix 뒤에 변경 파일을 이어 붙인 내용으로, 요청 본문에 바로 씀
+     */
+    private String sendMessage(JsonArray system, String prefix, List<FileChange> changes, Consumer<String> onText)
+            throws IOException {
+        boolean stream = config.isStream() || onText != null;
+
+        // Request body 구성
+        JsonObject params = buildEnvelope(config.getModel(), config.getMaxTokens(), system);
+        if (stream) {
+            params.addProperty("stream", true);
+        }
 
-        try (Response response = client.newCall(request).execute()) {
+        // API 호출
+        Request request = messagesRequest(new MessageRequestBody(params, prefix, changes, false));
+        try (ReviewMetrics.Span ignored = metrics.startSpan("claude_call");
+             Response response = client.newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 throw new IOException("API 호출 실패: " + response);
             }
 
+            if (stream) {
+                return readEventStream(response.body().source(), onText, null);
+            }
+
             JsonObject responseBody = gson.fromJson(response.body().string(), JsonObject.class);
+            recordUsage(responseBody.getAsJsonObject("usage"), null);
             return responseBody.getAsJsonArray("content")
                     .get(0).getAsJsonObject()
                     .get("text").getAsString();
         }
     }
+
+    /**
+     * Messages API 요청 생성
+     * 본문은 전송하면서 바로 쓰므로 프롬프트 구성 시간은 claude_call 구간에 포함되고,
+     * 재시도 횟수와 전송 바이트는 인터셉터가 기록하도록 지표를 요청 태그로 전달
+     */
+    private Request messagesRequest(MessageRequestBody body) {
+        return new Request.Builder()
+                .url(config.getAnthropicBaseUrl() + "/v1/messages")
+                .addHeader("x-api-key", config.getAnthropicApiKey())
+                .addHeader("anthropic-version", "2023-06-01")
+                .addHeader("content-type", "application/json")
+                .tag(ReviewMetrics.class, metrics)
+                .post(body)
+                .build();
+    }
+
+    /**
+     * SSE 이벤트 스트림에서 텍스트 조각을 순서대로 읽어 조립
+     * data 줄 하나씩만 파싱하므로 전체 응답 본문을 메모리에 올리지 않음
+     * toolInput이 주어지면 도구 입력 조각(input_json_delta)을 이어 붙이고, 출력 한도에서 잘리면 예외
+     * message_stop 전에 스트림이 끝나면 (연결 끊김) 일부만 받은 리뷰를 결과로 쓰지 않도록 예외
+     */
+    private String readEventStream(BufferedSource source, Consumer<String> onText, StringBuilder toolInput)
+            throws IOException {
+        StringBuilder text = new StringBuilder();
+        JsonObject startUsage = null;
+        boolean stopped = false;
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+
+            JsonObject event = gson.fromJson(line.substring(5).trim(), JsonObject.class);
+            String type = event.get("type").getAsString();
+
+            if ("content_block_delta".equals(type)) {
+                JsonObject delta = event.getAsJsonObject("delta");
+                String deltaType = delta.get("type").getAsString();
+                if ("text_delta".equals(deltaType)) {
+                    String chunk = delta.get("text").getAsString();
+                    text.append(chunk);
+                    if (onText != null) {
+                        onText.accept(chunk);
+                    }
+                } else if ("input_json_delta".equals(deltaType) && toolInput != null) {
+                    toolInput.append(delta.get("partial_json").getAsString());
+                }
+            } else if ("message_start".equals(type)) {
+                startUsage = event.getAsJsonObject("message").getAsJsonObject("usage");
+            } else if ("message_delta".equals(type)) {
+                recordUsage(startUsage, event.getAsJsonObject("usage"));
+                JsonElement stopReason = event.getAsJsonObject("delta").get("stop_reason");
+                if (toolInput != null && stopReason != null && !stopReason.isJsonNull()
+                        && "max_tokens".equals(stopReason.getAsString())) {
+                    throw new ToolUseReader.TruncatedException(REVIEW_TOOL_NAME);
+                }
+            } else if ("error".equals(type)) {
+                throw new IOException("API 스트리밍 실패: " + event.getAsJsonObject("error"));
+            } else if ("message_stop".equals(type)) {
+                stopped = true;
+                break;
+            }
+        }
+        if (!stopped) {
+            throw new IOException("API 스트리밍이 message_stop 전에 끊겼습니다.");
+        }
+        return text.toString();
+    }
+
+    /**
+     * usage 블록의 토큰 수 누적
+     * 스트리밍 응답은 입력 측 사용량이 message_start, 출력 토큰이 message_delta로 나뉘어 옴
+     */
+    private void recordUsage(JsonObject usage, JsonObject outputUsage) {
+        recordUsage(tokenUsage, config.getModel(), usage, outputUsage);
+    }
+
+    private void recordUsage(TokenUsage target, String model, JsonObject usage, JsonObject outputUsage) {
+        if (usage == null && outputUsage == null) {
+            return;
+        }
+        JsonObject output = outputUsage != null ? outputUsage : usage;
+        long input = usageValue(usage, "input_tokens");
+        long outputTokens = usageValue(output, "output_tokens");
+        long cacheCreation = usageValue(usage, "cache_creation_input_tokens");
+        long cacheRead = usageValue(usage, "cache_read_input_tokens");
+        target.add(input, outputTokens, cacheCreation, cacheRead);
+
+        metrics.increment(ReviewMetrics.TOKENS, input, "model", model, "type", "input");
+        metrics.increment(ReviewMetrics.TOKENS, outputTokens, "model", model, "type", "output");
+        metrics.increment(ReviewMetrics.TOKENS, cacheCreation, "model", model, "type", "cache_creation");
+        metrics.increment(ReviewMetrics.TOKENS, cacheRead, "model", model, "type", "cache_read");
+    }
+
+    private static long usageValue(JsonObject usage, String name) {
+        if (usage == null) {
+            return 0;
+        }
+        JsonElement value = usage.get(name);
+        return value != null && !value.isJsonNull() ? value.getAsLong() : 0;
+    }
 }
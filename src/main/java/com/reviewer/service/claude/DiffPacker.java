@@ -0,0 +1,188 @@
+package com.reviewer.service.claude;
+
+import com.reviewer.model.FileChange;
+import com.reviewer.service.diff.RelevanceScorer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변경 파일을 입력 토큰 예산에 맞게 묶음으로 배치
+ * 1. 요청 하나에 들어가지 않는 patch는 잘라내고 생략 표시를 남김
+ * 2. 중요도 점수가 높은 순(같으면 작은 파일 먼저)으로 전체 예산 안에 들어가는 파일만 선택
+ * 3. 선택된 파일을 큰 것부터 들어갈 수 있는 첫 묶음에 배치 (first-fit decreasing)
+ */
+public class DiffPacker {
+    // 파일마다 붙는 헤더("파일: ... (status)")와 구분선 분량
+    static final int FILE_OVERHEAD_TOKENS = 16;
+
+    // 잘린 patch 끝에 붙는 생략 표시 분량
+    private static final int TRUNCATION_MARKER_TOKENS = 24;
+
+    private final int requestBudget;
+    private final int totalBudget;
+    private final RelevanceScorer scorer;
+
+    /**
+     * 생성자 (기본 중요도 점수 사용)
+     *
+     * @param requestBudget 요청 하나의 변경사항 입력 토큰 한도
+     * @param totalBudget 리뷰 전체의 변경사항 입력 토큰 한도
+     */
+    public DiffPacker(int requestBudget, int totalBudget) {
+        this(requestBudget, totalBudget, new RelevanceScorer(List.of()));
+    }
+
+    /**
+     * 생성자
+     *
+     * @param requestBudget 요청 하나의 변경사항 입력 토큰 한도
+     * @param totalBudget 리뷰 전체의 변경사항 입력 토큰 한도
+     * @param scorer 예산 초과 시 선택 순서를 정하는 파일 중요도 점수
+     */
+    public DiffPacker(int requestBudget, int totalBudget, RelevanceScorer scorer) {
+        this.requestBudget = Math.max(FILE_OVERHEAD_TOKENS * 2, requestBudget);
+        this.totalBudget = Math.max(this.requestBudget, totalBudget);
+        this.scorer = scorer;
+    }
+
+    /**
+     * 배치 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final List<FileChange> selected;
+        private final List<List<FileChange>> chunks;
+        private final List<FileChange> skipped;
+        private final int truncated;
+        private final int estimatedTokens;
+        private final Map<FileChange, Double> scores;
+    }
+
+    /**
+     * 변경 파일 배치
+     *
+     * @param changes 변경 파일 목록
+     * @return 선택된 파일, 묶음 목록, 예산 초과로 제외된 파일, 잘린 파일 수, 파일별 중요도 점수
+     */
+    public Result pack(List<FileChange> changes) {
+        Map<FileChange, Integer> order = new HashMap<>();
+        Map<FileChange, Integer> sizes = new HashMap<>();
+        Map<FileChange, Double> scores = new HashMap<>();
+        List<FileChange> candidates = new ArrayList<>();
+        int truncated = 0;
+
+        for (FileChange change : changes) {
+            FileChange fitted = fit(change);
+            if (fitted != change) {
+                truncated++;
+            }
+            order.put(fitted, order.size());
+            sizes.put(fitted, estimate(fitted));
+            // 잘리기 전 원본 기준으로 점수 계산
+            scores.put(fitted, scorer.score(change));
+            candidates.add(fitted);
+        }
+
+        // 전체 예산 안에서 중요한 파일부터 선택, 같은 점수면 작은 파일부터 골라 최대한 많은 파일을 리뷰
+        candidates.sort(Comparator.comparingDouble((FileChange c) -> -scores.get(c))
+                .thenComparingInt(sizes::get));
+        List<FileChange> selected = new ArrayList<>();
+        List<FileChange> skipped = new ArrayList<>();
+        int used = 0;
+        for (FileChange change : candidates) {
+            int size = sizes.get(change);
+            if (used + size > totalBudget) {
+                skipped.add(change);
+            } else {
+                selected.add(change);
+                used += size;
+            }
+        }
+
+        // first-fit decreasing
+        List<FileChange> bySize = new ArrayList<>(selected);
+        bySize.sort(Comparator.comparingInt((FileChange c) -> sizes.get(c)).reversed());
+        List<List<FileChange>> chunks = new ArrayList<>();
+        List<Integer> chunkSizes = new ArrayList<>();
+        for (FileChange change : bySize) {
+            int size = sizes.get(change);
+            int target = -1;
+            for (int i = 0; i < chunks.size(); i++) {
+                if (chunkSizes.get(i) + size <= requestBudget) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                chunks.add(new ArrayList<>());
+                chunkSizes.add(0);
+                target = chunks.size() - 1;
+            }
+            chunks.get(target).add(change);
+            chunkSizes.set(target, chunkSizes.get(target) + size);
+        }
+
+        // 묶음 안에서는 원래 파일 순서를 유지
+        for (List<FileChange> chunk : chunks) {
+            chunk.sort(Comparator.comparingInt(order::get));
+        }
+        selected.sort(Comparator.comparingInt(order::get));
+        skipped.sort(Comparator.comparingInt(order::get));
+        return new Result(selected, chunks, skipped, truncated, used, scores);
+    }
+
+    /**
+     * 요청 하나에 들어가도록 patch 잘라내기 (줄 단위, 생략 표시 포함)
+     *
+     * @param change 변경 파일
+     * @return 한도 안이면 원본, 아니면 잘린 FileChange
+     */
+    public FileChange fit(FileChange change) {
+        if (estimate(change) <= requestBudget) {
+            return change;
+        }
+
+        int budget = requestBudget - FILE_OVERHEAD_TOKENS - TokenEstimator.estimate(change.getFilename())
+                - TRUNCATION_MARKER_TOKENS;
+        String patch = change.getPatch();
+        StringBuilder kept = new StringBuilder();
+        int used = 0;
+        int keptLines = 0;
+        int start = 0;
+        while (start < patch.length()) {
+            int end = patch.indexOf('\n', start);
+            end = end < 0 ? patch.length() : end + 1;
+            int lineTokens = TokenEstimator.estimate(patch.subSequence(start, end));
+            if (used + lineTokens > budget) {
+                break;
+            }
+            kept.append(patch, start, end);
+            used += lineTokens;
+            keptLines++;
+            start = end;
+        }
+
+        int omitted = (int) patch.lines().count() - keptLines;
+        kept.append("\n... [truncated: ").append(omitted).append(" more lines omitted to fit the token budget]");
+        return change.withPatch(kept.toString());
+    }
+
+    /**
+     * 파일 하나가 프롬프트에서 차지하는 토큰 수 추정
+     *
+     * @param change 변경 파일
+     * @return 추정 토큰 수
+     */
+    public static int estimate(FileChange change) {
+        return FILE_OVERHEAD_TOKENS
+                + TokenEstimator.estimate(change.getFilename())
+                + TokenEstimator.estimate(change.getPatch());
+    }
+}
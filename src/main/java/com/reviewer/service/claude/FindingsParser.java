@@ -0,0 +1,116 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.reviewer.model.Finding;
+import com.reviewer.model.StructuredReview;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * submit_review 도구 입력(구조화 리뷰) 스트리밍 파서
+ * 응답 본문 탐색은 {@link ToolUseReader}에 맡기고 필요한 필드만 순서대로 읽음
+ */
+final class FindingsParser {
+
+    private FindingsParser() {
+        // Utility class
+    }
+
+    /**
+     * Messages API 응답 본문에서 tool_use 블록의 입력을 읽음
+     *
+     * @param body 응답 본문
+     * @param usageSink usage 블록 수신
+     * @return 구조화 리뷰
+     * @throws IOException 읽기 실패 또는 도구 입력이 없을 때
+     */
+    static StructuredReview parseMessage(Reader body, Consumer<JsonObject> usageSink) throws IOException {
+        return ToolUseReader.readMessage(body, "submit_review", usageSink, FindingsParser::readReview);
+    }
+
+    /**
+     * 도구 입력 JSON 파싱 (스트리밍 응답의 input_json_delta를 이어 붙인 문자열 등)
+     *
+     * @param input 도구 입력 JSON
+     * @return 구조화 리뷰
+     * @throws IOException 읽기 실패 시
+     */
+    static StructuredReview parseInput(Reader input) throws IOException {
+        try (JsonReader reader = new JsonReader(input)) {
+            return readReview(reader);
+        }
+    }
+
+    private static StructuredReview readReview(JsonReader reader) throws IOException {
+        String summary = "";
+        List<Finding> findings = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "summary" -> summary = reader.nextString();
+                case "findings" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        Finding finding = readFinding(reader);
+                        if (finding != null) {
+                            findings.add(finding);
+                        }
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new StructuredReview(summary, findings);
+    }
+
+    /**
+     * 지적 사항 하나 읽기 (파일이나 내용이 없으면 null)
+     */
+    private static Finding readFinding(JsonReader reader) throws IOException {
+        String file = null;
+        int line = 0;
+        String severity = "info";
+        String comment = null;
+        String suggestion = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "file" -> file = reader.nextString();
+                case "line" -> {
+                    Double number = ToolUseReader.nextNumber(reader);
+                    line = number != null ? number.intValue() : 0;
+                }
+                case "severity" -> severity = reader.nextString();
+                case "comment" -> comment = reader.nextString();
+                case "suggestion" -> suggestion = reader.nextString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (file == null || comment == null || comment.isBlank()) {
+            return null;
+        }
+        return new Finding(file, line, severity, comment, suggestion);
+    }
+}
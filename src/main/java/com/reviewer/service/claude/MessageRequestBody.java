@@ -0,0 +1,192 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.reviewer.http.LengthEstimate;
+import com.reviewer.model.FileChange;
+import com.reviewer.service.diff.DiffLines;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+import okio.Sink;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Messages API 요청 본문
+ * 요청 파라미터(JSON 봉투)와 변경 파일 patch를 중간 문자열 없이 BufferedSink에 바로 이스케이프해 씀
+ * 원본 변경 목록을 들고 있다가 쓸 때마다 다시 만들어내므로 재시도 시 여러 번 전송 가능
+ * 사용자 메시지 내용은 {@code prefix + formatChanges(changes)}와 같음
+ * 길이를 알려고 미리 한 번 더 직렬화하지 않도록 첫 전송은 chunked로 보내고, 그때 센 길이를 재시도에 사용
+ */
+final class MessageRequestBody extends RequestBody implements LengthEstimate {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    // JSON 문자열에서 이스케이프할 ASCII 문자 (Gson과 같이 제어 문자, 따옴표, 역슬래시)
+    private static final String[] REPLACEMENTS = new String[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            REPLACEMENTS[c] = String.format("\\u%04x", c);
+        }
+        REPLACEMENTS['"'] = "\\\"";
+        REPLACEMENTS['\\'] = "\\\\";
+        REPLACEMENTS['\t'] = "\\t";
+        REPLACEMENTS['\b'] = "\\b";
+        REPLACEMENTS['\n'] = "\\n";
+        REPLACEMENTS['\r'] = "\\r";
+        REPLACEMENTS['\f'] = "\\f";
+    }
+
+    private final JsonObject params;
+    private final String prefix;
+    private final List<FileChange> changes;
+    private final boolean numbered;
+    private final long estimatedLength;
+    private volatile long contentLength = -1;
+
+    /**
+     * 생성자
+     *
+     * @param params messages를 제외한 요청 파라미터 (model, max_tokens, system, tools 등)
+     * @param prefix 사용자 메시지 앞부분 (리뷰 요청 문구 등)
+     * @param changes 사용자 메시지에 이어 붙일 변경 파일
+     * @param numbered patch에 새 파일 줄 번호를 붙일지 여부 (구조화 리뷰용)
+     */
+    MessageRequestBody(JsonObject params, String prefix, List<FileChange> changes, boolean numbered) {
+        this.params = params;
+        this.prefix = prefix;
+        this.changes = changes;
+        this.numbered = numbered;
+
+        long estimate = params.toString().length() + prefix.length();
+        for (FileChange change : changes) {
+            String patch = change.getPatch();
+            estimate += change.getFilename().length() + (patch != null ? patch.length() : 0) + 16;
+        }
+        this.estimatedLength = estimate;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    /**
+     * 본문 바이트 수 (한 번 보낸 뒤에만 알 수 있고, 그 전에는 -1이라 chunked로 전송)
+     */
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * 본문의 대략적인 문자 수 (patch 등 원본 문자열 길이의 합, 이스케이프와 줄 번호 제외)
+     */
+    @Override
+    public long estimatedLength() {
+        return contentLength >= 0 ? contentLength : estimatedLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        CountingSink counter = new CountingSink(sink);
+        BufferedSink out = Okio.buffer(counter);
+        writeBody(out);
+        // 원래 sink는 호출한 쪽이 닫으므로 close 대신 남은 바이트만 넘김
+        out.emit();
+        contentLength = counter.count;
+    }
+
+    private void writeBody(BufferedSink sink) throws IOException {
+        sink.writeByte('{');
+        for (Map.Entry<String, JsonElement> entry : params.entrySet()) {
+            writeString(sink, entry.getKey());
+            sink.writeByte(':');
+            sink.writeUtf8(entry.getValue().toString());
+            sink.writeByte(',');
+        }
+
+        sink.writeUtf8("\"messages\":[{\"role\":\"user\",\"content\":\"");
+        writeEscaped(sink, prefix);
+        for (FileChange change : changes) {
+            writeEscaped(sink, "\n파일: ");
+            writeEscaped(sink, change.getFilename());
+            writeEscaped(sink, " (");
+            writeEscaped(sink, String.valueOf(change.getStatus()));
+            writeEscaped(sink, ")\n");
+            if (!numbered || !DiffLines.writeNumbered(change.getPatch(), (gutter, line) -> {
+                sink.writeUtf8(gutter);
+                writeEscaped(sink, line);
+                sink.writeUtf8("\\n");
+            })) {
+                writeEscaped(sink, String.valueOf(change.getPatch()));
+            }
+            writeEscaped(sink, "\n---\n");
+        }
+        sink.writeUtf8("\"}]}");
+    }
+
+    /**
+     * 따옴표로 감싼 JSON 문자열 쓰기
+     */
+    private static void writeString(BufferedSink sink, String value) throws IOException {
+        sink.writeByte('"');
+        writeEscaped(sink, value);
+        sink.writeByte('"');
+    }
+
+    /**
+     * JSON 문자열 내용 쓰기 (이스케이프가 필요 없는 구간은 원본 문자열에서 바로 UTF-8로 인코딩)
+     */
+    static void writeEscaped(BufferedSink sink, String value) throws IOException {
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c < 128) {
+                replacement = REPLACEMENTS[c];
+                if (replacement == null) {
+                    continue;
+                }
+            } else if (c == '\u2028') {
+                replacement = "\\u2028";
+            } else if (c == '\u2029') {
+                replacement = "\\u2029";
+            } else {
+                continue;
+            }
+            if (start < i) {
+                sink.writeUtf8(value, start, i);
+            }
+            sink.writeUtf8(replacement);
+            start = i + 1;
+        }
+        if (start < length) {
+            sink.writeUtf8(value, start, length);
+        }
+    }
+
+    /**
+     * 지나가는 바이트 수를 세는 sink
+     */
+    private static final class CountingSink extends ForwardingSink {
+        private long count;
+
+        CountingSink(Sink delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+            super.write(source, byteCount);
+            count += byteCount;
+        }
+    }
+}
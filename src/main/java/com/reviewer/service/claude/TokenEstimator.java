@@ -0,0 +1,39 @@
+package com.reviewer.service.claude;
+
+/**
+ * 토크나이저 없이 입력 토큰 수를 빠르게 추정
+ * 코드와 영문(ASCII)은 약 3.5자당 1토큰, 한글 등 비ASCII 문자는 1자당 1토큰으로 계산하며,
+ * 예산 초과를 피하도록 실제보다 조금 크게 잡음
+ */
+public final class TokenEstimator {
+    // ASCII 7자당 2토큰 (3.5자당 1토큰)
+    private static final int ASCII_CHARS_PER_TWO_TOKENS = 7;
+
+    private TokenEstimator() {
+        // Utility class
+    }
+
+    /**
+     * 텍스트의 토큰 수 추정
+     *
+     * @param text 텍스트
+     * @return 추정 토큰 수
+     */
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        long ascii = 0;
+        long other = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        long tokens = (ascii * 2 + ASCII_CHARS_PER_TWO_TOKENS - 1) / ASCII_CHARS_PER_TWO_TOKENS + other;
+        return (int) Math.min(Integer.MAX_VALUE, tokens);
+    }
+}
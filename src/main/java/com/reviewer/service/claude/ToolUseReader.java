@@ -0,0 +1,126 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Messages API 응답에서 tool_use 블록 입력을 스트리밍으로 읽는 공통 리더
+ * 응답 전체를 트리로 만들지 않고, 도구별 파서는 입력 객체를 읽는 {@link InputReader}만 제공
+ */
+final class ToolUseReader {
+
+    private ToolUseReader() {
+        // Utility class
+    }
+
+    /**
+     * 도구 입력 객체 읽기
+     *
+     * @param <T> 도구별 결과 타입
+     */
+    @FunctionalInterface
+    interface InputReader<T> {
+        T read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * 출력 한도(max_tokens)에 걸려 도구 입력이 잘렸을 때
+     * 호출하는 쪽은 입력을 나누어 다시 요청하거나 다른 방식으로 대체
+     */
+    static final class TruncatedException extends IOException {
+
+        TruncatedException(String toolName) {
+            super(toolName + " 도구 입력이 출력 한도(max_tokens)에서 잘렸습니다.");
+        }
+    }
+
+    /**
+     * 응답 본문에서 마지막 tool_use 블록의 입력을 읽음
+     *
+     * @param body 응답 본문
+     * @param toolName 강제한 도구 이름 (오류 메시지용)
+     * @param usageSink usage 블록 수신
+     * @param inputReader 도구 입력 객체 파서
+     * @param <T> 도구별 결과 타입
+     * @return 도구 입력
+     * @throws TruncatedException stop_reason이 max_tokens일 때
+     * @throws IOException 읽기 실패 또는 도구 입력이 없을 때
+     */
+    static <T> T readMessage(Reader body, String toolName, Consumer<JsonObject> usageSink,
+                             InputReader<T> inputReader) throws IOException {
+        T input = null;
+        String stopReason = null;
+        try (JsonReader reader = new JsonReader(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "content" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            T block = readContentBlock(reader, inputReader);
+                            input = block != null ? block : input;
+                        }
+                        reader.endArray();
+                    }
+                    case "usage" -> usageSink.accept(JsonParser.parseReader(reader).getAsJsonObject());
+                    case "stop_reason" -> {
+                        if (reader.peek() == JsonToken.STRING) {
+                            stopReason = reader.nextString();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        // 잘린 입력은 일부 필드만 남아 있어도 믿을 수 없음
+        if ("max_tokens".equals(stopReason)) {
+            throw new TruncatedException(toolName);
+        }
+        if (input == null) {
+            throw new IOException("응답에 " + toolName + " 도구 입력이 없습니다.");
+        }
+        return input;
+    }
+
+    /**
+     * content 블록 하나 읽기 (tool_use 블록이면 입력 반환, 아니면 null)
+     */
+    private static <T> T readContentBlock(JsonReader reader, InputReader<T> inputReader) throws IOException {
+        T input = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("input".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                input = inputReader.read(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return input;
+    }
+
+    /**
+     * 숫자 값 읽기 (모델이 숫자를 문자열로 보내는 경우도 허용)
+     *
+     * @param reader 숫자 또는 문자열 값 앞에 위치한 리더
+     * @return 숫자, 해석할 수 없으면 null
+     * @throws IOException 읽기 실패 시
+     */
+    static Double nextNumber(JsonReader reader) throws IOException {
+        try {
+            return Double.parseDouble(reader.nextString().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * submit_triage 도구 입력(1차 분류 결과) 스트리밍 파서
+ * 응답 본문 탐색은 {@link ToolUseReader}에 맡기고 파일별 위험도만 읽음
+ */
+final class TriageParser {
+
+    private TriageParser() {
+        // Utility class
+    }
+
+    /**
+     * Messages API 응답 본문에서 파일별 위험도 읽기
+     *
+     * @param body 응답 본문
+     * @param usageSink usage 블록 수신
+     * @return 파일 경로별 위험도 (0~1)
+     * @throws IOException 읽기 실패 또는 도구 입력이 없을 때
+     */
+    static Map<String, Double> parseMessage(Reader body, Consumer<JsonObject> usageSink) throws IOException {
+        return ToolUseReader.readMessage(body, "submit_triage", usageSink, TriageParser::readInput);
+    }
+
+    private static Map<String, Double> readInput(JsonReader reader) throws IOException {
+        Map<String, Double> risks = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("files".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readFile(reader, risks);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return risks;
+    }
+
+    /**
+     * 파일 하나의 위험도 읽기 (파일이나 위험도가 없으면 건너뜀)
+     */
+    private static void readFile(JsonReader reader, Map<String, Double> risks) throws IOException {
+        String file = null;
+        Double risk = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "file" -> file = reader.nextString();
+                case "risk" -> {
+                    Double number = ToolUseReader.nextNumber(reader);
+                    risk = number != null ? Math.max(0.0, Math.min(1.0, number)) : null;
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (file != null && risk != null) {
+            risks.merge(file, risk, Math::max);
+        }
+    }
+}
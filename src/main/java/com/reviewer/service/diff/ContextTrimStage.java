@@ -0,0 +1,116 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.model.FileChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * hunk의 문맥 줄을 변경 줄 앞뒤 N줄로 축소
+ * 변경 사이의 문맥이 길면 hunk를 나누고 헤더의 줄 번호를 다시 계산
+ */
+public class ContextTrimStage implements DiffStage {
+    private final int contextLines;
+
+    /**
+     * 생성자
+     *
+     * @param contextLines 변경 줄 앞뒤로 남길 문맥 줄 수
+     */
+    public ContextTrimStage(int contextLines) {
+        this.contextLines = Math.max(0, contextLines);
+    }
+
+    @Override
+    public String getName() {
+        return "context";
+    }
+
+    @Override
+    public FileChange apply(FileChange change) {
+        Patch parsed = Patch.parse(change.getPatch());
+        if (parsed == null) {
+            return change;
+        }
+
+        List<Patch.Hunk> trimmed = new ArrayList<>();
+        boolean changed = false;
+        for (Patch.Hunk hunk : parsed.getHunks()) {
+            List<Patch.Hunk> parts = trim(hunk);
+            changed |= parts.size() != 1 || parts.get(0) != hunk;
+            trimmed.addAll(parts);
+        }
+
+        if (!changed) {
+            return change;
+        }
+        return change.withPatch(parsed.withHunks(trimmed).format());
+    }
+
+    /**
+     * hunk 하나의 문맥 축소
+     *
+     * @return 축소된 hunk 목록 (줄일 것이 없으면 원래 hunk 하나)
+     */
+    List<Patch.Hunk> trim(Patch.Hunk hunk) {
+        List<String> lines = hunk.lines;
+        int size = lines.size();
+        boolean[] keep = new boolean[size];
+
+        // 앞뒤 양방향으로 가장 가까운 변경 줄까지의 거리 계산
+        int lastChange = Integer.MIN_VALUE / 2;
+        for (int i = 0; i < size; i++) {
+            if (Patch.Hunk.isChange(lines.get(i))) {
+                lastChange = i;
+            }
+            keep[i] = i - lastChange <= contextLines;
+        }
+        int nextChange = Integer.MAX_VALUE / 2;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Patch.Hunk.isChange(lines.get(i))) {
+                nextChange = i;
+            }
+            keep[i] |= nextChange - i <= contextLines;
+        }
+        // "\ No newline" 표시는 바로 앞 줄을 따라감
+        for (int i = 1; i < size; i++) {
+            if (Patch.Hunk.isMarker(lines.get(i))) {
+                keep[i] = keep[i - 1];
+            }
+        }
+
+        boolean all = true;
+        for (boolean k : keep) {
+            all &= k;
+        }
+        if (all) {
+            return List.of(hunk);
+        }
+
+        List<Patch.Hunk> parts = new ArrayList<>();
+        Patch.Hunk current = null;
+        int oldLine = hunk.oldStart;
+        int newLine = hunk.newStart;
+        for (int i = 0; i < size; i++) {
+            String line = lines.get(i);
+            if (keep[i]) {
+                if (current == null) {
+                    current = new Patch.Hunk(oldLine, newLine, hunk.section, new ArrayList<>());
+                    parts.add(current);
+                }
+                current.lines.add(line);
+            } else {
+                current = null;
+            }
+
+            char type = line.isEmpty() ? ' ' : line.charAt(0);
+            if (type == ' ' || type == '-') {
+                oldLine++;
+            }
+            if (type == ' ' || type == '+') {
+                newLine++;
+            }
+        }
+        return parts;
+    }
+}
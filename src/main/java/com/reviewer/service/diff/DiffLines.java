@@ -0,0 +1,108 @@
+package com.reviewer.service.diff;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * patch의 새 파일 기준 줄 번호 계산
+ * 구조화 리뷰에서 모델에 줄 번호를 보여 주고, 인라인 댓글을 달 수 있는 줄을 판별할 때 사용
+ */
+public final class DiffLines {
+
+    private static final String BLANK_GUTTER = "      ";
+
+    private DiffLines() {
+        // Utility class
+    }
+
+    /**
+     * 줄 번호 표시와 patch 줄을 한 줄씩 받는 대상
+     */
+    @FunctionalInterface
+    public interface NumberedLineWriter {
+        /**
+         * @param gutter 줄 번호 칸 (6자, 번호가 없으면 공백)
+         * @param line patch 줄 (줄바꿈 제외)
+         */
+        void write(String gutter, String line) throws IOException;
+    }
+
+    /**
+     * 인라인 댓글을 달 수 있는 새 파일 줄 번호 (hunk 안의 추가 줄과 문맥 줄)
+     *
+     * @param patch unified diff patch
+     * @return 줄 번호 집합
+     */
+    public static Set<Integer> commentableLines(String patch) {
+        Set<Integer> lines = new HashSet<>();
+        Patch parsed = Patch.parse(patch);
+        if (parsed == null) {
+            return lines;
+        }
+        for (Patch.Hunk hunk : parsed.getHunks()) {
+            int newLine = hunk.newStart;
+            for (String line : hunk.lines) {
+                char type = line.isEmpty() ? ' ' : line.charAt(0);
+                if (type == ' ' || type == '+') {
+                    lines.add(newLine++);
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * patch 각 줄 앞에 새 파일 줄 번호 표시 (삭제 줄과 hunk 헤더는 빈칸)
+     *
+     * @param patch unified diff patch
+     * @return 줄 번호가 붙은 patch, hunk가 없으면 원본
+     */
+    public static String numbered(String patch) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            if (!writeNumbered(patch, (gutter, line) -> sb.append(gutter).append(line).append('\n'))) {
+                return patch;
+            }
+        } catch (IOException e) {
+            // StringBuilder에 쓰므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 줄 번호가 붙은 patch를 중간 문자열 없이 한 줄씩 전달 (요청 본문에 바로 쓸 때 사용)
+     *
+     * @param patch unified diff patch
+     * @param writer 줄을 받을 대상
+     * @return hunk가 없어 아무 줄도 전달하지 않았으면 false
+     * @throws IOException writer가 실패한 경우
+     */
+    public static boolean writeNumbered(String patch, NumberedLineWriter writer) throws IOException {
+        Patch parsed = Patch.parse(patch);
+        if (parsed == null) {
+            return false;
+        }
+
+        for (Patch.Hunk hunk : parsed.getHunks()) {
+            writer.write(BLANK_GUTTER, hunk.header());
+
+            int newLine = hunk.newStart;
+            for (String line : hunk.lines) {
+                char type = line.isEmpty() ? ' ' : line.charAt(0);
+                writer.write(type == ' ' || type == '+' ? gutter(newLine++) : BLANK_GUTTER, line);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 오른쪽 정렬한 5자리 줄 번호와 공백 ({@code String.format("%5d ", line)}과 같음)
+     */
+    private static String gutter(int line) {
+        String number = Integer.toString(line);
+        return number.length() >= 5 ? number + ' ' : BLANK_GUTTER.substring(number.length() + 1) + number + ' ';
+    }
+}
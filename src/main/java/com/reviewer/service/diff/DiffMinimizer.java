@@ -0,0 +1,111 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import com.reviewer.service.claude.DiffPacker;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 전에 diff를 줄이는 전처리 파이프라인
+ * 단계를 순서대로 적용하고 단계별로 절감한 입력 토큰 수를 기록
+ */
+public class DiffMinimizer {
+    private final List<DiffStage> stages;
+
+    /**
+     * 생성자
+     *
+     * @param stages 적용할 단계 (순서대로 실행)
+     */
+    public DiffMinimizer(List<DiffStage> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    /**
+     * 설정에 따라 기본 단계 구성
+     * 생성 파일 제외 → 공백 변경 hunk 제거 → 문맥 축소
+     *
+     * @param config 리뷰 설정
+     * @return 파이프라인 (비활성화 시 단계 없음)
+     */
+    public static DiffMinimizer fromConfig(ReviewConfig config) {
+        List<DiffStage> stages = new ArrayList<>();
+        if (config.isDiffMinimization()) {
+            stages.add(new GeneratedFileStage(config.getGeneratedGlobs()));
+            stages.add(new WhitespaceHunkStage());
+            if (config.getDiffContextLines() >= 0) {
+                stages.add(new ContextTrimStage(config.getDiffContextLines()));
+            }
+        }
+        return new DiffMinimizer(stages);
+    }
+
+    /**
+     * 최소화 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final List<FileChange> changes;
+        private final Map<String, Integer> savedTokens;
+        private final int removedFiles;
+
+        /**
+         * 전체 절감 토큰 수
+         *
+         * @return 단계별 절감량 합계
+         */
+        public int getTotalSavedTokens() {
+            return savedTokens.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * 변경 파일 목록 최소화
+     *
+     * @param changes 변경 파일 목록
+     * @return 최소화된 목록과 단계별 절감량
+     */
+    public Result minimize(List<FileChange> changes) {
+        Map<String, Integer> saved = new LinkedHashMap<>();
+        stages.forEach(stage -> saved.put(stage.getName(), 0));
+        if (stages.isEmpty()) {
+            return new Result(changes, saved, 0);
+        }
+
+        List<FileChange> result = new ArrayList<>(changes.size());
+        for (FileChange change : changes) {
+            FileChange current = change;
+            int tokens = DiffPacker.estimate(current);
+            for (DiffStage stage : stages) {
+                FileChange next = stage.apply(current);
+                if (next == current) {
+                    continue;
+                }
+                int nextTokens = next != null ? DiffPacker.estimate(next) : 0;
+                saved.merge(stage.getName(), tokens - nextTokens, Integer::sum);
+                current = next;
+                tokens = nextTokens;
+                if (current == null) {
+                    break;
+                }
+            }
+            if (current != null) {
+                result.add(current);
+            }
+        }
+
+        Result minimized = new Result(result, saved, changes.size() - result.size());
+        if (minimized.getTotalSavedTokens() > 0) {
+            System.out.println("🧹 diff 최소화: 약 " + minimized.getTotalSavedTokens() + " 토큰 절감 " + saved
+                    + ", " + minimized.getRemovedFiles() + "개 파일 제외");
+        }
+        return minimized;
+    }
+}
@@ -0,0 +1,25 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.model.FileChange;
+
+/**
+ * diff 최소화 파이프라인의 단계
+ * 파일 단위로 patch를 줄이거나 리뷰 대상에서 제외
+ */
+public interface DiffStage {
+
+    /**
+     * 단계 이름 (절감량 보고에 사용)
+     *
+     * @return 단계 이름
+     */
+    String getName();
+
+    /**
+     * 변경 파일 변환
+     *
+     * @param change 변경 파일
+     * @return 변환된 파일, 리뷰에서 제외하면 null
+     */
+    FileChange apply(FileChange change);
+}
@@ -0,0 +1,113 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.filter.PathFilter;
+import com.reviewer.model.FileChange;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 생성된 파일과 lock 파일 제외
+ * 경로 규칙, 설정한 glob, patch 앞부분의 생성 코드 표시로 판별
+ */
+public class GeneratedFileStage implements DiffStage {
+    private static final Set<String> LOCK_FILES = Set.of(
+            "package-lock.json", "yarn.lock", "pnpm-lock.yaml", "gradle.lockfile",
+            "cargo.lock", "poetry.lock", "composer.lock", "gemfile.lock", "go.sum");
+
+    private static final List<String> GENERATED_DIRS = List.of(
+            "generated/", "__generated__/", "node_modules/");
+
+    // 빌드 출력 디렉터리는 패키지 이름과 겹칠 수 있어 저장소 루트에서만 판별
+    private static final List<String> OUTPUT_DIRS = List.of("build/", "target/", "dist/", "out/");
+
+    private static final List<String> GENERATED_SUFFIXES = List.of(
+            ".min.js", ".min.css", ".map", ".pb.go", "_pb2.py", ".g.dart");
+
+    private static final List<String> CONTENT_MARKERS = List.of(
+            "@generated", "do not edit", "auto-generated", "autogenerated", "code generated by");
+
+    // patch 앞부분에서 생성 코드 표시를 찾을 줄 수
+    private static final int HEADER_SCAN_LINES = 20;
+
+    private final PathFilter globs;
+
+    /**
+     * 생성자
+     *
+     * @param globs 추가로 제외할 경로 glob (예: "src/gen/**")
+     */
+    public GeneratedFileStage(List<String> globs) {
+        boolean empty = globs == null || globs.stream().allMatch(String::isBlank);
+        this.globs = empty ? null : PathFilter.compile(List.of(), globs, List.of(), 0);
+    }
+
+    @Override
+    public String getName() {
+        return "generated";
+    }
+
+    @Override
+    public FileChange apply(FileChange change) {
+        return isGenerated(change) ? null : change;
+    }
+
+    boolean isGenerated(FileChange change) {
+        String filename = change.getFilename();
+        String lower = filename.toLowerCase(Locale.ROOT);
+        String basename = lower.substring(lower.lastIndexOf('/') + 1);
+
+        if (LOCK_FILES.contains(basename)) {
+            return true;
+        }
+        for (String dir : GENERATED_DIRS) {
+            if (lower.startsWith(dir) || lower.contains("/" + dir)) {
+                return true;
+            }
+        }
+        for (String dir : OUTPUT_DIRS) {
+            if (lower.startsWith(dir)) {
+                return true;
+            }
+        }
+        for (String suffix : GENERATED_SUFFIXES) {
+            if (lower.endsWith(suffix)) {
+                return true;
+            }
+        }
+        if (globs != null && globs.matchesPath(filename)) {
+            return true;
+        }
+        return hasGeneratedMarker(change.getPatch());
+    }
+
+    /**
+     * 파일 앞부분에 추가된 줄에서 생성 코드 표시 확인
+     * 새 파일이나 파일 첫 hunk가 1번째 줄부터 시작할 때만 의미가 있음
+     */
+    private static boolean hasGeneratedMarker(String patch) {
+        if (patch == null || !(patch.startsWith("@@ -0,0 ") || patch.startsWith("@@ -1,")
+                || patch.startsWith("@@ -1 "))) {
+            return false;
+        }
+
+        int scanned = 0;
+        int start = patch.indexOf('\n') + 1;
+        while (start > 0 && start < patch.length() && scanned < HEADER_SCAN_LINES) {
+            int end = patch.indexOf('\n', start);
+            String line = patch.substring(start, end < 0 ? patch.length() : end);
+            if (!line.isEmpty() && line.charAt(0) != '-') {
+                String lower = line.toLowerCase(Locale.ROOT);
+                for (String marker : CONTENT_MARKERS) {
+                    if (lower.contains(marker)) {
+                        return true;
+                    }
+                }
+            }
+            scanned++;
+            start = end < 0 ? patch.length() : end + 1;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+package com.reviewer.service.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * unified diff patch를 hunk 단위로 파싱한 결과
+ * 단계에서 hunk를 고친 뒤 format()으로 다시 patch 문자열을 만듦
+ */
+final class Patch {
+    private static final Pattern HUNK_HEADER =
+            Pattern.compile("^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@(.*)$");
+
+    private final List<String> preamble;
+    private final List<Hunk> hunks;
+    private final boolean trailingNewline;
+
+    private Patch(List<String> preamble, List<Hunk> hunks, boolean trailingNewline) {
+        this.preamble = preamble;
+        this.hunks = hunks;
+        this.trailingNewline = trailingNewline;
+    }
+
+    /**
+     * patch 문자열 파싱
+     *
+     * @param text patch 문자열
+     * @return 파싱 결과, hunk가 없으면 null
+     */
+    static Patch parse(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        boolean trailingNewline = text.endsWith("\n");
+        String[] lines = (trailingNewline ? text.substring(0, text.length() - 1) : text).split("\n", -1);
+
+        List<String> preamble = new ArrayList<>();
+        List<Hunk> hunks = new ArrayList<>();
+        Hunk current = null;
+        for (String line : lines) {
+            Matcher matcher = line.startsWith("@@") ? HUNK_HEADER.matcher(line) : null;
+            if (matcher != null && matcher.matches()) {
+                current = new Hunk(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(3)),
+                        matcher.group(5), new ArrayList<>());
+                hunks.add(current);
+            } else if (current != null) {
+                current.lines.add(line);
+            } else {
+                preamble.add(line);
+            }
+        }
+        return hunks.isEmpty() ? null : new Patch(preamble, hunks, trailingNewline);
+    }
+
+    List<Hunk> getHunks() {
+        return hunks;
+    }
+
+    /**
+     * hunk 목록을 바꾼 patch 생성
+     */
+    Patch withHunks(List<Hunk> newHunks) {
+        return new Patch(preamble, newHunks, trailingNewline);
+    }
+
+    /**
+     * patch 문자열로 변환 (hunk 헤더의 줄 수는 다시 계산)
+     */
+    String format() {
+        StringBuilder sb = new StringBuilder();
+        for (String line : preamble) {
+            sb.append(line).append('\n');
+        }
+        for (Hunk hunk : hunks) {
+            hunk.appendTo(sb);
+        }
+        if (!trailingNewline && !sb.isEmpty()) {
+            sb.setLength(sb.length() - 1);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * hunk 하나 (헤더의 시작 줄 번호와 본문 줄)
+     */
+    static final class Hunk {
+        final int oldStart;
+        final int newStart;
+        final String section;
+        final List<String> lines;
+
+        Hunk(int oldStart, int newStart, String section, List<String> lines) {
+            this.oldStart = oldStart;
+            this.newStart = newStart;
+            this.section = section;
+            this.lines = lines;
+        }
+
+        /**
+         * 추가/삭제 줄 여부
+         */
+        static boolean isChange(String line) {
+            return !line.isEmpty() && (line.charAt(0) == '+' || line.charAt(0) == '-');
+        }
+
+        /**
+         * "\ No newline at end of file" 같은 표시 줄 여부
+         */
+        static boolean isMarker(String line) {
+            return !line.isEmpty() && line.charAt(0) == '\\';
+        }
+
+        void appendTo(StringBuilder sb) {
+            sb.append(header()).append('\n');
+            for (String line : lines) {
+                sb.append(line).append('\n');
+            }
+        }
+
+        /**
+         * 줄 수를 본문 기준으로 다시 센 hunk 헤더 (줄바꿈 제외)
+         */
+        String header() {
+            int oldCount = 0;
+            int newCount = 0;
+            for (String line : lines) {
+                char type = line.isEmpty() ? ' ' : line.charAt(0);
+                if (type == ' ' || type == '-') {
+                    oldCount++;
+                }
+                if (type == ' ' || type == '+') {
+                    newCount++;
+                }
+            }
+
+            return "@@ -" + oldStart + ',' + oldCount + " +" + newStart + ',' + newCount + " @@" + section;
+        }
+    }
+}
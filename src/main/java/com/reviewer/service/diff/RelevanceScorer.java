@@ -0,0 +1,187 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.filter.PathFilter;
+import com.reviewer.model.FileChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 예산이 부족할 때 어떤 파일을 먼저 볼지 정하는 파일별 중요도 점수
+ * 상태, 변경 줄 수, 경로의 위험 영역(보안, 동시성, DB), 설정한 위험 glob을 반영
+ */
+public class RelevanceScorer {
+    // 경로를 단어로 나누어 비교 ("*"로 끝나면 그 접두어로 시작하는 단어, 아니면 단어 자체나 복수형)
+    private static final List<String> SECURITY_KEYWORDS = List.of(
+            "auth", "authenticat*", "authoriz*", "security", "crypto*", "password", "secret", "token",
+            "permission", "acl", "login", "session", "oauth", "jwt", "credential", "sanitiz*");
+
+    private static final List<String> CONCURRENCY_KEYWORDS = List.of(
+            "concurren*", "thread*", "lock", "locking", "async", "executor", "scheduler", "mutex", "atomic",
+            "queue");
+
+    private static final List<String> DATABASE_KEYWORDS = List.of(
+            "repository", "repositories", "dao", "sql", "migration", "schema", "database", "jdbc", "query",
+            "queries", "entity", "entities", "mapper", "transaction*");
+
+    // 이름에 lock이 들어가도 의존성 잠금 파일은 위험 영역이 아님
+    private static final Pattern LOCKFILE = Pattern.compile(".*\\.lock|.*-lock\\.(json|ya?ml)|go\\.sum");
+
+    private static final List<String> TEST_DIRS = List.of("test/", "tests/", "__tests__/", "spec/");
+
+    private static final List<String> DOC_SUFFIXES = List.of(".md", ".txt", ".rst", ".adoc");
+
+    // 위험 영역 하나당 가산점
+    private static final double RISK_WEIGHT = 3.0;
+
+    // 테스트, 문서 파일 감점 비율
+    private static final double LOW_VALUE_FACTOR = 0.5;
+
+    private final PathFilter riskGlobs;
+
+    /**
+     * 생성자
+     *
+     * @param riskGlobs 위험 영역으로 볼 추가 경로 glob (예: "src/payment/**")
+     */
+    public RelevanceScorer(List<String> riskGlobs) {
+        boolean empty = riskGlobs == null || riskGlobs.stream().allMatch(String::isBlank);
+        this.riskGlobs = empty ? null : PathFilter.compile(List.of(), riskGlobs, List.of(), 0);
+    }
+
+    /**
+     * 파일 중요도 점수 계산 (클수록 먼저 리뷰)
+     *
+     * @param change 변경 파일
+     * @return 중요도 점수
+     */
+    public double score(FileChange change) {
+        String filename = change.getFilename();
+        String lower = filename.toLowerCase(Locale.ROOT);
+
+        double score = statusWeight(change.getStatus()) + churnWeight(change.getPatch(), change.getStatus());
+        score += RISK_WEIGHT * riskAreas(filename, lower);
+        if (riskGlobs != null && riskGlobs.matchesPath(filename)) {
+            score += RISK_WEIGHT;
+        }
+        if (isTest(filename, lower) || isDoc(lower)) {
+            score *= LOW_VALUE_FACTOR;
+        }
+        return score;
+    }
+
+    /**
+     * 상태별 기본 점수 (새 코드와 수정된 코드 우선)
+     */
+    private static double statusWeight(String status) {
+        if (status == null) {
+            return 1.0;
+        }
+        return switch (status) {
+            case "added" -> 3.0;
+            case "modified", "changed" -> 2.5;
+            case "renamed", "copied" -> 1.0;
+            default -> 0.0;   // removed, unchanged 등
+        };
+    }
+
+    /**
+     * 변경 줄 수 점수 (로그 스케일이라 큰 파일이 점수를 독차지하지 않음)
+     * 삭제된 파일은 삭제 줄을 세지 않아 큰 파일 삭제가 새 코드보다 앞서지 않음
+     */
+    private static double churnWeight(String patch, String status) {
+        if (patch == null || patch.isEmpty()) {
+            return 0.0;
+        }
+
+        boolean removed = "removed".equals(status);
+        int changed = 0;
+        int start = 0;
+        while (start < patch.length()) {
+            char first = patch.charAt(start);
+            if ((first == '+' || (first == '-' && !removed))
+                    && !patch.startsWith("+++", start) && !patch.startsWith("---", start)) {
+                changed++;
+            }
+            int end = patch.indexOf('\n', start);
+            start = end < 0 ? patch.length() : end + 1;
+        }
+        return Math.log1p(changed) / Math.log(2);
+    }
+
+    /**
+     * 경로가 걸리는 위험 영역 수 (보안, 동시성, DB)
+     */
+    private static int riskAreas(String filename, String lower) {
+        if (LOCKFILE.matcher(basename(lower)).matches()) {
+            return 0;
+        }
+
+        List<String> words = words(filename);
+        int areas = 0;
+        for (List<String> keywords : List.of(SECURITY_KEYWORDS, CONCURRENCY_KEYWORDS, DATABASE_KEYWORDS)) {
+            if (keywords.stream().anyMatch(keyword -> words.stream().anyMatch(word -> matches(word, keyword)))) {
+                areas++;
+            }
+        }
+        if (lower.endsWith(".sql")) {
+            areas = Math.max(areas, 1);
+        }
+        return areas;
+    }
+
+    private static boolean matches(String word, String keyword) {
+        if (keyword.endsWith("*")) {
+            return word.startsWith(keyword.substring(0, keyword.length() - 1));
+        }
+        return word.equals(keyword) || word.equals(keyword + "s");
+    }
+
+    /**
+     * 경로를 소문자 단어로 분리 (구분 문자, 숫자, camelCase 경계 기준)
+     * 예: "src/auth/JWTTokenFilter.java" → src, auth, jwt, token, filter, java
+     */
+    static List<String> words(String path) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= path.length(); i++) {
+            char c = i < path.length() ? path.charAt(i) : '/';
+            boolean letter = Character.isLetter(c);
+            boolean boundary = letter && start >= 0 && Character.isUpperCase(c)
+                    && (Character.isLowerCase(path.charAt(i - 1))
+                    || (i + 1 < path.length() && Character.isLowerCase(path.charAt(i + 1))
+                    && Character.isUpperCase(path.charAt(i - 1))));
+            if (start >= 0 && (!letter || boundary)) {
+                words.add(path.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+            if (letter && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    private static String basename(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static boolean isTest(String filename, String lower) {
+        List<String> words = words(basename(filename));
+        if (words.contains("test") || words.contains("tests") || basename(lower).contains(".spec.")) {
+            return true;
+        }
+        for (String dir : TEST_DIRS) {
+            if (lower.startsWith(dir) || lower.contains("/" + dir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDoc(String lower) {
+        return DOC_SUFFIXES.stream().anyMatch(lower::endsWith);
+    }
+}
@@ -0,0 +1,78 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.model.FileChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 줄 앞뒤 공백만 바뀐 hunk 제거
+ * 남는 hunk가 없으면 (공백 변경만 있거나 내용 변경 없는 이름 변경) 파일을 제외
+ * 들여쓰기가 의미를 갖는 파일(Python, YAML, Makefile)은 hunk를 그대로 유지
+ */
+public class WhitespaceHunkStage implements DiffStage {
+    private static final Pattern INDENT_SENSITIVE =
+            Pattern.compile("(?:.*/)?(?:[^/]*\\.(?:py|pyi|ya?ml|mk)|(?:gnu)?makefile)");
+
+    @Override
+    public String getName() {
+        return "whitespace";
+    }
+
+    @Override
+    public FileChange apply(FileChange change) {
+        String patch = change.getPatch();
+        if (patch == null || patch.isBlank()) {
+            // 내용 변경 없이 이름만 바뀐 파일
+            return "renamed".equals(change.getStatus()) ? null : change;
+        }
+
+        Patch parsed = Patch.parse(patch);
+        if (parsed == null || isIndentSensitive(change.getFilename())) {
+            return change;
+        }
+
+        List<Patch.Hunk> kept = new ArrayList<>();
+        for (Patch.Hunk hunk : parsed.getHunks()) {
+            if (!isWhitespaceOnly(hunk)) {
+                kept.add(hunk);
+            }
+        }
+
+        if (kept.size() == parsed.getHunks().size()) {
+            return change;
+        }
+        if (kept.isEmpty()) {
+            return null;
+        }
+        return change.withPatch(parsed.withHunks(kept).format());
+    }
+
+    /**
+     * 들여쓰기가 의미를 갖는 파일인지 확인
+     */
+    static boolean isIndentSensitive(String filename) {
+        return filename != null && INDENT_SENSITIVE.matcher(filename.toLowerCase(Locale.ROOT)).matches();
+    }
+
+    /**
+     * 삭제된 줄과 추가된 줄이 앞뒤 공백과 빈 줄을 빼면 같은지 확인
+     * 줄 안쪽 공백(문자열 리터럴 등)은 의미가 바뀔 수 있으므로 비교에 포함
+     */
+    static boolean isWhitespaceOnly(Patch.Hunk hunk) {
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (String line : hunk.lines) {
+            if (!Patch.Hunk.isChange(line)) {
+                continue;
+            }
+            String content = line.substring(1).strip();
+            if (!content.isEmpty()) {
+                (line.charAt(0) == '-' ? removed : added).add(content);
+            }
+        }
+        return removed.equals(added);
+    }
+}
@@ -0,0 +1,100 @@
+package com.reviewer.service.git;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.reviewer.filter.PathFilter;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.PatchStorage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * PR 파일 목록 JSON 배열 스트리밍 파서 (GitHub, Gitea 공통 형식)
+ * 파일명이 경로 필터에 맞지 않으면 patch를 읽지 않고 건너뜀
+ */
+final class FileListParser {
+
+    private FileListParser() {
+        // Utility class
+    }
+
+    /**
+     * 파일 목록 한 페이지 파싱
+     *
+     * @param in 응답 본문
+     * @param filter 리뷰 대상 파일 필터
+     * @param sink 필터를 통과한 파일 수신
+     * @return 페이지의 전체 항목 수 (필터 전)
+     * @throws IOException 읽기 실패 시
+     */
+    static int parse(Reader in, PathFilter filter, Consumer<FileChange> sink) throws IOException {
+        return parse(in, filter, PatchStorage.IN_MEMORY, sink);
+    }
+
+    /**
+     * 파일 목록 한 페이지 파싱 (큰 patch는 저장 방식에 따라 임시 파일에 보관)
+     *
+     * @param in 응답 본문
+     * @param filter 리뷰 대상 파일 필터
+     * @param storage patch 저장 방식
+     * @param sink 필터를 통과한 파일 수신
+     * @return 페이지의 전체 항목 수 (필터 전)
+     * @throws IOException 읽기 실패 시
+     */
+    static int parse(Reader in, PathFilter filter, PatchStorage storage, Consumer<FileChange> sink)
+            throws IOException {
+        int itemCount = 0;
+        try (JsonReader reader = new JsonReader(in)) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                FileChange fileChange = readFileChange(reader, filter, storage);
+                if (fileChange != null) {
+                    sink.accept(fileChange);
+                }
+                itemCount++;
+            }
+            reader.endArray();
+        }
+        return itemCount;
+    }
+
+    /**
+     * 파일 객체 하나를 읽어 FileChange로 변환 (필터에 맞지 않으면 null)
+     */
+    private static FileChange readFileChange(JsonReader reader, PathFilter filter, PatchStorage storage)
+            throws IOException {
+        String filename = null;
+        String patch = "";
+        String status = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "filename" -> filename = reader.nextString();
+                case "status" -> status = reader.nextString();
+                case "patch" -> {
+                    if (filename != null && !filter.matchesPath(filename)) {
+                        reader.skipValue();
+                    } else {
+                        patch = reader.nextString();
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (filename == null || !filter.matchesPath(filename) || !filter.matchesSize(patch)) {
+            return null;
+        }
+        return new FileChange(filename, patch, status, storage);
+    }
+}
@@ -0,0 +1,113 @@
+package com.reviewer.service.git;
+
+import com.reviewer.concurrent.BoundedExecutor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 저장소에서 git 명령 실행
+ * 표준 출력은 스트리밍으로 넘기고, 표준 오류는 실패 메시지용으로 따로 읽음
+ */
+final class GitCli {
+    private final File workTree;
+
+    /**
+     * 생성자
+     *
+     * @param workTree 저장소 작업 디렉터리
+     */
+    GitCli(File workTree) {
+        this.workTree = workTree;
+    }
+
+    /**
+     * git 명령 실행 후 표준 출력을 읽어 결과 반환
+     *
+     * @param args git 이후 인자
+     * @param reader 표준 출력 처리 함수
+     * @param <T> 결과 타입
+     * @return 처리 결과
+     * @throws IOException 실행 실패, 0이 아닌 종료 코드, 중단 시
+     */
+    <T> T run(List<String> args, BoundedExecutor.IOFunction<Reader, T> reader) throws IOException {
+        List<String> command = new ArrayList<>(args.size() + 3);
+        command.add("git");
+        // 경로를 따옴표 없이 그대로 출력
+        command.add("-c");
+        command.add("core.quotePath=false");
+        command.addAll(args);
+
+        Process process = new ProcessBuilder(command).directory(workTree).start();
+        StringBuilder stderr = new StringBuilder();
+        Thread errorReader = Thread.ofVirtual().start(() -> {
+            try (BufferedReader err = process.errorReader(StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = err.readLine()) != null) {
+                    synchronized (stderr) {
+                        stderr.append(line).append('\n');
+                    }
+                }
+            } catch (IOException ignored) {
+                // 프로세스 종료로 스트림이 닫힘
+            }
+        });
+
+        try (Reader out = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+            T result = reader.apply(out);
+            int exitCode = process.waitFor();
+            errorReader.join();
+            if (exitCode != 0) {
+                synchronized (stderr) {
+                    throw new IOException("git " + args.get(0) + " 실패 (" + exitCode + "): " + stderr.toString().trim());
+                }
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("git 명령이 중단되었습니다", e);
+        } finally {
+            process.destroy();
+        }
+    }
+
+    /**
+     * git 명령 실행 후 표준 출력 전체를 문자열로 반환 (끝 공백 제거)
+     */
+    String output(List<String> args) throws IOException {
+        return run(args, in -> {
+            StringBuilder sb = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                sb.append(buffer, 0, read);
+            }
+            return sb.toString().trim();
+        });
+    }
+
+    /**
+     * 종료 코드만 확인 (0이면 true)
+     */
+    boolean succeeds(List<String> args) throws IOException {
+        try {
+            run(args, in -> {
+                in.transferTo(Writer.nullWriter());
+                return null;
+            });
+            return true;
+        } catch (IOException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw e;
+            }
+            return false;
+        }
+    }
+}
@@ -1,24 +1,55 @@
 package com.reviewer.service.git;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.reviewer.concurrent.BoundedExecutor;
 import com.reviewer.config.ReviewConfig;
+import com.reviewer.http.SharedHttpClient;
 import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHPullRequest;
-import org.kohsuke.github.GHPullRequestFileDetail;
+import org.kohsuke.github.GHPullRequestReview;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * GitHub 서비스 구현체
  */
 public class GitHubServiceImpl implements GitService {
+    private static final int PAGE_SIZE = 100;
+    // GitHub는 PR 파일 목록을 최대 3000개까지만 반환
+    private static final int MAX_FILES = 3000;
+    // compare API는 변경 파일을 최대 300개까지만 반환
+    private static final int MAX_COMPARE_FILES = 300;
+    // Actions GITHUB_TOKEN으로 댓글을 쓰는 계정 (설치 토큰은 /user 조회가 거부됨)
+    private static final String ACTIONS_BOT_LOGIN = "github-actions[bot]";
+
     private final GitHub github;
+    private final OkHttpClient client;
     private final ReviewConfig config;
 
+    private GHRepository repository;
+    private GHPullRequest pullRequest;
+    private String botLogin;
+
     /**
      * 생성자 주입
      *
@@ -26,36 +57,133 @@ public class GitHubServiceImpl implements GitService {
      * @throws IOException GitHub API 연결 실패 시
      */
     public GitHubServiceImpl(ReviewConfig config) throws IOException {
+        this(config, SharedHttpClient.get());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param client 공유 HTTP 클라이언트
+     * @throws IOException GitHub API 연결 실패 시
+     */
+    public GitHubServiceImpl(ReviewConfig config, OkHttpClient client) throws IOException {
         this.config = config;
+        this.client = client;
         this.github = new GitHubBuilder()
+                .withEndpoint(config.getGithubApiUrl())
                 .withOAuthToken(config.getGithubToken())
+                .withConnector(new OkHttpGitHubConnector(client))
                 .build();
     }
 
     /**
-     * PR 객체 가져오기
+     * 저장소 객체 가져오기 (최초 조회 후 재사용)
      */
-    private GHPullRequest getPullRequest() throws IOException {
-        GHRepository repo = github.getRepository(config.getRepoName());
-        return repo.getPullRequest(config.getPrNumber());
+    private synchronized GHRepository getRepository() throws IOException {
+        if (repository == null) {
+            repository = github.getRepository(config.getRepoName());
+        }
+        return repository;
+    }
+
+    /**
+     * PR 객체 가져오기 (최초 조회 후 재사용)
+     */
+    private synchronized GHPullRequest getPullRequest() throws IOException {
+        if (pullRequest == null) {
+            pullRequest = getRepository().getPullRequest(config.getPrNumber());
+        }
+        return pullRequest;
+    }
+
+    /**
+     * 토큰으로 인증된 계정 로그인 (최초 조회 후 재사용)
+     * Actions 설치 토큰은 /user 조회가 403으로 거부되므로 github-actions[bot]으로 간주
+     */
+    private synchronized String getBotLogin() {
+        if (botLogin == null) {
+            try {
+                botLogin = github.getMyself().getLogin();
+            } catch (IOException e) {
+                botLogin = ACTIONS_BOT_LOGIN;
+            }
+        }
+        return botLogin;
     }
 
     /**
      * 변경된 파일 목록 가져오기
+     * PR의 changed_files 수로 페이지를 계산해 동시에 조회하고, 확장자 필터는 patch를 읽기 전에 적용
      */
     @Override
     public List<FileChange> getChangedFiles() throws IOException {
-        GHPullRequest pr = getPullRequest();
+        int changedFiles = Math.min(getPullRequest().getChangedFiles(), MAX_FILES);
+        int pageCount = Math.max(1, (changedFiles + PAGE_SIZE - 1) / PAGE_SIZE);
+        List<Integer> pages = IntStream.rangeClosed(1, pageCount).boxed().toList();
+
+        List<List<FileChange>> results = BoundedExecutor.mapAll(pages, config.getMaxConcurrency(), page -> {
+            List<FileChange> pageChanges = new ArrayList<>();
+            fetchFilesPage(page, pageChanges::add);
+            return pageChanges;
+        });
+
         List<FileChange> changes = new ArrayList<>();
+        results.forEach(changes::addAll);
+        return changes;
+    }
+
+    /**
+     * 파일 목록 한 페이지 조회 (REST API 직접 호출, 스트리밍 파싱, 테스트에서 직접 호출하므로 package-private)
+     */
+    void fetchFilesPage(int page, Consumer<FileChange> sink) throws IOException {
+        String url = String.format("%s/repos/%s/pulls/%d/files?per_page=%d&page=%d",
+                config.getGithubApiUrl(), config.getRepoName(), config.getPrNumber(), PAGE_SIZE, page);
+
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Authorization", "Bearer " + config.getGithubToken())
+                .header("Accept", "application/vnd.github+json")
+                .build();
 
-        for (GHPullRequestFileDetail file : pr.listFiles()) {
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("GitHub API 호출 실패: " + response.code() + " " + response.message());
+            }
+            FileListParser.parse(response.body().charStream(), config.getPathFilter(), config.getPatchStorage(), sink);
+        }
+    }
+
+    /**
+     * 마지막 리뷰 이후 변경분 가져오기 (compare API)
+     */
+    @Override
+    public List<FileChange> getChangedFilesSince(String baseSha) throws IOException {
+        GHCompare compare = getRepository().getCompare(baseSha, getHeadSha());
+
+        // rebase/force push로 이전 SHA가 조상이 아니면 전체 변경을 리뷰
+        if (compare.getStatus() != GHCompare.Status.ahead
+                && compare.getStatus() != GHCompare.Status.identical) {
+            return getChangedFiles();
+        }
+
+        // 파일 목록이 잘렸으면 누락된 파일이 생기므로 전체 변경을 리뷰
+        GHCommit.File[] files = compare.getFiles();
+        if (files.length >= MAX_COMPARE_FILES) {
+            System.err.println("⚠️ compare 결과가 " + MAX_COMPARE_FILES + "개 파일에서 잘려 증분 리뷰 대신 전체 변경사항으로 리뷰합니다.");
+            return getChangedFiles();
+        }
+
+        List<FileChange> changes = new ArrayList<>();
+        for (GHCommit.File file : files) {
             FileChange fileChange = new FileChange(
-                    file.getFilename(),
+                    file.getFileName(),
                     file.getPatch() != null ? file.getPatch() : "",
-                    file.getStatus()
+                    file.getStatus(),
+                    config.getPatchStorage()
             );
 
-            if (fileChange.matchesExtensions(config.getFileExtensions())) {
+            if (config.getPathFilter().matches(fileChange)) {
                 changes.add(fileChange);
             }
         }
@@ -63,6 +191,58 @@ public class GitHubServiceImpl implements GitService {
         return changes;
     }
 
+    /**
+     * PR head 커밋 SHA 가져오기
+     */
+    @Override
+    public String getHeadSha() throws IOException {
+        return getPullRequest().getHead().getSha();
+    }
+
+    /**
+     * 이전 리뷰 댓글과 PR 리뷰에서 마지막으로 리뷰한 SHA 찾기
+     */
+    @Override
+    public String findLastReviewedSha() throws IOException {
+        String lastSha = null;
+        Date lastAt = null;
+        for (GHIssueComment comment : getPullRequest().getComments()) {
+            String sha = ReviewMarker.parseReviewedSha(comment.getBody());
+            // 고정 댓글은 수정되므로 마지막 수정 시각 기준
+            if (sha != null && (lastAt == null || !comment.getUpdatedAt().before(lastAt))) {
+                lastSha = sha;
+                lastAt = comment.getUpdatedAt();
+            }
+        }
+        for (GHPullRequestReview review : getPullRequest().listReviews()) {
+            String sha = ReviewMarker.parseReviewedSha(review.getBody());
+            Date submittedAt = review.getSubmittedAt();
+            if (sha != null && (lastAt == null || submittedAt == null || !submittedAt.before(lastAt))) {
+                lastSha = sha;
+                lastAt = submittedAt;
+            }
+        }
+        return lastSha;
+    }
+
+    /**
+     * 열린 PR 번호 목록 가져오기
+     */
+    @Override
+    public List<Integer> listOpenPullRequests(String label, boolean skipDrafts) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        for (GHPullRequest pr : getRepository().getPullRequests(GHIssueState.OPEN)) {
+            if (skipDrafts && pr.isDraft()) {
+                continue;
+            }
+            if (label != null && pr.getLabels().stream().noneMatch(l -> label.equals(l.getName()))) {
+                continue;
+            }
+            numbers.add(pr.getNumber());
+        }
+        return numbers;
+    }
+
     /**
      * PR에 댓글 작성
      */
@@ -71,4 +251,93 @@ public class GitHubServiceImpl implements GitService {
         GHPullRequest pr = getPullRequest();
         pr.comment(comment);
     }
+
+    /**
+     * 고정 댓글 작성 또는 수정
+     * 봇 계정이 쓴 댓글 중 마커가 있는 마지막 댓글을 찾아 본문 해시가 같으면 생략하고, 다르면 수정
+     */
+    @Override
+    public boolean upsertStickyComment(String comment) throws IOException {
+        String body = ReviewMarker.withStickyMarker(comment);
+        String hash = ReviewMarker.parseStickyHash(body);
+        String login = getBotLogin();
+
+        GHIssueComment existing = null;
+        for (GHIssueComment candidate : getPullRequest().getComments()) {
+            String author = candidate.getUser() != null ? candidate.getUser().getLogin() : null;
+            if (ReviewMarker.isOwnSticky(candidate.getBody(), author, login)) {
+                existing = candidate;
+            }
+        }
+
+        if (existing == null) {
+            getPullRequest().comment(body);
+            return true;
+        }
+        if (hash.equals(ReviewMarker.parseStickyHash(existing.getBody()))) {
+            return false;
+        }
+        existing.update(body);
+        return true;
+    }
+
+    /**
+     * 인라인 댓글을 포함한 PR 리뷰 작성 (create review API 한 번 호출)
+     * 댓글 줄 하나라도 PR diff에 없으면 GitHub가 리뷰 전체를 422로 거절하므로,
+     * 그때는 인라인 댓글을 본문 목록으로 합쳐 한 번 더 게시
+     */
+    @Override
+    public void postReview(String body, String commitSha, List<ReviewComment> comments) throws IOException {
+        int code = sendReview(body, commitSha, comments);
+        if (code == 422 && !comments.isEmpty()) {
+            System.out.println("⚠️ 인라인 댓글 위치가 PR diff에 없어 리뷰가 거절되어(422) 댓글을 본문에 합쳐 다시 게시합니다.");
+            code = sendReview(foldComments(body, comments), commitSha, List.of());
+        }
+        if (code < 200 || code >= 300) {
+            throw new IOException("GitHub 리뷰 작성 실패: " + code);
+        }
+    }
+
+    /**
+     * create review API 호출
+     *
+     * @return 응답 코드
+     */
+    private int sendReview(String body, String commitSha, List<ReviewComment> comments) throws IOException {
+        JsonObject review = new JsonObject();
+        review.addProperty("commit_id", commitSha);
+        review.addProperty("body", body);
+        review.addProperty("event", "COMMENT");
+        JsonArray items = new JsonArray();
+        for (ReviewComment comment : comments) {
+            JsonObject item = new JsonObject();
+            item.addProperty("path", comment.getPath());
+            item.addProperty("line", comment.getLine());
+            item.addProperty("side", "RIGHT");
+            item.addProperty("body", comment.getBody());
+            items.add(item);
+        }
+        review.add("comments", items);
+
+        String url = String.format("%s/repos/%s/pulls/%d/reviews",
+                config.getGithubApiUrl(), config.getRepoName(), config.getPrNumber());
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Authorization", "Bearer " + config.getGithubToken())
+                .header("Accept", "application/vnd.github+json")
+                .post(RequestBody.create(review.toString(), MediaType.get("application/json; charset=utf-8")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    /**
+     * 인라인 댓글을 리뷰 본문 끝에 "경로:줄" 목록으로 합침
+     */
+    private String foldComments(String body, List<ReviewComment> comments) {
+        return GitService.foldComments(body,
+                "ko".equals(config.getLanguage()) ? "### 인라인 지적 사항" : "### Inline findings", comments);
+    }
 }
@@ -1,6 +1,7 @@
 package com.reviewer.service.git;
 
 import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
 
 import java.io.IOException;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.List;
 /**
  * Git 플랫폼 서비스 인터페이스
  * GitHub, Gitea 등 다양한 플랫폼 지원
+ * 변경 파일 조회와 댓글 작성만 필수이고, 나머지는 기존 구현체가 깨지지 않도록 기본 구현 제공
  */
 public interface GitService {
 
@@ -19,6 +21,56 @@ public interface GitService {
      */
     List<FileChange> getChangedFiles() throws IOException;
 
+    /**
+     * 지정한 커밋 이후 push된 변경분만 조회 (증분 리뷰)
+     * baseSha가 현재 head의 조상이 아니면 (force push 등) 전체 변경 목록을 반환
+     * 기본 구현은 전체 변경 목록 반환
+     *
+     * @param baseSha 마지막으로 리뷰한 head 커밋 SHA
+     * @return baseSha와 현재 head 사이의 변경된 파일 목록
+     * @throws IOException API 호출 실패 시
+     */
+    default List<FileChange> getChangedFilesSince(String baseSha) throws IOException {
+        return getChangedFiles();
+    }
+
+    /**
+     * PR의 현재 head 커밋 SHA 조회
+     * 기본 구현은 null (리뷰한 SHA 마커를 남기지 않고 증분 리뷰도 하지 않음)
+     *
+     * @return head 커밋 SHA, 알 수 없으면 null
+     * @throws IOException API 호출 실패 시
+     */
+    default String getHeadSha() throws IOException {
+        return null;
+    }
+
+    /**
+     * 이전 리뷰 댓글과 PR 리뷰의 마커에서 마지막으로 리뷰한 SHA 조회
+     *
+     * 기본 구현은 null (항상 전체 리뷰)
+     *
+     * @return 마지막으로 리뷰한 SHA, 이전 리뷰가 없으면 null
+     * @throws IOException API 호출 실패 시
+     */
+    default String findLastReviewedSha() throws IOException {
+        return null;
+    }
+
+    /**
+     * 저장소의 열린 PR 번호 목록 조회 (배치 리뷰용)
+     * 기본 구현은 지원하지 않음
+     *
+     * @param label 이 라벨이 붙은 PR만 조회 (null이면 전체)
+     * @param skipDrafts draft PR 제외 여부
+     * @return 열린 PR 번호 목록
+     * @throws IOException API 호출 실패 시
+     * @throws UnsupportedOperationException 구현체가 지원하지 않을 때
+     */
+    default List<Integer> listOpenPullRequests(String label, boolean skipDrafts) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + "는 열린 PR 목록 조회를 지원하지 않습니다.");
+    }
+
     /**
      * PR에 댓글 작성
      *
@@ -26,4 +78,47 @@ public interface GitService {
      * @throws IOException API 호출 실패 시
      */
     void postComment(String comment) throws IOException;
+
+    /**
+     * 고정 댓글 작성 (이전 고정 댓글이 있으면 수정, 내용이 같으면 쓰지 않음)
+     * 기본 구현은 매번 새 댓글 작성
+     *
+     * @param comment 작성할 댓글 내용
+     * @return 댓글을 작성하거나 수정했으면 true, 내용이 같아 생략했으면 false
+     * @throws IOException API 호출 실패 시
+     */
+    default boolean upsertStickyComment(String comment) throws IOException {
+        postComment(comment);
+        return true;
+    }
+
+    /**
+     * 인라인 댓글을 포함한 PR 리뷰를 한 번의 API 호출로 작성
+     * 기본 구현은 인라인 댓글을 본문 목록으로 합쳐 댓글 하나로 작성
+     *
+     * @param body 리뷰 본문
+     * @param commitSha 리뷰한 커밋 SHA (인라인 댓글 위치 기준)
+     * @param comments 인라인 댓글 목록 (diff 안의 줄만)
+     * @throws IOException API 호출 실패 시
+     */
+    default void postReview(String body, String commitSha, List<ReviewComment> comments) throws IOException {
+        postComment(comments.isEmpty() ? body : foldComments(body, "### Inline findings", comments));
+    }
+
+    /**
+     * 인라인 댓글을 리뷰 본문 끝에 "- `경로:줄` 내용" 목록으로 합침
+     *
+     * @param body 리뷰 본문
+     * @param heading 목록 제목
+     * @param comments 인라인 댓글 목록
+     * @return 댓글 목록이 합쳐진 본문
+     */
+    static String foldComments(String body, String heading, List<ReviewComment> comments) {
+        StringBuilder sb = new StringBuilder(body).append("\n\n").append(heading).append("\n\n");
+        for (ReviewComment comment : comments) {
+            sb.append("- `").append(comment.getPath()).append(':').append(comment.getLine()).append("` ")
+                    .append(comment.getBody().replace("\n\n", "\n  ")).append('\n');
+        }
+        return sb.toString();
+    }
 }
@@ -2,48 +2,113 @@ package com.reviewer.service.git;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.reviewer.concurrent.BoundedExecutor;
 import com.reviewer.config.ReviewConfig;
+import com.reviewer.http.SharedHttpClient;
 import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
 import okhttp3.*;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * Gitea 서비스 구현체
  */
 public class GiteaServiceImpl implements GitService {
+    private static final int PAGE_SIZE = 50;
+
     private final OkHttpClient client;
     private final ReviewConfig config;
     private final Gson gson;
     private final String baseUrl;
 
+    private String botLogin;
+
     /**
      * 생성자 주입
      *
      * @param config 리뷰 설정
      */
     public GiteaServiceImpl(ReviewConfig config) {
+        this(config, SharedHttpClient.get());
+    }
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param client 공유 HTTP 클라이언트
+     */
+    public GiteaServiceImpl(ReviewConfig config, OkHttpClient client) {
         this.config = config;
         this.baseUrl = config.getGiteaUrl();
         this.gson = new Gson();
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(180, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS)
-                .build();
+        this.client = client;
     }
 
     /**
      * 변경된 파일 목록 가져오기
+     * 첫 페이지의 X-Total-Count로 전체 페이지 수를 알면 나머지 페이지를 동시에 조회
+     * 서버가 limit를 MAX_RESPONSE_ITEMS로 줄일 수 있으므로 페이지 크기는 요청 값이 아닌 첫 페이지 항목 수 기준
      */
     @Override
     public List<FileChange> getChangedFiles() throws IOException {
-        String url = String.format("%s/api/v1/repos/%s/pulls/%d/files",
-                baseUrl, config.getRepoName(), config.getPrNumber());
+        List<FileChange> changes = new ArrayList<>();
+        FilePage first = fetchFilesPage(1, changes::add);
+        int pageSize = first.itemCount();
+        if (pageSize == 0) {
+            return changes;
+        }
+
+        if (first.totalCount() >= 0) {
+            int pages = (first.totalCount() + pageSize - 1) / pageSize;
+            if (pages > 1) {
+                changes.addAll(fetchFilesPagesConcurrently(2, pages));
+            }
+            return changes;
+        }
+
+        // 전체 개수를 모르면 첫 페이지보다 적은 페이지가 나올 때까지 순서대로 조회
+        int page = 1;
+        FilePage current = first;
+        while (current.itemCount() >= pageSize) {
+            current = fetchFilesPage(++page, changes::add);
+        }
+        return changes;
+    }
+
+    /**
+     * 지정한 범위의 페이지를 제한된 동시성으로 조회하고 페이지 순서대로 합침
+     */
+    private List<FileChange> fetchFilesPagesConcurrently(int fromPage, int toPage) throws IOException {
+        List<Integer> pages = IntStream.rangeClosed(fromPage, toPage).boxed().toList();
+        List<List<FileChange>> results = BoundedExecutor.mapAll(pages, config.getMaxConcurrency(), page -> {
+            List<FileChange> pageChanges = new ArrayList<>();
+            fetchFilesPage(page, pageChanges::add);
+            return pageChanges;
+        });
+
+        List<FileChange> changes = new ArrayList<>();
+        results.forEach(changes::addAll);
+        return changes;
+    }
+
+    /**
+     * 파일 목록 한 페이지 조회
+     * 응답을 스트리밍 파싱하며 필터에 맞는 파일만 sink로 전달
+     */
+    private FilePage fetchFilesPage(int page, Consumer<FileChange> sink) throws IOException {
+        String url = String.format("%s/api/v1/repos/%s/pulls/%d/files?page=%d&limit=%d",
+                baseUrl, config.getRepoName(), config.getPrNumber(), page, PAGE_SIZE);
 
         Request request = new Request.Builder()
                 .url(url)
@@ -56,27 +121,230 @@ public class GiteaServiceImpl implements GitService {
                 throw new IOException("Gitea API 호출 실패: " + response.code() + " " + response.message());
             }
 
-            String responseBody = response.body().string();
-            JsonArray filesArray = gson.fromJson(responseBody, JsonArray.class);
+            String totalHeader = response.header("X-Total-Count");
+            int totalCount = totalHeader != null ? Integer.parseInt(totalHeader.trim()) : -1;
 
-            List<FileChange> changes = new ArrayList<>();
-            for (int i = 0; i < filesArray.size(); i++) {
-                JsonObject fileObj = filesArray.get(i).getAsJsonObject();
+            int itemCount = FileListParser.parse(response.body().charStream(), config.getPathFilter(),
+                    config.getPatchStorage(), sink);
+            return new FilePage(itemCount, totalCount);
+        }
+    }
 
-                String filename = fileObj.get("filename").getAsString();
-                String patch = fileObj.has("patch") && !fileObj.get("patch").isJsonNull()
-                        ? fileObj.get("patch").getAsString()
-                        : "";
-                String status = fileObj.get("status").getAsString();
+    /**
+     * 페이지 조회 결과 (항목 수, X-Total-Count 값 또는 -1)
+     */
+    private record FilePage(int itemCount, int totalCount) {
+    }
+
+    /**
+     * 마지막 리뷰 이후 변경분 가져오기
+     * compare API ({base}...{head})의 커밋별 변경 파일로 그 사이에 바뀐 파일을 찾고, 그 파일만 PR 파일 목록에서 리뷰
+     * 웹 경로의 .diff는 API 토큰을 받지 않아 비공개 저장소에서 실패하므로 API 경로만 사용
+     */
+    @Override
+    public List<FileChange> getChangedFilesSince(String baseSha) throws IOException {
+        String url = String.format("%s/api/v1/repos/%s/compare/%s...%s",
+                baseUrl, config.getRepoName(), baseSha, getHeadSha());
+
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Authorization", "token " + config.getGithubToken())
+                .header("Content-Type", "application/json")
+                .build();
 
-                FileChange fileChange = new FileChange(filename, patch, status);
+        Set<String> touched = new HashSet<>();
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                // 이전 SHA가 사라졌거나 (force push) compare API가 없는 버전(1.22 미만)이면 전체 변경을 리뷰
+                System.err.println("⚠️ Gitea compare API 실패 (" + response.code() + " " + response.message()
+                        + "), 증분 리뷰 대신 전체 변경사항으로 리뷰합니다.");
+                return getChangedFiles();
+            }
 
-                if (fileChange.matchesExtensions(config.getFileExtensions())) {
-                    changes.add(fileChange);
+            JsonElement commits = gson.fromJson(response.body().charStream(), JsonObject.class).get("commits");
+            for (JsonElement commit : commits != null && commits.isJsonArray() ? commits.getAsJsonArray() : new JsonArray()) {
+                JsonElement files = commit.getAsJsonObject().get("files");
+                if (files == null || !files.isJsonArray()) {
+                    System.err.println("⚠️ Gitea compare 응답에 커밋별 변경 파일이 없어 증분 리뷰 대신 전체 변경사항으로 리뷰합니다.");
+                    return getChangedFiles();
+                }
+                for (JsonElement file : files.getAsJsonArray()) {
+                    touched.add(stringOrNull(file.getAsJsonObject(), "filename"));
                 }
             }
+        }
 
-            return changes;
+        List<FileChange> changes = new ArrayList<>();
+        for (FileChange change : getChangedFiles()) {
+            if (touched.contains(change.getFilename())) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * PR head 커밋 SHA 가져오기
+     */
+    @Override
+    public String getHeadSha() throws IOException {
+        String url = String.format("%s/api/v1/repos/%s/pulls/%d",
+                baseUrl, config.getRepoName(), config.getPrNumber());
+
+        JsonObject pr = getJson(url).getAsJsonObject();
+        return pr.getAsJsonObject("head").get("sha").getAsString();
+    }
+
+    /**
+     * 이전 리뷰 댓글과 PR 리뷰에서 마지막으로 리뷰한 SHA 찾기
+     */
+    @Override
+    public String findLastReviewedSha() throws IOException {
+        String commentsUrl = String.format("%s/api/v1/repos/%s/issues/%d/comments",
+                baseUrl, config.getRepoName(), config.getPrNumber());
+        String reviewsUrl = String.format("%s/api/v1/repos/%s/pulls/%d/reviews",
+                baseUrl, config.getRepoName(), config.getPrNumber());
+
+        String lastSha = null;
+        OffsetDateTime lastAt = null;
+        List<JsonObject> items = new ArrayList<>(getAllPages(commentsUrl));
+        items.addAll(getAllPages(reviewsUrl));
+        for (JsonObject object : items) {
+            String sha = object.has("body") && !object.get("body").isJsonNull()
+                    ? ReviewMarker.parseReviewedSha(object.get("body").getAsString())
+                    : null;
+            if (sha == null) {
+                continue;
+            }
+            // 고정 댓글은 수정되므로 마지막 수정 시각 기준
+            OffsetDateTime at = parseTime(object, object.has("submitted_at") ? "submitted_at" : "updated_at");
+            if (lastAt == null || at == null || !at.isBefore(lastAt)) {
+                lastSha = sha;
+                lastAt = at;
+            }
+        }
+        return lastSha;
+    }
+
+    private static OffsetDateTime parseTime(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        if (value == null || value.isJsonNull()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.getAsString());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 열린 PR 번호 목록 가져오기
+     */
+    @Override
+    public List<Integer> listOpenPullRequests(String label, boolean skipDrafts) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            String url = String.format("%s/api/v1/repos/%s/pulls?state=open&page=%d&limit=%d",
+                    baseUrl, config.getRepoName(), page, PAGE_SIZE);
+            JsonArray pulls = getJson(url).getAsJsonArray();
+
+            for (JsonElement element : pulls) {
+                JsonObject pr = element.getAsJsonObject();
+                if (skipDrafts && pr.has("draft") && pr.get("draft").getAsBoolean()) {
+                    continue;
+                }
+                if (label != null && !hasLabel(pr, label)) {
+                    continue;
+                }
+                numbers.add(pr.get("number").getAsInt());
+            }
+
+            if (pulls.size() < PAGE_SIZE) {
+                return numbers;
+            }
+        }
+    }
+
+    private static boolean hasLabel(JsonObject pr, String label) {
+        if (!pr.has("labels") || pr.get("labels").isJsonNull()) {
+            return false;
+        }
+        for (JsonElement element : pr.getAsJsonArray("labels")) {
+            if (label.equals(element.getAsJsonObject().get("name").getAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stringOrNull(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    /**
+     * 댓글 작성자 로그인 (user 필드가 없으면 null)
+     */
+    private static String userLogin(JsonObject comment) {
+        JsonElement user = comment.get("user");
+        return user == null || user.isJsonNull() ? null : stringOrNull(user.getAsJsonObject(), "login");
+    }
+
+    /**
+     * 토큰으로 인증된 계정 로그인 (최초 조회 후 재사용)
+     */
+    private synchronized String getBotLogin() throws IOException {
+        if (botLogin == null) {
+            botLogin = getJson(baseUrl + "/api/v1/user").getAsJsonObject().get("login").getAsString();
+        }
+        return botLogin;
+    }
+
+    /**
+     * 목록 API의 모든 페이지 조회 (오래된 항목부터 반환하므로 마지막 페이지까지 읽어야 최신 항목이 보임)
+     * 서버가 limit를 MAX_RESPONSE_ITEMS로 줄이거나 페이지 인자를 무시하는 엔드포인트도 있으므로,
+     * 첫 페이지보다 작은 페이지나 새 항목(id 기준)이 없는 페이지가 나오면 중단
+     */
+    private List<JsonObject> getAllPages(String url) throws IOException {
+        List<JsonObject> items = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        int pageSize = 0;
+        for (int page = 1; ; page++) {
+            JsonArray array = getJson(url + "?page=" + page + "&limit=" + PAGE_SIZE).getAsJsonArray();
+            int added = 0;
+            for (JsonElement element : array) {
+                JsonObject item = element.getAsJsonObject();
+                JsonElement id = item.get("id");
+                if (id == null || id.isJsonNull() || seen.add(id.getAsLong())) {
+                    items.add(item);
+                    added++;
+                }
+            }
+            if (page == 1) {
+                pageSize = array.size();
+            }
+            if (added == 0 || array.size() < pageSize) {
+                return items;
+            }
+        }
+    }
+
+    /**
+     * GET 요청 후 JSON 응답 파싱
+     */
+    private JsonElement getJson(String url) throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Authorization", "token " + config.getGithubToken())
+                .header("Content-Type", "application/json")
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Gitea API 호출 실패: " + response.code() + " " + response.message());
+            }
+            return gson.fromJson(response.body().charStream(), JsonElement.class);
         }
     }
 
@@ -109,4 +377,87 @@ public class GiteaServiceImpl implements GitService {
             }
         }
     }
+
+    /**
+     * 고정 댓글 작성 또는 수정
+     * 봇 계정이 쓴 댓글 중 마커가 있는 마지막 댓글을 찾아 본문 해시가 같으면 생략하고, 다르면 PATCH로 수정
+     */
+    @Override
+    public boolean upsertStickyComment(String comment) throws IOException {
+        String body = ReviewMarker.withStickyMarker(comment);
+        String hash = ReviewMarker.parseStickyHash(body);
+        String login = getBotLogin();
+
+        String url = String.format("%s/api/v1/repos/%s/issues/%d/comments",
+                baseUrl, config.getRepoName(), config.getPrNumber());
+        JsonObject existing = null;
+        for (JsonObject candidate : getAllPages(url)) {
+            if (ReviewMarker.isOwnSticky(stringOrNull(candidate, "body"), userLogin(candidate), login)) {
+                existing = candidate;
+            }
+        }
+
+        if (existing == null) {
+            postComment(body);
+            return true;
+        }
+        if (hash.equals(ReviewMarker.parseStickyHash(existing.get("body").getAsString()))) {
+            return false;
+        }
+
+        String patchUrl = String.format("%s/api/v1/repos/%s/issues/comments/%d",
+                baseUrl, config.getRepoName(), existing.get("id").getAsLong());
+        JsonObject patch = new JsonObject();
+        patch.addProperty("body", body);
+
+        Request request = new Request.Builder()
+                .url(patchUrl)
+                .header("Authorization", "token " + config.getGithubToken())
+                .header("Content-Type", "application/json")
+                .patch(RequestBody.create(gson.toJson(patch), MediaType.parse("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Gitea 댓글 수정 실패: " + response.code() + " " + response.message());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 인라인 댓글을 포함한 PR 리뷰 작성 (pull review API 한 번 호출)
+     */
+    @Override
+    public void postReview(String body, String commitSha, List<ReviewComment> comments) throws IOException {
+        String url = String.format("%s/api/v1/repos/%s/pulls/%d/reviews",
+                baseUrl, config.getRepoName(), config.getPrNumber());
+
+        JsonObject review = new JsonObject();
+        review.addProperty("commit_id", commitSha);
+        review.addProperty("body", body);
+        review.addProperty("event", "COMMENT");
+        JsonArray items = new JsonArray();
+        for (ReviewComment comment : comments) {
+            JsonObject item = new JsonObject();
+            item.addProperty("path", comment.getPath());
+            item.addProperty("new_position", comment.getLine());
+            item.addProperty("body", comment.getBody());
+            items.add(item);
+        }
+        review.add("comments", items);
+
+        Request request = new Request.Builder()
+                .url(url)
+                .header("Authorization", "token " + config.getGithubToken())
+                .header("Content-Type", "application/json")
+                .post(RequestBody.create(gson.toJson(review), MediaType.parse("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Gitea 리뷰 작성 실패: " + response.code() + " " + response.message());
+            }
+        }
+    }
 }
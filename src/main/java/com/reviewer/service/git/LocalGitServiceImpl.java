@@ -0,0 +1,201 @@
+package com.reviewer.service.git;
+
+import com.reviewer.concurrent.BoundedExecutor;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.filter.PathFilter;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 저장소 diff 구현체
+ * CI에서 이미 체크아웃된 저장소의 git 객체로 변경 파일을 계산하고,
+ * PR 정보 조회와 댓글 작성은 호스팅 API 구현체에 위임
+ * (호스팅 API의 페이지 조회 지연, rate limit, 파일별 patch 잘림이 없음)
+ */
+public class LocalGitServiceImpl implements GitService {
+    // git diff 한 번에 넘길 경로 수
+    private static final int PATHS_PER_PROCESS = 64;
+
+    private final GitService remote;
+    private final ReviewConfig config;
+    private final GitCli git;
+
+    private String headSha;
+
+    /**
+     * 생성자 주입
+     *
+     * @param config 리뷰 설정
+     * @param remote PR 정보 조회와 댓글 작성에 사용할 호스팅 API 구현체
+     */
+    public LocalGitServiceImpl(ReviewConfig config, GitService remote) {
+        this.config = config;
+        this.remote = remote;
+        this.git = new GitCli(new File(config.getLocalRepoPath()));
+    }
+
+    /**
+     * 변경된 파일 목록 가져오기 (base 브랜치와의 merge-base 기준, "base...head")
+     * base 브랜치나 head 커밋, 둘의 공통 조상이 로컬에 없으면 (얕은 체크아웃 등) 호스팅 API로 조회
+     */
+    @Override
+    public List<FileChange> getChangedFiles() throws IOException {
+        String baseRef = resolveBaseRef();
+        String head = getHeadSha();
+        if (baseRef == null || !hasCommit(baseRef) || !hasCommit(head)
+                || !git.succeeds(List.of("merge-base", baseRef, head))) {
+            System.out.println("⚠️ 로컬 저장소에 base/head 커밋이나 공통 조상이 없어 API로 변경 파일을 조회합니다. "
+                    + "(actions/checkout의 fetch-depth: 0 필요)");
+            return remote.getChangedFiles();
+        }
+        return diff(baseRef + "..." + head);
+    }
+
+    /**
+     * 마지막 리뷰 이후 변경분 가져오기
+     * 이전 SHA가 head의 조상이 아니면 (force push 등) 전체 변경을 리뷰
+     */
+    @Override
+    public List<FileChange> getChangedFilesSince(String baseSha) throws IOException {
+        String head = getHeadSha();
+        if (!hasCommit(head) || !hasCommit(baseSha)
+                || !git.succeeds(List.of("merge-base", "--is-ancestor", baseSha, head))) {
+            return getChangedFiles();
+        }
+        return diff(baseSha + ".." + head);
+    }
+
+    /**
+     * 변경 파일 목록을 구한 뒤 필터를 통과한 파일만 묶음별로 병렬 diff
+     */
+    private List<FileChange> diff(String range) throws IOException {
+        PathFilter filter = config.getPathFilter();
+        List<String[]> entries = git.run(List.of("diff", "--name-status", "-z", "-M", range),
+                LocalGitServiceImpl::parseNameStatus);
+
+        // 경로 필터는 patch를 만들기 전에 적용 (이름 변경은 새 경로 기준)
+        List<List<String>> groups = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        for (String[] entry : entries) {
+            if (!filter.matchesPath(entry[entry.length - 1])) {
+                continue;
+            }
+            for (int i = 1; i < entry.length; i++) {
+                current.add(entry[i]);
+            }
+            if (current.size() >= PATHS_PER_PROCESS) {
+                groups.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+
+        List<List<FileChange>> results = BoundedExecutor.mapAll(groups, config.getMaxConcurrency(), paths -> {
+            List<String> args = new ArrayList<>(List.of("diff", "--no-color", "--no-ext-diff", "-M", range, "--"));
+            args.addAll(paths);
+            return git.run(args, reader -> UnifiedDiffParser.parse(reader, config.getPatchStorage()));
+        });
+
+        List<FileChange> changes = new ArrayList<>();
+        for (List<FileChange> group : results) {
+            for (FileChange change : group) {
+                if (filter.matches(change)) {
+                    changes.add(change);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * "git diff --name-status -z" 출력 파싱
+     * 항목마다 [상태, 경로] 또는 이름 변경/복사면 [상태, 이전 경로, 새 경로]
+     */
+    static List<String[]> parseNameStatus(Reader reader) throws IOException {
+        Reader in = new BufferedReader(reader);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (c == 0) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        List<String[]> entries = new ArrayList<>();
+        for (int i = 0; i < fields.size(); ) {
+            String status = fields.get(i);
+            boolean twoPaths = status.startsWith("R") || status.startsWith("C");
+            int size = twoPaths ? 3 : 2;
+            if (i + size > fields.size()) {
+                break;
+            }
+            entries.add(fields.subList(i, i + size).toArray(new String[0]));
+            i += size;
+        }
+        return entries;
+    }
+
+    /**
+     * 비교 기준 브랜치 결정 (설정값, 없으면 GitHub Actions의 GITHUB_BASE_REF)
+     */
+    private String resolveBaseRef() {
+        if (config.getLocalBaseRef() != null && !config.getLocalBaseRef().isEmpty()) {
+            return config.getLocalBaseRef();
+        }
+        String baseRef = System.getenv("GITHUB_BASE_REF");
+        return baseRef != null && !baseRef.isEmpty() ? "origin/" + baseRef : null;
+    }
+
+    private boolean hasCommit(String ref) throws IOException {
+        return ref != null && git.succeeds(List.of("rev-parse", "--verify", "--quiet", ref + "^{commit}"));
+    }
+
+    /**
+     * PR head 커밋 SHA 가져오기 (최초 조회 후 재사용)
+     */
+    @Override
+    public synchronized String getHeadSha() throws IOException {
+        if (headSha == null) {
+            headSha = remote.getHeadSha();
+        }
+        return headSha;
+    }
+
+    @Override
+    public String findLastReviewedSha() throws IOException {
+        return remote.findLastReviewedSha();
+    }
+
+    @Override
+    public List<Integer> listOpenPullRequests(String label, boolean skipDrafts) throws IOException {
+        return remote.listOpenPullRequests(label, skipDrafts);
+    }
+
+    @Override
+    public void postComment(String comment) throws IOException {
+        remote.postComment(comment);
+    }
+
+    @Override
+    public boolean upsertStickyComment(String comment) throws IOException {
+        return remote.upsertStickyComment(comment);
+    }
+
+    @Override
+    public void postReview(String body, String commitSha, List<ReviewComment> comments) throws IOException {
+        remote.postReview(body, commitSha, comments);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reviewer.service.git;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 댓글에 숨겨 두는 마커 처리
+ * 마지막으로 리뷰한 head SHA를 HTML 주석으로 기록해 다음 실행에서 증분 리뷰 기준으로 사용
+ * 고정 댓글에는 본문 해시를 기록해 다음 실행에서 찾아 수정하거나, 내용이 같으면 쓰기를 생략
+ * (리뷰한 SHA 마커는 메타데이터라 해시에서 제외)
+ */
+public final class ReviewMarker {
+    private static final Pattern SHA_PATTERN =
+            Pattern.compile("<!-- claude-reviewer:reviewed-sha=([0-9a-f]{7,64}) -->");
+    private static final Pattern STICKY_PATTERN =
+            Pattern.compile("<!-- claude-reviewer:sticky hash=([0-9a-f]{64}) -->");
+
+    private ReviewMarker() {
+        // Utility class
+    }
+
+    /**
+     * 리뷰한 SHA 마커 생성
+     *
+     * @param sha 리뷰한 head 커밋 SHA
+     * @return 댓글 본문에 덧붙일 마커
+     */
+    public static String formatReviewedSha(String sha) {
+        return "<!-- claude-reviewer:reviewed-sha=" + sha + " -->";
+    }
+
+    /**
+     * 댓글 본문에서 리뷰한 SHA 추출
+     *
+     * @param body 댓글 본문
+     * @return 리뷰한 SHA, 마커가 없으면 null
+     */
+    public static String parseReviewedSha(String body) {
+        if (body == null) {
+            return null;
+        }
+        Matcher matcher = SHA_PATTERN.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 고정 댓글 마커 추가 (리뷰한 SHA 마커를 뺀 본문의 SHA-256 포함)
+     * push마다 바뀌는 SHA 마커만 다르면 같은 내용으로 보고 수정을 생략
+     *
+     * @param body 댓글 본문
+     * @return 마커가 붙은 댓글 본문
+     */
+    public static String withStickyMarker(String body) {
+        String content = SHA_PATTERN.matcher(body).replaceAll("").strip();
+        return body + "\n<!-- claude-reviewer:sticky hash=" + contentHash(content) + " -->";
+    }
+
+    /**
+     * 고정 댓글의 본문 해시 추출
+     *
+     * @param body 댓글 본문
+     * @return 본문 해시, 고정 댓글이 아니면 null
+     */
+    public static String parseStickyHash(String body) {
+        if (body == null) {
+            return null;
+        }
+        Matcher matcher = STICKY_PATTERN.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 봇 계정이 쓴 고정 댓글인지 확인
+     * 다른 사용자가 마커를 복사해 둔 댓글은 수정 권한이 없거나 덮어쓰면 안 되므로 제외
+     *
+     * @param body 댓글 본문
+     * @param author 댓글 작성자 로그인
+     * @param botLogin 인증된 봇 계정 로그인
+     * @return 봇이 쓴 고정 댓글이면 true
+     */
+    public static boolean isOwnSticky(String body, String author, String botLogin) {
+        return parseStickyHash(body) != null && author != null && author.equalsIgnoreCase(botLogin);
+    }
+
+    private static String contentHash(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reviewer.service.git;
+
+import com.reviewer.model.FileChange;
+import com.reviewer.model.PatchStorage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * unified diff (git diff 출력)를 파일별 FileChange로 변환
+ * patch는 GitHub/Gitea API와 같이 첫 hunk 헤더(@@)부터 담음
+ */
+final class UnifiedDiffParser {
+
+    private UnifiedDiffParser() {
+        // Utility class
+    }
+
+    /**
+     * diff 텍스트 파싱
+     *
+     * @param reader diff 입력
+     * @return 파일별 변경 목록
+     * @throws IOException 읽기 실패 시
+     */
+    static List<FileChange> parse(Reader reader) throws IOException {
+        return parse(reader, PatchStorage.IN_MEMORY);
+    }
+
+    /**
+     * diff 텍스트 파싱 (큰 patch는 저장 방식에 따라 임시 파일에 보관)
+     *
+     * @param reader diff 입력
+     * @param storage patch 저장 방식
+     * @return 파일별 변경 목록
+     * @throws IOException 읽기 실패 시
+     */
+    static List<FileChange> parse(Reader reader, PatchStorage storage) throws IOException {
+        List<FileChange> changes = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+
+        String filename = null;
+        String status = null;
+        StringBuilder patch = null;
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith("diff --git ")) {
+                if (filename != null) {
+                    changes.add(new FileChange(filename, patch != null ? patch.toString() : "", status, storage));
+                }
+                filename = parseHeaderPath(line);
+                status = "modified";
+                patch = null;
+            } else if (filename == null) {
+                continue;
+            } else if (patch != null) {
+                patch.append('\n').append(line);
+            } else if (line.startsWith("@@")) {
+                patch = new StringBuilder(line);
+            } else if (line.startsWith("new file mode")) {
+                status = "added";
+            } else if (line.startsWith("deleted file mode")) {
+                status = "removed";
+            } else if (line.startsWith("rename to ")) {
+                status = "renamed";
+                filename = line.substring("rename to ".length());
+            } else if (line.startsWith("+++ b/")) {
+                // 공백이 있는 경로는 git이 끝에 탭을 붙임
+                filename = stripTrailingTab(line.substring("+++ b/".length()));
+            }
+        }
+
+        if (filename != null) {
+            changes.add(new FileChange(filename, patch != null ? patch.toString() : "", status, storage));
+        }
+        return changes;
+    }
+
+    private static String stripTrailingTab(String path) {
+        return path.endsWith("\t") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /**
+     * "diff --git a/path b/path" 헤더에서 경로 추출
+     */
+    private static String parseHeaderPath(String line) {
+        int index = line.lastIndexOf(" b/");
+        return index >= 0 ? line.substring(index + 3) : line.substring("diff --git ".length());
+    }
+}
@@ -1,6 +1,17 @@
 package com.reviewer;
 
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -14,6 +25,50 @@ class ClaudeReviewerTest {
         assertNotNull(ClaudeReviewer.builder());
     }
 
+    @Test
+    void testRejectsTriageThresholdOutOfRange() {
+        ClaudeReviewer.Builder builder = ClaudeReviewer.builder()
+                .githubToken("token")
+                .anthropicApiKey("key")
+                .repoName("owner/repo")
+                .prNumber(1)
+                .triageThreshold(1.5);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testAsyncReviewReportsMetricsEvenWhenItFails(@TempDir Path dir) throws Exception {
+        Path metricsFile = dir.resolve("metrics.json");
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return new MockResponse().setResponseCode(404).setBody("{}");
+                }
+            });
+            server.start();
+            ClaudeReviewer reviewer = ClaudeReviewer.builder()
+                    .githubToken("token")
+                    .anthropicApiKey("key")
+                    .repoName("owner/repo")
+                    .prNumber(1)
+                    .giteaUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .metricsPath(metricsFile.toString())
+                    .build();
+
+            CompletableFuture<Void> review = reviewer.executeFullReviewAsync();
+
+            assertThrows(CompletionException.class, review::join);
+            // 지표 출력은 future 완료 직후 같은 스레드에서 이어지므로 잠시 대기
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!Files.exists(metricsFile) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(Files.exists(metricsFile));
+        }
+    }
+
     @Test
     void testBasicFunctionality() {
         // 기본 기능 테스트 (추후 확장)
@@ -0,0 +1,53 @@
+package com.reviewer.batch;
+
+import com.reviewer.config.BatchConfig;
+import com.reviewer.config.ReviewConfig;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchReviewRunner 테스트
+ */
+class BatchReviewRunnerTest {
+
+    private static final BatchConfig MESSAGE_BATCHES = BatchConfig.builder()
+            .targets(List.of("owner/repo#1"))
+            .messageBatches(true)
+            .build();
+
+    private static ReviewConfig config(boolean structuredOutput, boolean incremental) {
+        return ReviewConfig.builder()
+                .githubToken("token")
+                .anthropicApiKey("key")
+                .structuredOutput(structuredOutput)
+                .incremental(incremental)
+                .build();
+    }
+
+    @Test
+    void testMessageBatchesRejectStructuredOutput() {
+        ReviewConfig structured = config(true, false);
+
+        assertThrows(IllegalStateException.class,
+                () -> new BatchReviewRunner(structured, MESSAGE_BATCHES, new OkHttpClient()));
+    }
+
+    @Test
+    void testMessageBatchesRejectIncrementalReviews() {
+        ReviewConfig incremental = config(false, true);
+
+        assertThrows(IllegalStateException.class,
+                () -> new BatchReviewRunner(incremental, MESSAGE_BATCHES, new OkHttpClient()));
+    }
+
+    @Test
+    void testRealtimeBatchAcceptsStructuredIncrementalReviews() {
+        BatchConfig realtime = BatchConfig.builder().targets(List.of("owner/repo#1")).build();
+
+        assertNotNull(new BatchReviewRunner(config(true, true), realtime, new OkHttpClient()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.reviewer.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FileReviewCache 테스트
+ */
+class FileReviewCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPutAndGet() throws Exception {
+        FileReviewCache cache = new FileReviewCache(tempDir, 1024);
+        cache.put("abc", "리뷰 결과");
+
+        assertEquals("리뷰 결과", cache.get("abc"));
+        assertNull(cache.get("missing"));
+
+        // 재시작 후에도 디스크에서 다시 읽음
+        assertEquals("리뷰 결과", new FileReviewCache(tempDir, 1024).get("abc"));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() throws Exception {
+        FileReviewCache cache = new FileReviewCache(tempDir, 20);
+        cache.put("a", "0123456789");
+        cache.put("b", "0123456789");
+        cache.get("a");
+        cache.put("c", "0123456789");
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reviewer.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedExecutor 테스트
+ */
+class BoundedExecutorTest {
+
+    @Test
+    void testMapAllKeepsInputOrderWithinConcurrencyLimit() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 10).boxed().toList();
+
+        List<Integer> results = BoundedExecutor.mapAll(items, 3, item -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                // 뒤 항목이 먼저 끝나도 결과는 입력 순서
+                Thread.sleep(10 - item);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } finally {
+                running.decrementAndGet();
+            }
+            return item * 2;
+        });
+
+        assertEquals(IntStream.range(0, 10).map(item -> item * 2).boxed().toList(), results);
+        assertTrue(peak.get() <= 3);
+    }
+
+    @Test
+    void testMapAllFailsFastAndInterruptsRunningTasks() {
+        CountDownLatch blockersStarted = new CountDownLatch(3);
+        AtomicInteger interrupted = new AtomicInteger();
+        IOException failure = new IOException("첫 번째 실패");
+
+        IOException error = assertThrows(IOException.class, () -> BoundedExecutor.mapAll(List.of(0, 1, 2, 3), 4,
+                item -> {
+                    try {
+                        if (item == 0) {
+                            blockersStarted.await();
+                            throw failure;
+                        }
+                        blockersStarted.countDown();
+                        // 취소되지 않으면 테스트가 끝나지 않을 만큼 대기
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(10));
+                        return item;
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw new InterruptedIOException();
+                    }
+                }));
+
+        assertSame(failure, error);
+        // 실행 중이던 나머지 작업이 모두 인터럽트된 뒤에야 반환
+        assertEquals(3, interrupted.get());
+    }
+
+    @Test
+    void testMapAllWrapsUncheckedFailure() {
+        IOException error = assertThrows(IOException.class, () -> BoundedExecutor.mapAll(List.of(1, 2), 2, item -> {
+            if (item == 2) {
+                throw new IllegalStateException("잘못된 상태");
+            }
+            return item;
+        }));
+
+        assertTrue(error.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testRunAsyncCancelInterruptsTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<Void> future = BoundedExecutor.runAsync("test-cancel", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new InterruptedIOException();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(true));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void testRunAsyncCompletesWithTaskFailure() {
+        IOException failure = new IOException("리뷰 실패");
+
+        CompletableFuture<Void> future = BoundedExecutor.runAsync("test-failure", () -> {
+            throw failure;
+        });
+
+        CompletionException error = assertThrows(CompletionException.class, future::join);
+        assertSame(failure, error.getCause());
+    }
+}
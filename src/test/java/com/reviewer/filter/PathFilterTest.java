@@ -0,0 +1,47 @@
+package com.reviewer.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PathFilter 테스트
+ */
+class PathFilterTest {
+
+    @Test
+    void testMatchesExtensions() {
+        PathFilter filter = PathFilter.ofExtensions(List.of(".java", " .kt"));
+
+        assertTrue(filter.matchesPath("src/main/java/A.java"));
+        assertTrue(filter.matchesPath("B.kt"));
+        assertFalse(filter.matchesPath("src/A.xml"));
+        assertFalse(filter.matchesPath("java"));
+    }
+
+    @Test
+    void testIncludeAndExcludeGlobs() {
+        PathFilter filter = PathFilter.compile(List.of(".java", ".kt"),
+                List.of("src/**/*.java", "*.kt"),
+                List.of("**/generated/**", "docs/", "legacy/Old.java"), 0);
+
+        assertTrue(filter.matchesPath("src/A.java"));
+        assertTrue(filter.matchesPath("src/main/java/A.java"));
+        assertTrue(filter.matchesPath("any/dir/B.kt"));
+        assertFalse(filter.matchesPath("A.java"));
+        assertFalse(filter.matchesPath("src/a/generated/b/C.java"));
+        assertFalse(filter.matchesPath("docs/x/A.kt"));
+        assertFalse(filter.matchesPath("legacy/Old.java"));
+    }
+
+    @Test
+    void testMaxPatchLength() {
+        PathFilter filter = PathFilter.compile(List.of(), List.of(), List.of(), 10);
+
+        assertTrue(filter.matchesPath("anything.txt"));
+        assertTrue(filter.matchesSize("0123456789"));
+        assertFalse(filter.matchesSize("0123456789A"));
+    }
+}
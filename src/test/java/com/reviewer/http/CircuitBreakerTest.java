@@ -0,0 +1,38 @@
+package com.reviewer.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 테스트
+ */
+class CircuitBreakerTest {
+
+    @Test
+    void testOpensAfterConsecutiveFailures() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000);
+        assertFalse(breaker.checkAllowed("api"));
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertThrows(IOException.class, () -> breaker.checkAllowed("api"));
+    }
+
+    @Test
+    void testReleasedTrialAllowsAnotherTrial() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.recordFailure();
+
+        assertTrue(breaker.checkAllowed("api"));
+        // 시험 요청이 판정 없이 끝나기 전에는 다른 요청 차단
+        assertThrows(IOException.class, () -> breaker.checkAllowed("api"));
+
+        breaker.releaseTrial();
+        assertTrue(breaker.checkAllowed("api"));
+        breaker.recordSuccess();
+        assertFalse(breaker.checkAllowed("api"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.reviewer.http;
+
+import com.reviewer.metrics.ReviewMetrics;
+import com.reviewer.metrics.SummaryReviewMetrics;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateControlInterceptor 테스트
+ */
+class RateControlInterceptorTest {
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RateControlInterceptor(2, 1, 10))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void testRetriesOverloadedWithRetryAfter() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(529).addHeader("retry-after", "0"));
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("retry-after", "0"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request request = new Request.Builder()
+                .url(server.url("/v1/messages"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void testRecordsRetriesAndBytesSentFromRequestTag() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429).addHeader("retry-after", "0"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics();
+        Request request = new Request.Builder()
+                .url(server.url("/v1/messages"))
+                .tag(ReviewMetrics.class, metrics)
+                .post(RequestBody.create("{\"a\":1}", MediaType.get("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        }
+        String host = server.url("/").host();
+        assertEquals(1, metrics.getCount(ReviewMetrics.HTTP_RETRIES, "host", host, "status", "429"));
+        assertEquals(14, metrics.getCount(ReviewMetrics.HTTP_BYTES_SENT, "host", host));
+    }
+
+    @Test
+    void testDoesNotRetryServerErrorOnPost() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request request = new Request.Builder()
+                .url(server.url("/comments"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(500, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void testRateLimitBurstDoesNotOpenCircuit() throws Exception {
+        // 연속 429가 서킷 임계값(5)을 넘어도 retry-after를 따라 끝까지 재시도
+        OkHttpClient patient = new OkHttpClient.Builder()
+                .addInterceptor(new RateControlInterceptor(10, 1, 10))
+                .build();
+        for (int i = 0; i < 8; i++) {
+            server.enqueue(new MockResponse().setResponseCode(429).addHeader("retry-after", "0"));
+        }
+        server.enqueue(new MockResponse().setBody("ok"));
+        server.enqueue(new MockResponse().setBody("next"));
+
+        Request request = new Request.Builder()
+                .url(server.url("/v1/messages"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+
+        try (Response response = patient.newCall(request).execute()) {
+            assertEquals(200, response.code());
+        }
+        try (Response response = patient.newCall(request).execute()) {
+            assertEquals("next", response.body().string());
+        }
+        assertEquals(10, server.getRequestCount());
+    }
+
+    @Test
+    void testDoesNotResendPostAfterConnectionDrop() throws Exception {
+        OkHttpClient noOkHttpRetry = new OkHttpClient.Builder()
+                .retryOnConnectionFailure(false)
+                .addInterceptor(new RateControlInterceptor(2, 1, 10))
+                .build();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request request = new Request.Builder()
+                .url(server.url("/comments"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+
+        assertThrows(IOException.class, () -> noOkHttpRetry.newCall(request).execute());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void testRetriesGetAfterReadTimeout() throws Exception {
+        OkHttpClient shortTimeout = new OkHttpClient.Builder()
+                .readTimeout(100, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(false)
+                .addInterceptor(new RateControlInterceptor(2, 1, 10))
+                .build();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request request = new Request.Builder().url(server.url("/pulls/1/files")).build();
+
+        try (Response response = shortTimeout.newCall(request).execute()) {
+            assertEquals("ok", response.body().string());
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+}
@@ -0,0 +1,81 @@
+package com.reviewer.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SummaryReviewMetrics 테스트
+ */
+class SummaryReviewMetricsTest {
+
+    @Test
+    void testCountersAreSeparatedByTags() {
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics();
+        metrics.increment(ReviewMetrics.TOKENS, 100, "model", "sonnet", "type", "input");
+        metrics.increment(ReviewMetrics.TOKENS, 50, "model", "sonnet", "type", "input");
+        metrics.increment(ReviewMetrics.TOKENS, 20, "model", "sonnet", "type", "output");
+
+        assertEquals(150, metrics.getCount(ReviewMetrics.TOKENS, "model", "sonnet", "type", "input"));
+        assertEquals(20, metrics.getCount(ReviewMetrics.TOKENS, "model", "sonnet", "type", "output"));
+        assertEquals(0, metrics.getCount(ReviewMetrics.TOKENS, "model", "haiku", "type", "input"));
+    }
+
+    @Test
+    void testSpanRecordsStageAndForwardsToDelegate() {
+        List<String> events = new ArrayList<>();
+        ReviewMetrics backend = new NoOpReviewMetrics() {
+            @Override
+            public Span startSpan(String stage) {
+                events.add("start " + stage);
+                return () -> events.add("end " + stage);
+            }
+
+            @Override
+            public void increment(String name, long amount, String... tags) {
+                events.add(name + "=" + amount);
+            }
+        };
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics(backend);
+
+        try (ReviewMetrics.Span ignored = metrics.startSpan("claude_call")) {
+            metrics.increment(ReviewMetrics.HTTP_RETRIES, 1, "host", "api.anthropic.com", "status", "429");
+        }
+
+        assertEquals(List.of("start claude_call", "review.http.retries=1", "end claude_call"), events);
+        assertEquals(1, metrics.getTimerCount(ReviewMetrics.STAGE_DURATION, "stage", "claude_call"));
+    }
+
+    @Test
+    void testJsonSummary() {
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics();
+        metrics.recordDuration(ReviewMetrics.STAGE_DURATION, Duration.ofMillis(30), "stage", "post_comment");
+        metrics.recordDuration(ReviewMetrics.STAGE_DURATION, Duration.ofMillis(10), "stage", "post_comment");
+        metrics.increment(ReviewMetrics.FILES_FILTERED, 3, "reason", "minimized");
+
+        JsonObject summary = metrics.toJson();
+        JsonArray timers = summary.getAsJsonArray("timers");
+        assertEquals(1, timers.size());
+        JsonObject timer = timers.get(0).getAsJsonObject();
+        assertEquals("post_comment", timer.getAsJsonObject("tags").get("stage").getAsString());
+        assertEquals(2, timer.get("count").getAsLong());
+        assertEquals(40.0, timer.get("totalMillis").getAsDouble());
+        assertEquals(30.0, timer.get("maxMillis").getAsDouble());
+
+        JsonObject counter = summary.getAsJsonArray("counters").get(0).getAsJsonObject();
+        assertEquals(ReviewMetrics.FILES_FILTERED, counter.get("name").getAsString());
+        assertEquals(3, counter.get("value").getAsLong());
+    }
+
+    @Test
+    void testRejectsUnpairedTags() {
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics();
+        assertThrows(IllegalArgumentException.class, () -> metrics.increment(ReviewMetrics.FILES, 1, "state"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.reviewer.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PatchStorage 테스트
+ */
+class PatchStorageTest {
+
+    private static final String LARGE_PATCH = "@@ -1,1 +1,1 @@\n-val s = \"a\"\n+val s = \"한글 🤖\"\r\n".repeat(200);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSmallPatchStaysInMemory() throws Exception {
+        PatchStorage storage = PatchStorage.spillOver(LARGE_PATCH.length(), tempDir);
+
+        assertEquals("@@ -1 +1 @@\n+x\n", storage.store("@@ -1 +1 @@\n+x\n").get());
+        assertNull(storage.store(null).get());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void testLargePatchRoundTripsThroughMappedFile() throws Exception {
+        PatchStorage storage = PatchStorage.spillOver(1024, tempDir);
+
+        Supplier<String> stored = storage.store(LARGE_PATCH);
+
+        assertEquals(LARGE_PATCH, stored.get());
+        assertEquals(LARGE_PATCH, stored.get());
+        // 매핑 직후 임시 파일은 삭제됨
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void testFileChangeKeepsStorageOnWithPatch() {
+        PatchStorage storage = PatchStorage.spillOver(1024, tempDir);
+        FileChange change = new FileChange("src/Big.kt", LARGE_PATCH, "modified", storage);
+
+        FileChange trimmed = change.withPatch(LARGE_PATCH.substring(0, LARGE_PATCH.length() - 10));
+
+        assertEquals(LARGE_PATCH, change.getPatch());
+        assertEquals(LARGE_PATCH.substring(0, LARGE_PATCH.length() - 10), trimmed.getPatch());
+        assertEquals("src/Big.kt", trimmed.getFilename());
+        assertEquals("modified", trimmed.getStatus());
+    }
+
+    @Test
+    void testNonPositiveThresholdIsInMemory() {
+        assertSame(PatchStorage.IN_MEMORY, PatchStorage.spillOver(0, tempDir));
+        assertSame(PatchStorage.IN_MEMORY, PatchStorage.spillOver(-1, tempDir));
+    }
+
+    @Test
+    void testThresholdCountsEncodedBytesAndWarnsOnce() {
+        // 없는 디렉터리라 임시 파일에 보관하려 하면 실패하고 경고가 나옴
+        PatchStorage storage = PatchStorage.spillOver(1024, tempDir.resolve("missing"));
+        String fits = "x".repeat(512);
+        String spills = "x".repeat(513);
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream original = System.err;
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        try {
+            assertEquals(fits, storage.store(fits).get());
+            assertEquals(0, err.size());
+
+            // 513자는 UTF-16으로 1026바이트라 기준(1024바이트)을 넘음
+            assertEquals(spills, storage.store(spills).get());
+            assertEquals(spills, storage.store(spills).get());
+        } finally {
+            System.setErr(original);
+        }
+        assertEquals(1, err.toString(StandardCharsets.UTF_8).split("⚠️", -1).length - 1);
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+}
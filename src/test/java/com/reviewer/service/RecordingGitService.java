@@ -0,0 +1,60 @@
+package com.reviewer.service;
+
+import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
+import com.reviewer.service.git.GitService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시 요청을 기록만 하는 테스트용 GitService
+ */
+class RecordingGitService implements GitService {
+    final List<String> comments = new ArrayList<>();
+    final List<String> stickyComments = new ArrayList<>();
+    String reviewBody;
+    List<ReviewComment> reviewComments;
+
+    @Override
+    public List<FileChange> getChangedFiles() {
+        return List.of();
+    }
+
+    @Override
+    public List<FileChange> getChangedFilesSince(String baseSha) {
+        return List.of();
+    }
+
+    @Override
+    public String getHeadSha() {
+        return "0123456789abcdef";
+    }
+
+    @Override
+    public String findLastReviewedSha() {
+        return null;
+    }
+
+    @Override
+    public List<Integer> listOpenPullRequests(String label, boolean skipDrafts) {
+        return List.of();
+    }
+
+    @Override
+    public void postComment(String comment) {
+        comments.add(comment);
+    }
+
+    @Override
+    public boolean upsertStickyComment(String comment) {
+        stickyComments.add(comment);
+        return true;
+    }
+
+    @Override
+    public void postReview(String body, String commitSha, List<ReviewComment> comments) {
+        this.reviewBody = body;
+        this.reviewComments = comments;
+    }
+}
@@ -0,0 +1,145 @@
+package com.reviewer.service;
+
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.metrics.ReviewMetrics;
+import com.reviewer.metrics.SummaryReviewMetrics;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.Finding;
+import com.reviewer.model.StructuredReview;
+import com.reviewer.service.git.GitService;
+import com.reviewer.service.claude.ClaudeService;
+import com.reviewer.service.diff.DiffMinimizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReviewService 게시 테스트
+ */
+class ReviewServiceTest {
+
+    private static final ReviewConfig CONFIG = ReviewConfig.builder().anthropicApiKey("test").build();
+
+    private final RecordingGitService git = new RecordingGitService();
+    private final ReviewService service = new ReviewService(git, new ClaudeService(CONFIG), CONFIG);
+
+    @Test
+    void testStructuredReviewSplitsInlineAndGeneralFindings() throws Exception {
+        List<FileChange> changes = List.of(new FileChange("src/A.java",
+                "@@ -1,2 +1,3 @@\n a\n+b\n c\n", "modified"));
+        StructuredReview review = new StructuredReview("요약", List.of(
+                new Finding("src/A.java", 2, "major", "NPE 가능", "null 확인"),
+                new Finding("src/A.java", 40, "minor", "diff 밖의 줄", null),
+                new Finding("src/B.java", 1, "info", "리뷰하지 않은 파일", null)));
+
+        service.postStructuredReview(review, changes, "0123456789abcdef", null);
+
+        assertEquals(1, git.reviewComments.size());
+        assertEquals("src/A.java", git.reviewComments.get(0).getPath());
+        assertEquals(2, git.reviewComments.get(0).getLine());
+        assertTrue(git.reviewComments.get(0).getBody().contains("💡 null 확인"));
+        assertTrue(git.reviewBody.contains("`src/A.java:40`"));
+        assertTrue(git.reviewBody.contains("`src/B.java:1`"));
+        assertTrue(git.reviewBody.contains("<!-- claude-reviewer:reviewed-sha=0123456789abcdef -->"));
+        assertFalse(git.reviewBody.contains("증분 리뷰"));
+    }
+
+    @Test
+    void testStructuredReviewNotesIncrementalRange() throws Exception {
+        service.postStructuredReview(new StructuredReview("요약", List.of()), List.of(),
+                "0123456789abcdef", "fedcba9876543210");
+
+        assertTrue(git.reviewComments.isEmpty());
+        assertTrue(git.reviewBody.contains("> 증분 리뷰: `fedcba9..0123456`"));
+    }
+
+    @Test
+    void testStickyModeEditsFullReview() throws Exception {
+        ReviewConfig sticky = ReviewConfig.builder().anthropicApiKey("test").stickyComment(true).build();
+        ReviewService stickyService = new ReviewService(git, new ClaudeService(sticky), sticky);
+
+        stickyService.postReview("리뷰", "0123456789abcdef", null);
+
+        assertEquals(1, git.stickyComments.size());
+        assertTrue(git.comments.isEmpty());
+    }
+
+    @Test
+    void testStickyModePostsIncrementalReviewAsNewComment() throws Exception {
+        ReviewConfig sticky = ReviewConfig.builder().anthropicApiKey("test").stickyComment(true).build();
+        ReviewService stickyService = new ReviewService(git, new ClaudeService(sticky), sticky);
+
+        stickyService.postReview("변경분 리뷰", "0123456789abcdef", "fedcba9876543210");
+
+        // 증분 리뷰가 전체 리뷰 고정 댓글을 덮어쓰지 않음
+        assertTrue(git.stickyComments.isEmpty());
+        assertEquals(1, git.comments.size());
+        assertTrue(git.comments.get(0).contains("> 증분 리뷰: `fedcba9..0123456`"));
+    }
+
+    @Test
+    void testIncrementalFetchIsRecordedOnce() throws Exception {
+        ReviewConfig incremental = ReviewConfig.builder().anthropicApiKey("test").incremental(true).build();
+        RecordingGitService reviewed = new RecordingGitService() {
+            @Override
+            public String findLastReviewedSha() {
+                return "fedcba9876543210";
+            }
+        };
+        SummaryReviewMetrics metrics = new SummaryReviewMetrics();
+        ReviewService incrementalService = new ReviewService(reviewed, new ClaudeService(incremental),
+                incremental, DiffMinimizer.fromConfig(incremental), metrics);
+
+        incrementalService.executeReview();
+
+        assertEquals(1, metrics.getTimerCount(ReviewMetrics.STAGE_DURATION, "stage", "fetch_files"));
+    }
+
+    /**
+     * 필수 메서드(변경 파일 조회, 댓글 작성)만 구현한 외부 GitService
+     */
+    private static final class MinimalGitService implements GitService {
+        final List<String> comments = new ArrayList<>();
+
+        @Override
+        public List<FileChange> getChangedFiles() {
+            return List.of();
+        }
+
+        @Override
+        public void postComment(String comment) {
+            comments.add(comment);
+        }
+    }
+
+    @Test
+    void testMinimalGitServiceGetsFoldedStructuredReview() throws Exception {
+        MinimalGitService minimal = new MinimalGitService();
+        ReviewService minimalService = new ReviewService(minimal, new ClaudeService(CONFIG), CONFIG);
+        List<FileChange> changes = List.of(new FileChange("src/A.java", "@@ -1,1 +1,2 @@\n a\n+b\n", "modified"));
+        StructuredReview review = new StructuredReview("요약",
+                List.of(new Finding("src/A.java", 2, "major", "NPE 가능", null)));
+
+        minimalService.postStructuredReview(review, changes, minimal.getHeadSha(), null);
+
+        assertEquals(1, minimal.comments.size());
+        assertTrue(minimal.comments.get(0).contains("- `src/A.java:2` "));
+        assertFalse(minimal.comments.get(0).contains("reviewed-sha"));
+        assertTrue(minimal.upsertStickyComment("고정 댓글"));
+        assertEquals(2, minimal.comments.size());
+    }
+
+    @Test
+    void testMinimalGitServiceRunsFullReview() throws Exception {
+        ReviewConfig incremental = ReviewConfig.builder().anthropicApiKey("test").incremental(true).build();
+        MinimalGitService minimal = new MinimalGitService();
+
+        new ReviewService(minimal, new ClaudeService(incremental), incremental).executeReview();
+
+        // head SHA를 몰라도 증분 리뷰로 넘어가지 않고 전체 변경 목록(빈 목록)으로 끝남
+        assertTrue(minimal.comments.isEmpty());
+    }
+}
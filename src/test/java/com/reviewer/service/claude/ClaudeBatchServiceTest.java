@@ -0,0 +1,75 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.reviewer.config.ReviewConfig;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClaudeBatchService 테스트 (로컬 mock 서버)
+ */
+class ClaudeBatchServiceTest {
+
+    private MockWebServer server;
+    private ClaudeBatchService batchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        String baseUrl = server.url("/").toString();
+        ReviewConfig config = ReviewConfig.builder()
+                .anthropicApiKey("test-key")
+                .anthropicBaseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                .build();
+        batchService = new ClaudeBatchService(config, new OkHttpClient(),
+                Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void testSubmitPollAndMapResults() throws Exception {
+        server.enqueue(new MockResponse().setBody(
+                "{\"id\":\"msgbatch_1\",\"processing_status\":\"in_progress\"}"));
+        server.enqueue(new MockResponse().setBody(
+                "{\"id\":\"msgbatch_1\",\"processing_status\":\"ended\",\"results_url\":\""
+                        + server.url("/results") + "\"}"));
+        server.enqueue(new MockResponse().setBody(
+                "{\"custom_id\":\"pr-0\",\"result\":{\"type\":\"succeeded\",\"message\":"
+                        + "{\"content\":[{\"type\":\"text\",\"text\":\"리뷰 결과\"}]}}}\n"
+                        + "{\"custom_id\":\"pr-1\",\"result\":{\"type\":\"errored\",\"error\":{}}}\n"));
+
+        Map<String, JsonObject> requests = new LinkedHashMap<>();
+        requests.put("pr-0", new JsonObject());
+        requests.put("pr-1", new JsonObject());
+
+        Map<String, JsonObject> results = batchService.execute(requests);
+
+        assertEquals(1, results.size());
+        assertEquals("리뷰 결과", results.get("pr-0").getAsJsonArray("content")
+                .get(0).getAsJsonObject().get("text").getAsString());
+
+        RecordedRequest submit = server.takeRequest();
+        assertEquals("POST", submit.getMethod());
+        assertEquals("/v1/messages/batches", submit.getPath());
+        assertEquals("test-key", submit.getHeader("x-api-key"));
+        assertEquals("/v1/messages/batches/msgbatch_1", server.takeRequest().getPath());
+        assertEquals("/results", server.takeRequest().getPath());
+    }
+}
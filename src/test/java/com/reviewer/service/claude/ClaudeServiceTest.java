@@ -0,0 +1,201 @@
+package com.reviewer.service.claude;
+
+import com.reviewer.cache.FileReviewCache;
+import com.reviewer.cache.NoOpReviewCache;
+import com.reviewer.config.ReviewConfig;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.TokenUsage;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClaudeService 테스트 (로컬 mock 서버를 Messages API로 사용)
+ */
+class ClaudeServiceTest {
+
+    private static final String USAGE = "\"usage\":{\"input_tokens\":10,\"output_tokens\":5}";
+    private static final String MESSAGE_START = event("message_start",
+            "{\"type\":\"message_start\",\"message\":{\"usage\":{\"input_tokens\":120,\"output_tokens\":1}}}");
+
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private MockWebServer server;
+    private ReviewConfig config;
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = request.getBody().readUtf8();
+                bodies.add(body);
+                if (body.contains("\"submit_review\"")) {
+                    return new MockResponse().setBody("{\"content\":[{\"type\":\"tool_use\",\"name\":\"submit_review\","
+                            + "\"input\":{\"summary\":\"요약\",\"findings\":[]}}],\"stop_reason\":\"tool_use\"," + USAGE + "}");
+                }
+                return new MockResponse().setBody("{\"content\":[{\"type\":\"text\",\"text\":\"병합된 리뷰\"}],"
+                        + "\"stop_reason\":\"end_turn\"," + USAGE + "}");
+            }
+        });
+        server.start();
+        String baseUrl = server.url("/").toString();
+        config = ReviewConfig.builder()
+                .anthropicApiKey("test-key")
+                .anthropicBaseUrl(baseUrl.substring(0, baseUrl.length() - 1))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    private ClaudeService cachedService() throws Exception {
+        return new ClaudeService(config, new FileReviewCache(cacheDir, 1024 * 1024), new OkHttpClient());
+    }
+
+    @Test
+    void testUnchangedFilesReuseCacheWithoutCalls() throws Exception {
+        List<FileChange> changes = List.of(
+                new FileChange("src/A.java", "@@ -1 +1 @@\n-a\n+b\n", "modified"),
+                new FileChange("src/B.java", "@@ -1 +1 @@\n-c\n+d\n", "modified"));
+
+        String first = cachedService().reviewCode(changes);
+        int calls = server.getRequestCount();
+        String second = cachedService().reviewCode(changes);
+
+        assertEquals("병합된 리뷰", first);
+        assertEquals(first, second);
+        assertEquals(calls, server.getRequestCount());
+    }
+
+    @Test
+    void testOnlyChangedFileIsReviewedAgain() throws Exception {
+        FileChange unchanged = new FileChange("src/A.java", "@@ -1 +1 @@\n-a\n+unchangedLine\n", "modified");
+        cachedService().reviewCode(List.of(unchanged,
+                new FileChange("src/B.java", "@@ -1 +1 @@\n-c\n+d\n", "modified")));
+        bodies.clear();
+
+        cachedService().reviewCode(List.of(unchanged,
+                new FileChange("src/B.java", "@@ -1 +1 @@\n-c\n+changedLine\n", "modified")));
+
+        // 바뀐 파일의 구조화 리뷰 한 번과 병합 한 번
+        assertEquals(2, bodies.size());
+        String review = bodies.stream().filter(body -> body.contains("\"submit_review\"")).findFirst().orElseThrow();
+        assertTrue(review.contains("changedLine"));
+        assertFalse(review.contains("unchangedLine"));
+    }
+
+    /**
+     * 모든 요청에 같은 SSE 본문을 돌려주는 스트리밍 서비스
+     */
+    private ClaudeService streamingService(String events) {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setHeader("Content-Type", "text/event-stream").setBody(events);
+            }
+        });
+        ReviewConfig streaming = config.toBuilder().stream(true).build();
+        return new ClaudeService(streaming, new NoOpReviewCache(), new OkHttpClient());
+    }
+
+    private static String event(String type, String data) {
+        return "event: " + type + "\ndata: " + data + "\n\n";
+    }
+
+    private static String textDelta(String text) {
+        return event("content_block_delta", "{\"type\":\"content_block_delta\",\"index\":0,"
+                + "\"delta\":{\"type\":\"text_delta\",\"text\":\"" + text + "\"}}");
+    }
+
+    @Test
+    void testStreamAssemblesTextAndSplitUsage() throws Exception {
+        ClaudeService service = streamingService(MESSAGE_START
+                + event("ping", "{\"type\":\"ping\"}")
+                + textDelta("좋은 ")
+                + textDelta("변경입니다.")
+                + event("message_delta", "{\"type\":\"message_delta\",\"delta\":{\"stop_reason\":\"end_turn\"},"
+                        + "\"usage\":{\"output_tokens\":42}}")
+                + event("message_stop", "{\"type\":\"message_stop\"}"));
+        List<String> pieces = new ArrayList<>();
+
+        String review = service.reviewCode(List.of(new FileChange("src/A.java", "@@ -1 +1 @@\n+x\n", "added")),
+                pieces::add);
+
+        assertEquals("좋은 변경입니다.", review);
+        assertEquals(List.of("좋은 ", "변경입니다."), pieces);
+        // 입력 토큰은 message_start, 출력 토큰은 message_delta 기준
+        assertEquals(120, service.getTokenUsage().getInputTokens());
+        assertEquals(42, service.getTokenUsage().getOutputTokens());
+    }
+
+    @Test
+    void testStreamErrorEventFails() {
+        ClaudeService service = streamingService(MESSAGE_START + textDelta("일부")
+                + event("error", "{\"type\":\"error\",\"error\":{\"type\":\"overloaded_error\"}}"));
+
+        IOException error = assertThrows(IOException.class, () -> service.reviewCode(
+                List.of(new FileChange("src/A.java", "@@ -1 +1 @@\n+x\n", "added"))));
+        assertTrue(error.getMessage().contains("overloaded_error"));
+    }
+
+    @Test
+    void testTruncatedStreamFailsInsteadOfReturningPartialReview() {
+        ClaudeService service = streamingService(MESSAGE_START + textDelta("중간에 끊긴 리뷰"));
+
+        assertThrows(IOException.class, () -> service.reviewCode(
+                List.of(new FileChange("src/A.java", "@@ -1 +1 @@\n+x\n", "added"))));
+    }
+
+    @Test
+    void testBatchUsageIsAttributedPerReview() throws Exception {
+        ClaudeBatchService batchService = new ClaudeBatchService(config, new OkHttpClient()) {
+            @Override
+            public Map<String, JsonObject> execute(Map<String, JsonObject> paramsById) {
+                Map<String, JsonObject> messages = new HashMap<>();
+                paramsById.keySet().forEach(customId -> messages.put(customId, JsonParser.parseString(
+                        "{\"content\":[{\"type\":\"text\",\"text\":\"리뷰 " + customId + "\"}],\"usage\":"
+                                + "{\"input_tokens\":" + (customId.startsWith("pr-0") ? 100 : 200)
+                                + ",\"output_tokens\":7}}").getAsJsonObject()));
+                return messages;
+            }
+        };
+        Map<String, List<FileChange>> changesById = new LinkedHashMap<>();
+        changesById.put("pr-0", List.of(new FileChange("src/A.java", "@@ -1 +1 @@\n+a\n", "added")));
+        changesById.put("pr-1", List.of(new FileChange("src/B.java", "@@ -1 +1 @@\n+b\n", "added")));
+        ClaudeService service = new ClaudeService(config, new NoOpReviewCache(), new OkHttpClient());
+        Map<String, TokenUsage> usageById = new HashMap<>();
+
+        Map<String, String> reviews = service.reviewCodeInBatch(changesById, batchService, usageById);
+
+        assertEquals(2, reviews.size());
+        assertEquals(100, usageById.get("pr-0").getInputTokens());
+        assertEquals(200, usageById.get("pr-1").getInputTokens());
+        assertEquals(7, usageById.get("pr-1").getOutputTokens());
+        assertEquals(300, service.getTokenUsage().getInputTokens());
+    }
+}
@@ -0,0 +1,81 @@
+package com.reviewer.service.claude;
+
+import com.reviewer.model.FileChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DiffPacker 테스트
+ */
+class DiffPackerTest {
+
+    private static FileChange change(String name, int lines, String status) {
+        return new FileChange(name, "+ line of code\n".repeat(lines), status);
+    }
+
+    @Test
+    void testPacksChunksWithinRequestBudget() {
+        List<FileChange> changes = List.of(
+                change("A.java", 40, "modified"),
+                change("B.java", 10, "modified"),
+                change("C.java", 40, "added"),
+                change("D.java", 10, "modified"));
+
+        DiffPacker.Result result = new DiffPacker(300, 10000).pack(changes);
+
+        assertTrue(result.getSkipped().isEmpty());
+        assertEquals(4, result.getSelected().size());
+        for (List<FileChange> chunk : result.getChunks()) {
+            int size = chunk.stream().mapToInt(DiffPacker::estimate).sum();
+            assertTrue(size <= 300, "묶음 크기 초과: " + size);
+        }
+        // 선택된 파일은 원래 순서 유지
+        assertEquals("A.java", result.getSelected().get(0).getFilename());
+        assertEquals("D.java", result.getSelected().get(3).getFilename());
+    }
+
+    @Test
+    void testTruncatesOversizedPatch() {
+        FileChange large = change("Large.java", 1000, "modified");
+
+        DiffPacker packer = new DiffPacker(200, 10000);
+        FileChange fitted = packer.fit(large);
+
+        assertNotSame(large, fitted);
+        assertTrue(DiffPacker.estimate(fitted) <= 200);
+        assertTrue(fitted.getPatch().contains("more lines omitted"));
+        assertEquals(1, packer.pack(List.of(large)).getTruncated());
+    }
+
+    @Test
+    void testSkipsLowPriorityFilesOverTotalBudget() {
+        List<FileChange> changes = List.of(
+                change("Removed.java", 30, "removed"),
+                change("Added.java", 30, "added"),
+                change("Modified.java", 30, "modified"));
+
+        DiffPacker.Result result = new DiffPacker(200, 300).pack(changes);
+
+        assertEquals(1, result.getSkipped().size());
+        assertEquals("Removed.java", result.getSkipped().get(0).getFilename());
+        assertTrue(result.getEstimatedTokens() <= 300);
+    }
+
+    @Test
+    void testPrefersRiskyFilesOverTotalBudget() {
+        List<FileChange> changes = List.of(
+                change("src/ui/Button.java", 30, "modified"),
+                change("src/security/AuthFilter.java", 30, "modified"),
+                change("src/ui/Label.java", 30, "modified"));
+
+        DiffPacker.Result result = new DiffPacker(200, 200).pack(changes);
+
+        assertEquals(1, result.getSelected().size());
+        assertEquals("src/security/AuthFilter.java", result.getSelected().get(0).getFilename());
+        assertTrue(result.getScores().get(result.getSelected().get(0))
+                > result.getScores().get(result.getSkipped().get(0)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.reviewer.model.StructuredReview;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FindingsParser 테스트
+ */
+class FindingsParserTest {
+
+    @Test
+    void testParsesToolUseFromMessage() throws Exception {
+        String body = """
+                {"id": "msg_1", "content": [
+                  {"type": "text", "text": "리뷰 결과를 제출합니다."},
+                  {"type": "tool_use", "id": "toolu_1", "name": "submit_review", "input": {
+                    "summary": "전반적으로 좋음",
+                    "findings": [
+                      {"file": "A.java", "line": 12, "severity": "major", "comment": "NPE 가능", "suggestion": null},
+                      {"file": "B.java", "line": "3", "severity": "minor", "comment": "이름 개선"},
+                      {"file": "C.java"}
+                    ]}}],
+                 "usage": {"input_tokens": 5, "output_tokens": 7}}
+                """;
+        AtomicReference<JsonObject> usage = new AtomicReference<>();
+
+        StructuredReview review = FindingsParser.parseMessage(new StringReader(body), usage::set);
+
+        assertEquals("전반적으로 좋음", review.getSummary());
+        assertEquals(2, review.getFindings().size());
+        assertEquals(12, review.getFindings().get(0).getLine());
+        assertNull(review.getFindings().get(0).getSuggestion());
+        assertEquals(3, review.getFindings().get(1).getLine());
+        assertEquals(7, usage.get().get("output_tokens").getAsInt());
+    }
+}
@@ -0,0 +1,108 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import com.reviewer.service.diff.DiffLines;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageRequestBody 테스트
+ */
+class MessageRequestBodyTest {
+
+    private static final List<FileChange> CHANGES = List.of(
+            new FileChange("src/Quote.java", "@@ -1,2 +1,2 @@\n-String s = \"a\\\\b\";\n+String s = \"a\\tb\u0001\";\n", "modified"),
+            new FileChange("src/한글.kt", "@@ -0,0 +1,1 @@\n+val emoji = \"🤖 끝\"\r\n", "added"));
+
+    private static JsonObject params() {
+        JsonObject params = new JsonObject();
+        params.addProperty("model", "claude-test");
+        params.addProperty("max_tokens", 100);
+        JsonArray system = new JsonArray();
+        system.add("리뷰어 \"system\"");
+        params.add("system", system);
+        return params;
+    }
+
+    private static JsonObject parse(Buffer buffer) {
+        return JsonParser.parseString(buffer.readUtf8()).getAsJsonObject();
+    }
+
+    private static String content(JsonObject body) {
+        return body.getAsJsonArray("messages").get(0).getAsJsonObject().get("content").getAsString();
+    }
+
+    @Test
+    void testContentMatchesFormattedChanges() throws Exception {
+        ClaudeService service = new ClaudeService(ReviewConfig.builder().anthropicApiKey("test").build());
+        MessageRequestBody body = new MessageRequestBody(params(), "리뷰해줘:\n\n", CHANGES, false);
+
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        JsonObject json = parse(buffer);
+
+        assertEquals("리뷰해줘:\n\n" + service.formatChanges(CHANGES), content(json));
+        assertEquals("user", json.getAsJsonArray("messages").get(0).getAsJsonObject().get("role").getAsString());
+        assertEquals("claude-test", json.get("model").getAsString());
+        assertEquals(100, json.get("max_tokens").getAsInt());
+        assertEquals("리뷰어 \"system\"", json.getAsJsonArray("system").get(0).getAsString());
+    }
+
+    @Test
+    void testNumberedPatches() throws Exception {
+        MessageRequestBody body = new MessageRequestBody(params(), "", CHANGES.subList(0, 1), true);
+
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        assertTrue(content(parse(buffer)).contains(DiffLines.numbered(CHANGES.get(0).getPatch())));
+    }
+
+    @Test
+    void testReplayableWithExactContentLength() throws Exception {
+        MessageRequestBody body = new MessageRequestBody(params(), "prefix", CHANGES, false);
+        // 길이를 알려고 미리 직렬화하지 않으므로 첫 전송 전에는 모름 (chunked)
+        assertEquals(-1, body.contentLength());
+        assertTrue(body.estimatedLength() > 0);
+
+        Buffer first = new Buffer();
+        body.writeTo(first);
+        Buffer second = new Buffer();
+        body.writeTo(second);
+
+        assertEquals(body.contentLength(), first.size());
+        assertEquals(body.contentLength(), body.estimatedLength());
+        assertArrayEquals(first.readByteArray(), second.readByteArray());
+        assertFalse(body.isOneShot());
+    }
+
+    @Test
+    void testNumberedPatchWithoutHunksIsWrittenAsIs() throws Exception {
+        FileChange binary = new FileChange("img.png", "Binary files differ", "modified");
+        MessageRequestBody body = new MessageRequestBody(params(), "", List.of(binary), true);
+
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        assertTrue(content(parse(buffer)).contains("\nBinary files differ\n"));
+    }
+
+    @Test
+    void testEscapesLikeGson() throws Exception {
+        String value = "q\" b\\ n\n c\u001f ls\u2028 ps\u2029 😀";
+        Buffer buffer = new Buffer();
+        MessageRequestBody.writeEscaped(buffer, value);
+
+        String expected = new JsonPrimitive(value).toString();
+        assertEquals(expected.substring(1, expected.length() - 1), buffer.readUtf8());
+    }
+}
@@ -0,0 +1,79 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ToolUseReader 테스트
+ */
+class ToolUseReaderTest {
+
+    private static String readName(JsonReader reader) throws IOException {
+        String name = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("name".equals(reader.nextName())) {
+                name = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return name;
+    }
+
+    @Test
+    void testReadsLastToolUseInputAndUsage() throws Exception {
+        String body = """
+                {"content": [
+                  {"type": "text", "text": "설명"},
+                  {"type": "tool_use", "name": "submit", "input": {"name": "first"}},
+                  {"type": "tool_use", "name": "submit", "input": {"name": "second", "extra": [1, 2]}}],
+                 "usage": {"output_tokens": 4}}
+                """;
+        AtomicReference<JsonObject> usage = new AtomicReference<>();
+
+        String name = ToolUseReader.readMessage(new StringReader(body), "submit", usage::set,
+                ToolUseReaderTest::readName);
+
+        assertEquals("second", name);
+        assertEquals(4, usage.get().get("output_tokens").getAsInt());
+    }
+
+    @Test
+    void testFailsWithoutToolUse() {
+        String body = "{\"content\": [{\"type\": \"text\", \"text\": \"no tool\"}]}";
+
+        IOException e = assertThrows(IOException.class, () -> ToolUseReader.readMessage(
+                new StringReader(body), "submit_review", usage -> { }, ToolUseReaderTest::readName));
+        assertTrue(e.getMessage().contains("submit_review"));
+    }
+
+    @Test
+    void testNextNumberAcceptsNumericStrings() throws Exception {
+        JsonReader reader = new JsonReader(new StringReader("[12, \" 0.5 \", \"high\"]"));
+        reader.beginArray();
+
+        assertEquals(12.0, ToolUseReader.nextNumber(reader));
+        assertEquals(0.5, ToolUseReader.nextNumber(reader));
+        assertNull(ToolUseReader.nextNumber(reader));
+    }
+
+    @Test
+    void testFailsWhenOutputHitMaxTokens() {
+        String body = """
+                {"content": [{"type": "tool_use", "name": "submit_review", "input": {"name": "partial"}}],
+                 "stop_reason": "max_tokens"}
+                """;
+
+        assertThrows(ToolUseReader.TruncatedException.class, () -> ToolUseReader.readMessage(
+                new StringReader(body), "submit_review", usage -> { }, ToolUseReaderTest::readName));
+    }
+}
@@ -0,0 +1,40 @@
+package com.reviewer.service.claude;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TriageParser 테스트
+ */
+class TriageParserTest {
+
+    @Test
+    void testParsesRisksFromToolUse() throws Exception {
+        String body = """
+                {"id": "msg_1", "content": [
+                  {"type": "tool_use", "id": "toolu_1", "name": "submit_triage", "input": {
+                    "files": [
+                      {"file": "A.java", "risk": 0.9, "reason": "락 순서 변경"},
+                      {"file": "B.java", "risk": "0.1"},
+                      {"file": "C.java", "risk": 7},
+                      {"file": "D.java"}
+                    ]}}],
+                 "usage": {"input_tokens": 5, "output_tokens": 3}}
+                """;
+        AtomicReference<JsonObject> usage = new AtomicReference<>();
+
+        Map<String, Double> risks = TriageParser.parseMessage(new StringReader(body), usage::set);
+
+        assertEquals(0.9, risks.get("A.java"));
+        assertEquals(0.1, risks.get("B.java"));
+        assertEquals(1.0, risks.get("C.java"));
+        assertFalse(risks.containsKey("D.java"));
+        assertEquals(3, usage.get().get("output_tokens").getAsInt());
+    }
+}
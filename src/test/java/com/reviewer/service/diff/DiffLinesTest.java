@@ -0,0 +1,45 @@
+package com.reviewer.service.diff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DiffLines 테스트
+ */
+class DiffLinesTest {
+
+    private static final String PATCH = "@@ -10,3 +10,3 @@\n ctx\n-old\n+new\n ctx2\n@@ -40,1 +40,2 @@\n a\n+b\n";
+
+    @Test
+    void testCommentableLinesAreAddedAndContextLines() {
+        Set<Integer> lines = DiffLines.commentableLines(PATCH);
+
+        assertEquals(Set.of(10, 11, 12, 40, 41), lines);
+    }
+
+    @Test
+    void testCommentableLinesWithoutHunks() {
+        assertTrue(DiffLines.commentableLines("Binary files differ").isEmpty());
+    }
+
+    @Test
+    void testNumberedMarksNewFileLines() {
+        String numbered = DiffLines.numbered("@@ -1,2 +1,2 @@\n a\n-b\n+c\n");
+
+        assertTrue(numbered.contains("    1  a\n"));
+        assertTrue(numbered.contains("      -b\n"));
+        assertTrue(numbered.contains("    2 +c\n"));
+    }
+
+    @Test
+    void testNumberedKeepsWideLineNumbersAndHunkHeader() {
+        String numbered = DiffLines.numbered("@@ -99998,2 +99998,3 @@ class A\n a\n+b\n+c\n");
+
+        assertTrue(numbered.startsWith("      @@ -99998,1 +99998,3 @@ class A\n"));
+        assertTrue(numbered.contains("99999 +b\n"));
+        assertTrue(numbered.contains("100000 +c\n"));
+    }
+}
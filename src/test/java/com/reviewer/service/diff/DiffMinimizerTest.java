@@ -0,0 +1,80 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.model.FileChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DiffMinimizer 및 기본 단계 테스트
+ */
+class DiffMinimizerTest {
+
+    @Test
+    void testTrimsContextAndSplitsHunk() {
+        String patch = "@@ -1,12 +1,12 @@ class A\n a\n b\n c\n-d\n+D\n e\n f\n g\n h\n i\n-j\n+J\n k";
+
+        FileChange trimmed = new ContextTrimStage(1).apply(new FileChange("A.java", patch, "modified"));
+
+        assertEquals("@@ -3,3 +3,3 @@ class A\n c\n-d\n+D\n e\n"
+                + "@@ -9,3 +9,3 @@ class A\n i\n-j\n+J\n k", trimmed.getPatch());
+    }
+
+    @Test
+    void testDropsWhitespaceOnlyHunks() {
+        String patch = "@@ -1,3 +1,4 @@\n a\n-  foo(x) \n+foo(x)\n+\n@@ -10,1 +10,1 @@\n-x\n+y";
+        WhitespaceHunkStage stage = new WhitespaceHunkStage();
+
+        assertEquals("@@ -10,1 +10,1 @@\n-x\n+y", stage.apply(new FileChange("A.java", patch, "modified")).getPatch());
+        assertNull(stage.apply(new FileChange("B.java", "", "renamed")));
+    }
+
+    @Test
+    void testKeepsWhitespaceChangesInsideLines() {
+        FileChange change = new FileChange("A.java",
+                "@@ -1,1 +1,1 @@\n-String s = \"a b\";\n+String s = \"ab\";", "modified");
+
+        assertSame(change, new WhitespaceHunkStage().apply(change));
+    }
+
+    @Test
+    void testKeepsIndentationInIndentSensitiveFiles() {
+        String patch = "@@ -1,2 +1,2 @@\n if x:\n-    run()\n+run()";
+        WhitespaceHunkStage stage = new WhitespaceHunkStage();
+
+        for (String filename : List.of("app/main.py", ".github/workflows/ci.yml", "k8s/deploy.yaml",
+                "Makefile", "build/rules.mk")) {
+            FileChange change = new FileChange(filename, patch, "modified");
+            assertSame(change, stage.apply(change), filename);
+        }
+        assertNull(stage.apply(new FileChange("src/Main.java", patch, "modified")));
+    }
+
+    @Test
+    void testSkipsGeneratedFiles() {
+        GeneratedFileStage stage = new GeneratedFileStage(List.of("src/gen/**"));
+
+        assertTrue(stage.isGenerated(new FileChange("yarn.lock", "", "modified")));
+        assertTrue(stage.isGenerated(new FileChange("src/gen/Api.java", "", "added")));
+        assertTrue(stage.isGenerated(new FileChange("Proto.java",
+                "@@ -0,0 +1,2 @@\n+// Code generated by protoc. DO NOT EDIT.\n+package x;", "added")));
+        assertFalse(stage.isGenerated(new FileChange("src/main/java/build/Task.java", "", "modified")));
+    }
+
+    @Test
+    void testReportsSavedTokensPerStage() {
+        DiffMinimizer minimizer = new DiffMinimizer(List.of(new GeneratedFileStage(List.of()), new WhitespaceHunkStage()));
+        List<FileChange> changes = List.of(
+                new FileChange("package-lock.json", "@@ -1,1 +1,1 @@\n-a\n+b", "modified"),
+                new FileChange("A.java", "@@ -1,1 +1,1 @@\n-x\n+y", "modified"));
+
+        DiffMinimizer.Result result = minimizer.minimize(changes);
+
+        assertEquals(1, result.getChanges().size());
+        assertEquals(1, result.getRemovedFiles());
+        assertTrue(result.getSavedTokens().get("generated") > 0);
+        assertEquals(0, result.getSavedTokens().get("whitespace"));
+    }
+}
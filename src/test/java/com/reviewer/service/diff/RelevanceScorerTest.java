@@ -0,0 +1,79 @@
+package com.reviewer.service.diff;
+
+import com.reviewer.model.FileChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RelevanceScorer 테스트
+ */
+class RelevanceScorerTest {
+
+    private final RelevanceScorer scorer = new RelevanceScorer(List.of("src/payment/**"));
+
+    private static FileChange change(String name, int lines, String status) {
+        return new FileChange(name, "@@ -1,1 +1,1 @@\n" + "+ line of code\n".repeat(lines), status);
+    }
+
+    @Test
+    void testRiskyPathsScoreHigher() {
+        double plain = scorer.score(change("src/ui/Button.java", 10, "modified"));
+
+        assertTrue(scorer.score(change("src/auth/TokenValidator.java", 10, "modified")) > plain);
+        assertTrue(scorer.score(change("src/db/UserRepository.java", 10, "modified")) > plain);
+        assertTrue(scorer.score(change("src/payment/Charge.java", 10, "modified")) > plain);
+    }
+
+    @Test
+    void testStatusAndChurnOrdering() {
+        assertTrue(scorer.score(change("A.java", 10, "added")) > scorer.score(change("A.java", 10, "removed")));
+        assertTrue(scorer.score(change("A.java", 200, "modified")) > scorer.score(change("A.java", 2, "modified")));
+    }
+
+    @Test
+    void testTestsAndDocsScoreLower() {
+        double source = scorer.score(change("src/main/Service.java", 10, "modified"));
+
+        assertTrue(scorer.score(change("src/test/ServiceTest.java", 10, "modified")) < source);
+        assertTrue(scorer.score(change("docs/guide.md", 10, "modified")) < source);
+    }
+
+    @Test
+    void testRemovedFileChurnDoesNotBeatNewCode() {
+        FileChange deleted = new FileChange("src/Legacy.java",
+                "@@ -1,1000 +0,0 @@\n" + "- old line\n".repeat(1000), "removed");
+
+        assertTrue(scorer.score(change("src/Feature.java", 10, "added")) > scorer.score(deleted));
+    }
+
+    @Test
+    void testKeywordsMatchWholeWordsOnly() {
+        double plain = scorer.score(change("src/ui/Button.java", 10, "modified"));
+
+        assertEquals(plain, scorer.score(change("package-lock.json", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("yarn.lock", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("src/ui/BlockClock.java", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("src/meta/Author.java", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("src/db2/OracleDialect.java", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("src/text/Tokenizer.java", 10, "modified")), 1e-9);
+        assertTrue(scorer.score(change("src/auth/JWTFilter.java", 10, "modified")) > plain);
+    }
+
+    @Test
+    void testTestDetectionUsesWords() {
+        double plain = scorer.score(change("src/ui/Button.java", 10, "modified"));
+
+        assertEquals(plain, scorer.score(change("src/ui/latest.ts", 10, "modified")), 1e-9);
+        assertEquals(plain, scorer.score(change("src/ui/Attestation.java", 10, "modified")), 1e-9);
+        assertTrue(scorer.score(change("src/ui/button.test.ts", 10, "modified")) < plain);
+    }
+
+    @Test
+    void testSplitsPathIntoWords() {
+        assertEquals(List.of("src", "auth", "jwt", "token", "filter", "java"),
+                RelevanceScorer.words("src/auth/JWTTokenFilter.java"));
+    }
+}
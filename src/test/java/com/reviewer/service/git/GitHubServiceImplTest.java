@@ -0,0 +1,84 @@
+package com.reviewer.service.git;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GitHubServiceImpl 테스트 (MockWebServer를 GitHub API로 사용)
+ */
+class GitHubServiceImplTest {
+
+    private MockWebServer server;
+    private ReviewConfig config;
+    private GitHubServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        config = ReviewConfig.builder()
+                .githubToken("token")
+                .anthropicApiKey("test")
+                .repoName("owner/repo")
+                .prNumber(7)
+                .githubApiUrl(server.url("/api").toString())
+                .build();
+        service = new GitHubServiceImpl(config, new OkHttpClient());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void testFoldsInlineCommentsWhenReviewIsRejected() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(422)
+                .setBody("{\"message\": \"Pull request review thread line must be part of the diff\"}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+
+        service.postReview("본문", "abc123", List.of(new ReviewComment("src/A.java", 12, "NPE 가능")));
+
+        JsonObject first = JsonParser.parseString(server.takeRequest().getBody().readUtf8()).getAsJsonObject();
+        assertEquals(1, first.getAsJsonArray("comments").size());
+
+        JsonObject retry = JsonParser.parseString(server.takeRequest().getBody().readUtf8()).getAsJsonObject();
+        assertEquals(0, retry.getAsJsonArray("comments").size());
+        assertTrue(retry.get("body").getAsString().startsWith("본문"));
+        assertTrue(retry.get("body").getAsString().contains("- `src/A.java:12` NPE 가능"));
+    }
+
+    @Test
+    void testFailsWhenReviewWithoutCommentsIsRejected() {
+        server.enqueue(new MockResponse().setResponseCode(422).setBody("{}"));
+
+        assertThrows(java.io.IOException.class, () -> service.postReview("본문", "abc123", List.of()));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void testFilesPageUsesConfiguredPatchStorage() throws Exception {
+        server.enqueue(new MockResponse().setBody("[{\"filename\": \"src/A.java\", \"status\": \"modified\", "
+                + "\"patch\": \"@@ -1 +1 @@\\n+x\\n\"}]"));
+        List<FileChange> changes = new ArrayList<>();
+
+        service.fetchFilesPage(1, changes::add);
+
+        assertEquals(1, changes.size());
+        assertSame(config.getPatchStorage(), changes.get(0).getStorage());
+    }
+}
@@ -0,0 +1,233 @@
+package com.reviewer.service.git;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GiteaServiceImpl 테스트 (MockWebServer를 Gitea API로 사용)
+ */
+class GiteaServiceImplTest {
+
+    private MockWebServer server;
+    private ReviewConfig config;
+    private GiteaServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        config = ReviewConfig.builder()
+                .githubToken("token")
+                .anthropicApiKey("test")
+                .repoName("owner/repo")
+                .prNumber(7)
+                .giteaUrl(server.url("/").toString().replaceAll("/$", ""))
+                .build();
+        service = new GiteaServiceImpl(config, new OkHttpClient());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    /**
+     * MAX_RESPONSE_ITEMS처럼 요청한 limit보다 작은 페이지 크기를 강제하는 파일 목록 API
+     */
+    private static Dispatcher cappedFiles(int total, int cap, boolean totalHeader) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                HttpUrl url = request.getRequestUrl();
+                int page = Integer.parseInt(url.queryParameter("page"));
+                int limit = Math.min(cap, Integer.parseInt(url.queryParameter("limit")));
+                JsonArray files = new JsonArray();
+                for (int i = (page - 1) * limit; i < Math.min(total, page * limit); i++) {
+                    JsonObject file = new JsonObject();
+                    file.addProperty("filename", "src/F" + i + ".java");
+                    file.addProperty("status", "modified");
+                    file.addProperty("patch", "@@ -1 +1 @@\n+x\n");
+                    files.add(file);
+                }
+                MockResponse response = new MockResponse().setBody(files.toString());
+                return totalHeader ? response.setHeader("X-Total-Count", total) : response;
+            }
+        };
+    }
+
+    @Test
+    void testFetchesAllPagesWhenServerCapsLimit() throws Exception {
+        server.setDispatcher(cappedFiles(75, 30, true));
+
+        List<FileChange> changes = service.getChangedFiles();
+
+        assertEquals(75, changes.size());
+        assertEquals("src/F74.java", changes.get(74).getFilename());
+        assertEquals(3, server.getRequestCount());
+        assertTrue(changes.stream().allMatch(change -> change.getStorage() == config.getPatchStorage()));
+    }
+
+    @Test
+    void testFetchesAllPagesWithoutTotalCount() throws Exception {
+        server.setDispatcher(cappedFiles(75, 30, false));
+
+        List<FileChange> changes = service.getChangedFiles();
+
+        assertEquals(75, changes.size());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void testIncrementalReviewsOnlyFilesTouchedSinceBase() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"head\": {\"sha\": \"0123456789abcdef\"}}"));
+        server.enqueue(new MockResponse().setBody("{\"total_commits\": 1, \"commits\": [{\"sha\": \"0123456789abcdef\", "
+                + "\"files\": [{\"filename\": \"src/F1.java\", \"status\": \"modified\"}]}]}"));
+        server.enqueue(new MockResponse().setHeader("X-Total-Count", 2).setBody("["
+                + "{\"filename\": \"src/F0.java\", \"status\": \"modified\", \"patch\": \"@@ -1 +1 @@\\n+x\\n\"},"
+                + "{\"filename\": \"src/F1.java\", \"status\": \"modified\", \"patch\": \"@@ -1 +1 @@\\n+y\\n\"}]"));
+
+        List<FileChange> changes = service.getChangedFilesSince("fedcba9876543210");
+
+        assertEquals(List.of("src/F1.java"), changes.stream().map(FileChange::getFilename).toList());
+        assertSame(config.getPatchStorage(), changes.get(0).getStorage());
+        server.takeRequest();
+        assertEquals("/api/v1/repos/owner/repo/compare/fedcba9876543210...0123456789abcdef",
+                server.takeRequest().getPath());
+    }
+
+    @Test
+    void testIncrementalFallsBackToFullReviewWhenCompareFails() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"head\": {\"sha\": \"0123456789abcdef\"}}"));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+        server.enqueue(new MockResponse().setHeader("X-Total-Count", 1).setBody(
+                "[{\"filename\": \"src/F0.java\", \"status\": \"modified\", \"patch\": \"@@ -1 +1 @@\\n+x\\n\"}]"));
+
+        List<FileChange> changes = service.getChangedFilesSince("fedcba9876543210");
+
+        assertEquals(1, changes.size());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void testFindsNewestReviewedShaOnLaterReviewPage() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                HttpUrl url = request.getRequestUrl();
+                if (!url.encodedPath().endsWith("/reviews")) {
+                    return new MockResponse().setBody("[]");
+                }
+                // limit와 상관없이 2개씩 잘라 주는 서버 (오래된 리뷰부터)
+                int page = Integer.parseInt(url.queryParameter("page"));
+                JsonArray reviews = new JsonArray();
+                for (int i = (page - 1) * 2; i < Math.min(3, page * 2); i++) {
+                    JsonObject review = new JsonObject();
+                    review.addProperty("id", i + 1);
+                    review.addProperty("body", "리뷰 " + i + "\n" + ReviewMarker.formatReviewedSha("abcdef" + i));
+                    review.addProperty("submitted_at", "2026-01-0" + (i + 1) + "T00:00:00Z");
+                    reviews.add(review);
+                }
+                return new MockResponse().setBody(reviews.toString());
+            }
+        });
+
+        assertEquals("abcdef2", service.findLastReviewedSha());
+    }
+
+    /**
+     * 인증 사용자와 PR 댓글 목록을 돌려주고, 댓글 작성/수정 요청은 기록만 하는 댓글 API
+     */
+    private static Dispatcher comments(JsonArray comments, List<String> writes) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.equals("/api/v1/user")) {
+                    return new MockResponse().setBody("{\"login\": \"reviewer-bot\"}");
+                }
+                if (request.getMethod().equals("GET")) {
+                    return new MockResponse().setBody(comments.toString());
+                }
+                writes.add(request.getMethod() + " " + path);
+                return new MockResponse().setResponseCode(201).setBody("{}");
+            }
+        };
+    }
+
+    private static JsonObject comment(long id, String author, String body) {
+        JsonObject user = new JsonObject();
+        user.addProperty("login", author);
+        JsonObject comment = new JsonObject();
+        comment.addProperty("id", id);
+        comment.addProperty("body", body);
+        comment.add("user", user);
+        return comment;
+    }
+
+    @Test
+    void testUpsertEditsOnlyBotStickyComment() throws Exception {
+        JsonArray existing = new JsonArray();
+        existing.add(comment(1, "reviewer-bot", ReviewMarker.withStickyMarker("이전 리뷰")));
+        // 사용자가 마커를 인용한 댓글이 더 뒤에 있어도 봇 댓글을 수정
+        existing.add(comment(2, "alice", "> " + ReviewMarker.withStickyMarker("이전 리뷰")));
+        List<String> writes = new ArrayList<>();
+        server.setDispatcher(comments(existing, writes));
+
+        assertTrue(service.upsertStickyComment("새 리뷰"));
+
+        assertEquals(List.of("PATCH /api/v1/repos/owner/repo/issues/comments/1"), writes);
+    }
+
+    @Test
+    void testUpsertSkipsWhenHashIsUnchanged() throws Exception {
+        JsonArray existing = new JsonArray();
+        existing.add(comment(1, "reviewer-bot", ReviewMarker.withStickyMarker("같은 리뷰")));
+        List<String> writes = new ArrayList<>();
+        server.setDispatcher(comments(existing, writes));
+
+        assertFalse(service.upsertStickyComment("같은 리뷰"));
+
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    void testUpsertSkipsWhenOnlyReviewedShaChanged() throws Exception {
+        JsonArray existing = new JsonArray();
+        existing.add(comment(1, "reviewer-bot",
+                ReviewMarker.withStickyMarker("같은 리뷰\n\n" + ReviewMarker.formatReviewedSha("abc1234"))));
+        List<String> writes = new ArrayList<>();
+        server.setDispatcher(comments(existing, writes));
+
+        assertFalse(service.upsertStickyComment("같은 리뷰\n\n" + ReviewMarker.formatReviewedSha("def5678")));
+
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    void testUpsertPostsWhenOnlyOthersHaveMarker() throws Exception {
+        JsonArray existing = new JsonArray();
+        existing.add(comment(2, "alice", ReviewMarker.withStickyMarker("새 리뷰")));
+        List<String> writes = new ArrayList<>();
+        server.setDispatcher(comments(existing, writes));
+
+        assertTrue(service.upsertStickyComment("새 리뷰"));
+
+        assertEquals(List.of("POST /api/v1/repos/owner/repo/issues/7/comments"), writes);
+    }
+}
@@ -0,0 +1,179 @@
+package com.reviewer.service.git;
+
+import com.reviewer.config.ReviewConfig;
+import com.reviewer.model.FileChange;
+import com.reviewer.model.ReviewComment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 diff 파싱 및 임시 저장소 diff 테스트
+ */
+class LocalGitServiceImplTest {
+    // 공통 조상이 없는 base를 만들 때 쓰는 빈 트리
+    private static final String EMPTY_TREE = "4b825dc642cb6eb9a060e54bf8d69288fbee4904";
+
+    @TempDir
+    Path repo;
+
+    @Test
+    void testParseNameStatus() throws Exception {
+        String output = "M\0A.java\0R100\0B.java\0C.java\0A\0D E.java\0";
+
+        List<String[]> entries = LocalGitServiceImpl.parseNameStatus(new StringReader(output));
+
+        assertEquals(3, entries.size());
+        assertArrayEquals(new String[]{"M", "A.java"}, entries.get(0));
+        assertArrayEquals(new String[]{"R100", "B.java", "C.java"}, entries.get(1));
+        assertArrayEquals(new String[]{"A", "D E.java"}, entries.get(2));
+    }
+
+    @Test
+    void testParseDiffWithSpaceInPath() throws Exception {
+        String diff = "diff --git a/D E.java b/D E.java\n"
+                + "new file mode 100644\n"
+                + "--- /dev/null\n"
+                + "+++ b/D E.java\t\n"
+                + "@@ -0,0 +1 @@\n"
+                + "+class D {}\n";
+
+        List<FileChange> changes = UnifiedDiffParser.parse(new StringReader(diff));
+
+        assertEquals(1, changes.size());
+        assertEquals("D E.java", changes.get(0).getFilename());
+        assertEquals("added", changes.get(0).getStatus());
+    }
+
+    @Test
+    void testDiffAgainstMergeBaseAppliesFilterAcrossGroups() throws Exception {
+        String head = createRepository();
+        ReviewConfig config = config("base");
+        LocalGitServiceImpl service = new LocalGitServiceImpl(config, new RemoteStub(head));
+
+        List<FileChange> changes = service.getChangedFiles();
+
+        // 경로 묶음(64개) 두 개에 걸친 .java 파일만 포함하고 README.md는 제외
+        assertEquals(71, changes.size());
+        assertTrue(changes.stream().noneMatch(change -> change.getFilename().endsWith(".md")));
+        FileChange base = changes.stream().filter(change -> change.getFilename().equals("Base.java"))
+                .findFirst().orElseThrow();
+        assertEquals("modified", base.getStatus());
+        assertTrue(base.getPatch().contains("+// changed"));
+        assertSame(config.getPatchStorage(), base.getStorage());
+    }
+
+    @Test
+    void testFallsBackToRemoteWithoutMergeBase() throws Exception {
+        String head = createRepository();
+        String orphan = git("commit-tree", EMPTY_TREE, "-m", "orphan");
+        git("branch", "orphan", orphan);
+        LocalGitServiceImpl service = new LocalGitServiceImpl(config("orphan"), new RemoteStub(head));
+
+        List<FileChange> changes = service.getChangedFiles();
+
+        assertEquals(List.of("remote.java"), changes.stream().map(FileChange::getFilename).toList());
+    }
+
+    @Test
+    void testFallsBackToRemoteWithoutBaseRef() throws Exception {
+        String head = createRepository();
+        LocalGitServiceImpl service = new LocalGitServiceImpl(config("missing"), new RemoteStub(head));
+
+        assertEquals(1, service.getChangedFiles().size());
+    }
+
+    /**
+     * base 브랜치 뒤에 .java 70개 추가, Base.java 수정, README.md 추가 커밋을 만든 저장소
+     *
+     * @return head 커밋 SHA
+     */
+    private String createRepository() throws Exception {
+        git("init", "-q");
+        Files.writeString(repo.resolve("Base.java"), "class Base {}\n");
+        git("add", ".");
+        git("commit", "-q", "-m", "base");
+        git("branch", "base");
+
+        for (int i = 0; i < 70; i++) {
+            Files.writeString(repo.resolve("F" + i + ".java"), "class F" + i + " {}\n");
+        }
+        Files.writeString(repo.resolve("Base.java"), "class Base {}\n// changed\n");
+        Files.writeString(repo.resolve("README.md"), "# docs\n");
+        git("add", ".");
+        git("commit", "-q", "-m", "head");
+        return git("rev-parse", "HEAD");
+    }
+
+    private ReviewConfig config(String baseRef) {
+        return ReviewConfig.builder()
+                .githubToken("token")
+                .anthropicApiKey("test")
+                .localRepoPath(repo.toString())
+                .localBaseRef(baseRef)
+                .build();
+    }
+
+    private String git(String... args) throws Exception {
+        List<String> command = new ArrayList<>(List.of(
+                "git", "-c", "user.name=test", "-c", "user.email=test@example.com", "-c", "commit.gpgsign=false"));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).directory(repo.toFile()).redirectErrorStream(true).start();
+        process.getOutputStream().close();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertEquals(0, process.waitFor(), output);
+        return output;
+    }
+
+    /**
+     * head SHA만 알려 주고, API 조회로 넘어오면 표시용 파일 하나를 돌려주는 호스팅 API
+     */
+    private record RemoteStub(String headSha) implements GitService {
+
+        @Override
+        public List<FileChange> getChangedFiles() {
+            return List.of(new FileChange("remote.java", "@@ -0,0 +1 @@\n+x\n", "added"));
+        }
+
+        @Override
+        public List<FileChange> getChangedFilesSince(String baseSha) {
+            return getChangedFiles();
+        }
+
+        @Override
+        public String getHeadSha() {
+            return headSha;
+        }
+
+        @Override
+        public String findLastReviewedSha() {
+            return null;
+        }
+
+        @Override
+        public List<Integer> listOpenPullRequests(String label, boolean skipDrafts) {
+            return List.of();
+        }
+
+        @Override
+        public void postComment(String comment) {
+        }
+
+        @Override
+        public boolean upsertStickyComment(String comment) {
+            return true;
+        }
+
+        @Override
+        public void postReview(String body, String commitSha, List<ReviewComment> comments) {
+        }
+    }
+}
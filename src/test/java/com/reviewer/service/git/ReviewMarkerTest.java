@@ -0,0 +1,57 @@
+package com.reviewer.service.git;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReviewMarker 테스트
+ */
+class ReviewMarkerTest {
+
+    @Test
+    void testParsesReviewedSha() {
+        String body = "리뷰 내용\n\n" + ReviewMarker.formatReviewedSha("abc1234def");
+
+        assertEquals("abc1234def", ReviewMarker.parseReviewedSha(body));
+        assertNull(ReviewMarker.parseReviewedSha("마커 없는 댓글"));
+    }
+
+    @Test
+    void testStickyHashFollowsContent() {
+        String first = ReviewMarker.withStickyMarker("리뷰 내용");
+        String same = ReviewMarker.withStickyMarker("리뷰 내용");
+        String changed = ReviewMarker.withStickyMarker("수정된 리뷰 내용");
+
+        assertNotNull(ReviewMarker.parseStickyHash(first));
+        assertEquals(ReviewMarker.parseStickyHash(first), ReviewMarker.parseStickyHash(same));
+        assertNotEquals(ReviewMarker.parseStickyHash(first), ReviewMarker.parseStickyHash(changed));
+        assertTrue(first.startsWith("리뷰 내용"));
+    }
+
+    @Test
+    void testStickyHashIgnoresReviewedShaMarker() {
+        String first = ReviewMarker.withStickyMarker("리뷰 내용\n\n" + ReviewMarker.formatReviewedSha("abc1234"));
+        String nextPush = ReviewMarker.withStickyMarker("리뷰 내용\n\n" + ReviewMarker.formatReviewedSha("def5678"));
+
+        assertEquals(ReviewMarker.parseStickyHash(first), ReviewMarker.parseStickyHash(nextPush));
+        assertEquals("def5678", ReviewMarker.parseReviewedSha(nextPush));
+    }
+
+    @Test
+    void testNonStickyCommentHasNoHash() {
+        assertNull(ReviewMarker.parseStickyHash("일반 댓글"));
+        assertNull(ReviewMarker.parseStickyHash(null));
+    }
+
+    @Test
+    void testOnlyBotStickyIsOwn() {
+        String sticky = ReviewMarker.withStickyMarker("리뷰 내용");
+
+        assertTrue(ReviewMarker.isOwnSticky(sticky, "github-actions[bot]", "github-actions[bot]"));
+        assertTrue(ReviewMarker.isOwnSticky(sticky, "Reviewer-Bot", "reviewer-bot"));
+        assertFalse(ReviewMarker.isOwnSticky(sticky, "alice", "github-actions[bot]"));
+        assertFalse(ReviewMarker.isOwnSticky(sticky, null, "github-actions[bot]"));
+        assertFalse(ReviewMarker.isOwnSticky("일반 댓글", "github-actions[bot]", "github-actions[bot]"));
+    }
+}